@@ -0,0 +1,62 @@
+package qbert;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.Sprites;
+import qbert.controller.ai.AutoPlayMode;
+import qbert.controller.ai.AutoPlayer;
+import qbert.controller.ai.MonteCarloPlayer;
+import qbert.model.characters.states.StateTransitions;
+import qbert.model.utilities.Dimensions;
+
+/**
+ * The class used to launch the gameplay simulation without a display, as fast as the CPU allows.
+ * Optional arguments: number of ticks, ticks between random moves, random seed.
+ * The moves can be chosen by an {@link AutoPlayer} instead, see {@link AutoPlayMode#fromSystemProperties(long)}.
+ */
+public final class HeadlessQBert {
+
+    private static final long DEFAULT_TICKS = 1_000_000L;
+    private static final int DEFAULT_COMMAND_INTERVAL = 10;
+    private static final int WINDOW_WIDTH = 1440;
+    private static final int WINDOW_HEIGHT = 810;
+    private static final double MILLIS_PER_SECOND = 1000;
+
+    /**
+     * @param args the argument passed by the console
+     */
+    public static void main(final String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        final long ticks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+        final int commandInterval = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMAND_INTERVAL;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        Dimensions.setWindowWidth(WINDOW_WIDTH);
+        Dimensions.setWindowHeight(WINDOW_HEIGHT);
+        Sprites.usePlaceholders();
+
+        final Optional<AutoPlayer> player = AutoPlayMode.fromSystemProperties(seed);
+        final HeadlessEngine engine = new HeadlessEngine(ticks, commandInterval, seed, player);
+        final HeadlessController controller = new HeadlessController(engine);
+        controller.setupGameEngine();
+
+        Logger.getGlobal().info(String.format("%d ticks in %.3f s (%.0f ticks/s, %.1fx real time), %d rounds, %d matches ended%s",
+                engine.getTicks(), engine.getElapsedNanos() / 1e9, engine.getTicksPerSecond(),
+                engine.getTicksPerSecond() * GameEngine.TICK / MILLIS_PER_SECOND, controller.getRounds(), controller.getGames(),
+                controller.isAborted() ? ", aborted" : ""));
+        //The games simulated by the player count too
+        Logger.getGlobal().info("State transitions: " + StateTransitions.getAll());
+        if (player.isPresent() && player.get() instanceof MonteCarloPlayer) {
+            final MonteCarloPlayer mcts = (MonteCarloPlayer) player.get();
+            Logger.getGlobal().info(String.format("MCTS: %d moves, %d playouts, %d nodes (%.0f nodes/s on %d threads)",
+                    mcts.getDecisions(), mcts.getIterations(), mcts.getNodes(), mcts.getNodesPerSecond(), mcts.getParallelism()));
+        }
+    }
+
+    private HeadlessQBert() {
+    }
+}
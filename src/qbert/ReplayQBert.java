@@ -0,0 +1,59 @@
+package qbert;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import qbert.controller.Sprites;
+import qbert.controller.replay.ReplayPlayer;
+import qbert.controller.replay.ReplayRecorder;
+import qbert.model.LevelSnapshot;
+import qbert.model.scenes.Game;
+
+/**
+ * The class used to bring a recorded match to a given tick without a display, to see what happened there.
+ * Arguments: replay file, tick (the end of the match if missing).
+ * The matches are recorded in the directory of the "qbert.replay.dir" system property, see {@link ReplayRecorder}.
+ */
+public final class ReplayQBert {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * @param args the argument passed by the console
+     */
+    public static void main(final String[] args) {
+        if (args.length == 0) {
+            Logger.getGlobal().severe("Usage: ReplayQBert <replay file> [tick]");
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+        Sprites.usePlaceholders();
+
+        try {
+            final ReplayPlayer player = ReplayPlayer.load(args[0]);
+            final long tick = args.length > 1 ? Long.parseLong(args[1]) : player.getLength();
+            final long start = System.nanoTime();
+            player.seek(tick);
+            final long elapsed = System.nanoTime() - start;
+
+            final Game game = player.getGame();
+            final String gui = game.getGUI().stream().flatMap(g -> g.getData().stream()).collect(Collectors.joining(", "));
+            String state = "not available";
+            if (game.canSnapshot()) {
+                final LevelSnapshot snapshot = new LevelSnapshot();
+                game.snapshot(snapshot);
+                state = Integer.toHexString(Arrays.hashCode(snapshot.toByteArray()));
+            }
+            Logger.getGlobal().info(String.format("Tick %d of %d (%d keyframes) reached in %.1f ms: %s, state hash %s",
+                    player.getTick(), player.getLength(), player.getKeyframeTicks().length, elapsed / NANOS_PER_MILLI, gui, state));
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.SEVERE, e.getMessage(), e);
+        }
+    }
+
+    private ReplayQBert() {
+    }
+}
@@ -2,6 +2,7 @@ package qbert.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 
 import javax.sound.sampled.Clip;
@@ -11,6 +12,7 @@ import qbert.model.LevelSettings;
 import qbert.model.scenes.GUILogic;
 import qbert.model.scenes.RankingBuilder;
 import qbert.model.components.graphics.Renderable;
+import qbert.model.utilities.GameRandom;
 
 /**
  * The application controller, responsible of communication between {@link View} and current
@@ -30,6 +32,12 @@ public interface Controller {
      */
     LevelSettings getLevelSettings(int level, int round);
 
+    /**
+     * @return the source of all the random choices of the session: with the same seed and the same commands
+     * the game goes exactly the same way
+     */
+    GameRandom getRandom();
+
     /**
      * @param command a class encapsulating code to execute
      */
@@ -85,9 +93,9 @@ public interface Controller {
 
     /**
      * @param soundEffect the {@link SoundEffectFile} value representing the .wav file to be loaded
-     * @return the {@link Clip} of the sound effect to be played
+     * @return the {@link Clip} of the sound effect to be played, empty if it couldn't be loaded
      */
-    Clip uploadClip(SoundEffectFile soundEffect);
+    Optional<Clip> uploadClip(SoundEffectFile soundEffect);
 
     /**
      * @param queue the {@link Queue} to be emptied
@@ -17,6 +17,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.TreeMap;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -36,12 +37,19 @@ import qbert.model.scenes.GUILogic;
 import qbert.model.scenes.RankingBuilder;
 import qbert.model.components.graphics.Renderable;
 import qbert.view.View;
+import qbert.model.utilities.GameRandom;
 
 /**
  * The implementation of {@link Controller}.
  */
 public class ControllerImpl implements Controller {
 
+    /**
+     * System property with the seed of the random choices of the game, to play a session again.
+     * Without it the seed changes every time, and it's logged at startup.
+     */
+    public static final String SEED_PROPERTY = "qbert.seed";
+
     private static final String USER_MESSAGE = "Application aborted. Please look at log file for more information.";
 
     private final String urlFile = System.getProperty("user.home") + "/qbert/ranking.txt";
@@ -51,6 +59,7 @@ public class ControllerImpl implements Controller {
     private final BlockingQueue<Integer> gamePoint = new ArrayBlockingQueue<>(1);
 
     private final View view;
+    private final GameRandom random;
     private boolean aborted;
 
     /**
@@ -59,6 +68,9 @@ public class ControllerImpl implements Controller {
      */
     public ControllerImpl(final GameStatus firstGameStatus, final View view) {
         this.aborted = false;
+        final long seed = Long.getLong(SEED_PROPERTY, System.nanoTime());
+        Logger.getGlobal().info("Random seed: " + seed);
+        this.random = new GameRandom(seed);
 
         this.view = view;
         this.view.initialize(this);
@@ -78,7 +90,7 @@ public class ControllerImpl implements Controller {
     public final LevelSettings getLevelSettings(final int level, final int round) {
         LevelConfigurationReader lcr;
         try {
-            lcr = new LevelConfigurationReaderImpl();
+            lcr = new LevelConfigurationReaderImpl(this.random);
             lcr.readLevelConfiguration(level, round);
             return lcr.getLevelSettings();
         } catch (JDOMException e) {
@@ -91,6 +103,11 @@ public class ControllerImpl implements Controller {
         return null;
     }
 
+    @Override
+    public final GameRandom getRandom() {
+        return this.random;
+    }
+
     @Override
     public final void notifyCommand(final Command command) {
         this.gameEngine.notifyCommand(command);
@@ -210,7 +227,7 @@ public class ControllerImpl implements Controller {
     }
 
     @Override
-    public final Clip uploadClip(final SoundEffectFile soundEffect) {
+    public final Optional<Clip> uploadClip(final SoundEffectFile soundEffect) {
         Clip clip = null;
         try {
             clip = AudioSystem.getClip();
@@ -221,7 +238,7 @@ public class ControllerImpl implements Controller {
         } catch (Exception e) {
             Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
         }
-        return clip;
+        return Optional.ofNullable(clip);
     }
 
     @Override
@@ -1,42 +1,133 @@
 package qbert.controller;
 
 import qbert.controller.input.Command;
+import qbert.controller.input.CommandRingBuffer;
+import qbert.controller.input.InputPolicy;
+import qbert.controller.input.TimedCommand;
+import qbert.controller.metrics.FrameMetrics;
+import qbert.controller.metrics.FrameMetricsCsvWriter;
+import qbert.controller.metrics.FramePhase;
+import qbert.controller.metrics.LatencyHistogram;
+import qbert.controller.pacing.FramePacer;
+import qbert.controller.pacing.PacingMode;
+import qbert.controller.replay.ReplayRecorder;
 import qbert.model.scenes.Model;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import qbert.view.RenderSnapshotImpl;
 import qbert.view.View;
 
 /**
  * The implementation of {@link Loop} that could be used as an engine to update an associated
- * {@link Model} and render the {@link View}. It also store inputs from {@link Controller} 
- * (from {@link View}) and pass them to current {@link Model}.
+ * {@link Model} and render the {@link View}. It also store inputs from {@link Controller}
+ * (from {@link View}) in a lock-free queue and pass them to current {@link Model} according to an {@link InputPolicy}.
+ *
+ * By default the {@link Model} is advanced in fixed ticks of {@link #TICK} milliseconds, measured with
+ * an accumulator of elapsed nanoseconds, while the {@link View} draws positions interpolated between the
+ * last two ticks. The old variable timestep, where the elapsed time of every cycle is passed to the
+ * {@link Model}, can still be selected.
+ *
+ * The duration of every phase of a cycle is recorded in {@link FrameMetrics}, which are registered as an MBean.
+ * System properties "qbert.metrics.csv" (file path) and "qbert.metrics.period" (seconds) enable a periodic
+ * CSV dump, "qbert.metrics.overlay" draws them on screen.
+ *
+ * Cycles are paced by a {@link FramePacer}, so the frame rate can differ from the simulation rate.
+ *
+ * In fixed timestep mode the matches can be recorded by a {@link ReplayRecorder}, see {@link ReplayRecorder#fromSystemProperties()}.
  */
 public class GameEngine implements Loop {
 
-    private static final long PERIOD = 20;
+    /**
+     * Duration in milliseconds of a simulation tick in fixed timestep mode.
+     */
+    public static final int TICK = 20;
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long TICK_NANOS = TICK * NANOS_PER_MILLI;
+
+    /**
+     * Maximum number of ticks simulated in a single cycle, the remaining time is dropped
+     * to avoid spiralling when the simulation can't keep up.
+     */
+    private static final int MAX_TICKS_PER_CYCLE = 5;
+
+    private static final int INPUT_CAPACITY = 64;
+    private static final long DEFAULT_CSV_PERIOD = 10;
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+
+    /**
+     * Commands waiting longer than this (in nanoseconds) are discarded instead of being executed.
+     */
+    private static final long MAX_INPUT_AGE = 500 * NANOS_PER_MILLI;
 
     private boolean running;
     private boolean stopped;
 
     private final View gameScene;
+    private final boolean fixedTimestep;
+    private final FramePacer pacer;
     private Model game;
-    private Optional<Command> currentCommand;
+    private final CommandRingBuffer inputs;
+    private final Deque<TimedCommand> pendingCommands;
+    private final InputPolicy inputPolicy;
+    private final FrameMetrics metrics;
+    private final Optional<FrameMetricsCsvWriter> csvWriter;
+    private final boolean overlay;
+    private final Optional<ReplayRecorder> recorder;
 
     /**
      * @param scene the {@link ViewImpl} to render
      */
     public GameEngine(final View scene) {
-        this.currentCommand = Optional.empty();
+        this(scene, true, InputPolicy.fromSystemProperty(), PacingMode.fromSystemProperties());
+    }
+
+    /**
+     * @param scene the {@link ViewImpl} to render
+     * @param fixedTimestep true to advance the {@link Model} in constant ticks, false to pass it the elapsed time of every cycle
+     * @param inputPolicy how commands arriving while the {@link Model} is not ready for them are treated
+     * @param pacer the {@link FramePacer} deciding when a new cycle starts
+     */
+    public GameEngine(final View scene, final boolean fixedTimestep, final InputPolicy inputPolicy, final FramePacer pacer) {
+        this.inputs = new CommandRingBuffer(INPUT_CAPACITY);
+        this.pendingCommands = new ArrayDeque<>();
+        this.inputPolicy = inputPolicy;
         this.gameScene = scene;
+        this.fixedTimestep = fixedTimestep;
+        this.pacer = pacer;
+
+        this.metrics = new FrameMetrics();
+        this.metrics.register();
+        final String csvFile = System.getProperty("qbert.metrics.csv");
+        if (csvFile != null) {
+            this.csvWriter = Optional.of(new FrameMetricsCsvWriter(this.metrics, csvFile));
+            this.csvWriter.get().start(Long.getLong("qbert.metrics.period", DEFAULT_CSV_PERIOD));
+        } else {
+            this.csvWriter = Optional.empty();
+        }
+        this.overlay = Boolean.getBoolean("qbert.metrics.overlay");
+        //The elapsed times of a variable timestep aren't recorded, so those matches couldn't be replayed
+        this.recorder = fixedTimestep ? ReplayRecorder.fromSystemProperties() : Optional.empty();
     }
 
     /**
-     * The method used to initialize the game loop. 
+     * The method used to initialize the game loop.
      */
     @Override
     public final void setup(final Model game) {
         this.game = game;
+        //Commands issued for the previous model are meaningless for the new one
+        this.pendingCommands.clear();
+        this.recorder.ifPresent(r -> r.setup(game));
 
         this.running = true;
         this.stopped = false;
@@ -48,23 +139,57 @@ public class GameEngine implements Loop {
     @Override
     public final void mainLoop() {
         if (this.game != null) {
-            this.render();
-            long lastTime = System.currentTimeMillis(); 
+            this.render(1f);
+            long lastTime = System.nanoTime();
+            long lag = 0;
             while (this.running) {
-                final long current = System.currentTimeMillis();
-                final int elapsed = (int) (current - lastTime);
+                this.metrics.applyPendingReset();
+                final long current = System.nanoTime();
                 this.processInput();
-                this.gameUpdate(elapsed);
-                this.render();
-                this.waitForNextFrame(current);
+                long phaseEnd = this.measure(FramePhase.INPUT, current);
+                if (this.fixedTimestep) {
+                    lag = this.stopped ? 0 : lag + current - lastTime;
+                    int ticks = 0;
+                    while (lag >= TICK_NANOS && ticks < MAX_TICKS_PER_CYCLE) {
+                        this.storeRenderState();
+                        this.gameUpdate(TICK);
+                        phaseEnd = this.measure(FramePhase.UPDATE, phaseEnd);
+                        lag -= TICK_NANOS;
+                        ticks++;
+                    }
+                    if (lag >= TICK_NANOS) {
+                        lag = 0;
+                    }
+                    this.render((float) lag / TICK_NANOS);
+                } else {
+                    this.storeRenderState();
+                    this.gameUpdate((float) (current - lastTime) / NANOS_PER_MILLI);
+                    phaseEnd = this.measure(FramePhase.UPDATE, phaseEnd);
+                    this.render(1f);
+                }
+                phaseEnd = this.measure(FramePhase.RENDER, phaseEnd);
+                this.pacer.waitForNextFrame();
+                this.measure(FramePhase.WAIT, phaseEnd);
+                this.measure(FramePhase.FRAME, current);
                 lastTime = current;
             }
+            this.recorder.ifPresent(ReplayRecorder::stop);
         }
     }
 
     @Override
     public final void stop() {
         this.running = false;
+        if (this.csvWriter.isPresent()) {
+            this.csvWriter.get().stop();
+        }
+    }
+
+    /**
+     * @return the timings of the game loop phases
+     */
+    public final FrameMetrics getMetrics() {
+        return this.metrics;
     }
 
     @Override
@@ -78,26 +203,61 @@ public class GameEngine implements Loop {
     }
 
     /**
-     * @param current the time at the beginning of the current cycle
+     * @return the lines of the timings overlay
+     */
+    private List<String> getOverlay() {
+        final List<String> lines = Arrays.stream(FramePhase.values()).map(this.metrics::getSummary).collect(Collectors.toList());
+        final LatencyHistogram drift = this.pacer.getDrift();
+        lines.add(String.format("DRIFT  p50=%.0f p99=%.0f max=%.0f (period %.0f)", drift.getPercentile(P50) / NANOS_PER_MICRO,
+                drift.getPercentile(P99) / NANOS_PER_MICRO, drift.getMax() / NANOS_PER_MICRO, this.pacer.getPeriod() / NANOS_PER_MICRO));
+        return lines;
+    }
+
+    /**
+     * @param phase the {@link FramePhase} just ended
+     * @param start the time the phase started in nanoseconds
+     * @return the time the phase ended in nanoseconds
+     */
+    private long measure(final FramePhase phase, final long start) {
+        final long end = System.nanoTime();
+        this.metrics.record(phase, end - start);
+        return end;
+    }
+
+    /**
+     * The method used to execute the code of the commands received, in the order they have been issued.
      */
-    private void waitForNextFrame(final long current) {
-        final long dt = System.currentTimeMillis() - current;
-        if (dt < GameEngine.PERIOD) {
-            try {
-                Thread.sleep(GameEngine.PERIOD - dt);
-            } catch (final Exception ex) {
-                Thread.currentThread().interrupt();
+    private void processInput() {
+        Optional<TimedCommand> received = this.inputs.poll();
+        while (received.isPresent()) {
+            if (this.inputPolicy == InputPolicy.COALESCE) {
+                this.pendingCommands.clear();
+            } else if (this.pendingCommands.size() >= INPUT_CAPACITY) {
+                this.pendingCommands.poll();
+            }
+            this.pendingCommands.add(received.get());
+            received = this.inputs.poll();
+        }
+
+        final long now = System.nanoTime();
+        while (!this.pendingCommands.isEmpty()
+                && (this.inputPolicy == InputPolicy.DROP || this.game.isReadyForInput())) {
+            final TimedCommand command = this.pendingCommands.poll();
+            if (now - command.getTimestamp() <= MAX_INPUT_AGE) {
+                //Recorded first, the command could change the scene and start a new recording
+                this.recorder.ifPresent(r -> r.command(command.getCommand()));
+                command.getCommand().execute(this.game);
             }
         }
     }
 
     /**
-     * The method used to  execute a command's code if is there.
+     * Save the positions reached by the renderables at the end of the last tick, so that the {@link View}
+     * can interpolate between them and the ones of the next tick.
      */
-    private void processInput() {
-        if (this.currentCommand.isPresent()) {
-            this.currentCommand.get().execute(this.game);
-            this.currentCommand = Optional.empty();
+    private void storeRenderState() {
+        if (!this.stopped) {
+            this.game.getRenderables().forEach(r -> r.getGraphicComponent().storePreviousPosition());
         }
     }
 
@@ -106,21 +266,25 @@ public class GameEngine implements Loop {
      */
     private void gameUpdate(final float elapsed) {
         if (!this.stopped) {
+            this.recorder.ifPresent(ReplayRecorder::tick);
             game.update(elapsed);
         }
     }
 
     /**
-     * The method used to update graphics (View).
+     * The method used to publish a snapshot of the {@link Model} to the {@link View}, which paints it asynchronously.
+     * @param interpolation how far the rendering is between the last two ticks, from 0 to 1
      */
-    private void render() {
+    private void render(final float interpolation) {
         if (!this.stopped) {
-            this.gameScene.render();
+            final List<String> overlay = this.overlay ? this.getOverlay() : Collections.emptyList();
+            this.gameScene.render(new RenderSnapshotImpl(this.game, interpolation, overlay));
         }
     }
 
     @Override
     public final void notifyCommand(final Command command) {
-        this.currentCommand = Optional.of(command);
+        //If the game loop is so late to fill the buffer the command is discarded
+        this.inputs.offer(new TimedCommand(command, System.nanoTime()));
     }
 }
@@ -0,0 +1,164 @@
+package qbert.controller;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.Clip;
+
+import org.jdom2.JDOMException;
+
+import qbert.controller.input.Command;
+import qbert.model.LevelSettings;
+import qbert.model.components.graphics.Renderable;
+import qbert.model.scenes.GUILogic;
+import qbert.model.scenes.RankingBuilder;
+import qbert.model.utilities.GameRandom;
+
+/**
+ * An implementation of {@link Controller} without {@link View}, sounds and ranking file, used to run
+ * the gameplay in a {@link HeadlessEngine}. When a match is over a new one is immediately started,
+ * so the simulation can go on until the engine stops.
+ */
+public class HeadlessController implements Controller {
+
+    private final HeadlessEngine engine;
+    private final GameStatusManager statusManager;
+    private final GameRandom random;
+
+    private Integer score;
+    private boolean aborted;
+    private long rounds;
+    private long games;
+
+    /**
+     * @param engine the {@link HeadlessEngine} used to update the gameplay
+     */
+    public HeadlessController(final HeadlessEngine engine) {
+        this.engine = engine;
+        this.random = new GameRandom(engine.getSeed());
+        this.statusManager = new GameStatusManagerImpl(GameStatus.GAMEPLAY, this);
+    }
+
+    @Override
+    public final void setupGameEngine() {
+        if (!this.aborted) {
+            this.changeScene(GameStatus.GAMEPLAY);
+            this.engine.mainLoop();
+        }
+    }
+
+    @Override
+    public final LevelSettings getLevelSettings(final int level, final int round) {
+        try {
+            final LevelConfigurationReader lcr = new LevelConfigurationReaderImpl(this.random);
+            lcr.readLevelConfiguration(level, round);
+            this.rounds++;
+            return lcr.getLevelSettings();
+        } catch (JDOMException | IOException e) {
+            Logger.getGlobal().log(Level.SEVERE, e.getMessage(), e);
+            this.forceQuit(e.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    public final GameRandom getRandom() {
+        return this.random;
+    }
+
+    @Override
+    public final void notifyCommand(final Command command) {
+        this.engine.notifyCommand(command);
+    }
+
+    @Override
+    public final void changeScene(final GameStatus newGameStatus) {
+        if (!this.aborted) {
+            if (newGameStatus == GameStatus.GAMEOVER) {
+                this.games++;
+            }
+            //Only the gameplay is simulated, any other scene starts a new match
+            this.statusManager.setCurrentStatus(GameStatus.GAMEPLAY);
+            this.engine.setup(this.statusManager.getModel());
+        }
+    }
+
+    @Override
+    public final List<GUILogic> getGUI() {
+        return this.statusManager.getModel().getGUI();
+    }
+
+    @Override
+    public final List<Renderable> getRenderables() {
+        return this.statusManager.getModel().getRenderables();
+    }
+
+    @Override
+    public final void setScore(final Integer value) {
+        this.score = value;
+    }
+
+    @Override
+    public final Integer getScore() {
+        return this.score;
+    }
+
+    @Override
+    public final Map<String, Integer> getRank() {
+        return new LinkedHashMap<>();
+    }
+
+    @Override
+    public final void addRank(final RankingBuilder rankingBuilder) {
+
+    }
+
+    @Override
+    public final void terminate() {
+        this.engine.stop();
+    }
+
+    @Override
+    public final void forceQuit(final String errorMessage) {
+        Logger.getGlobal().log(Level.SEVERE, errorMessage);
+        this.terminate();
+        this.aborted = true;
+    }
+
+    @Override
+    public final Optional<Clip> uploadClip(final SoundEffectFile soundEffect) {
+        return Optional.empty();
+    }
+
+    @Override
+    public final void emptyClipQueue(final Queue<Clip> queue) {
+        queue.clear();
+    }
+
+    /**
+     * @return the number of rounds started so far
+     */
+    public final long getRounds() {
+        return this.rounds;
+    }
+
+    /**
+     * @return the number of matches ended so far
+     */
+    public final long getGames() {
+        return this.games;
+    }
+
+    /**
+     * @return true if the simulation has been aborted because of an error
+     */
+    public final boolean isAborted() {
+        return this.aborted;
+    }
+}
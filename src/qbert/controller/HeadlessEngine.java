@@ -0,0 +1,174 @@
+package qbert.controller;
+
+import java.util.Optional;
+import java.util.Random;
+
+import qbert.controller.ai.AutoPlayer;
+import qbert.controller.input.Command;
+import qbert.controller.input.MoveDown;
+import qbert.controller.input.MoveLeft;
+import qbert.controller.input.MoveRight;
+import qbert.controller.input.MoveUp;
+import qbert.controller.replay.ReplayRecorder;
+import qbert.model.scenes.Model;
+
+/**
+ * An implementation of {@link Loop} without any {@link View}: the {@link Model} is advanced in fixed ticks
+ * of {@link GameEngine#TICK} milliseconds as fast as the CPU allows, without sleeping between them.
+ * If no command is notified, a random move is issued every few ticks so that the game can progress on its own,
+ * or the move chosen by an {@link AutoPlayer} whenever the {@link Model} is ready for it.
+ * The matches can be recorded by a {@link ReplayRecorder}.
+ */
+public class HeadlessEngine implements Loop {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long maxTicks;
+    private final long seed;
+    private final int commandInterval;
+    private final Random random;
+    private final Optional<AutoPlayer> player;
+    private final Optional<ReplayRecorder> recorder;
+    private final Command[] moves = {new MoveUp(), new MoveDown(), new MoveLeft(), new MoveRight()};
+
+    private boolean running;
+    private boolean stopped;
+    private Model game;
+    private Optional<Command> currentCommand;
+
+    private long ticks;
+    private long elapsedNanos;
+
+    /**
+     * @param maxTicks the number of ticks after which the loop ends
+     * @param commandInterval the number of ticks between two random moves, 0 to disable them
+     * @param seed the seed used to generate random moves
+     */
+    public HeadlessEngine(final long maxTicks, final int commandInterval, final long seed) {
+        this(maxTicks, commandInterval, seed, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * @param maxTicks the number of ticks after which the loop ends
+     * @param commandInterval the number of ticks between two random moves, 0 to disable them, ignored if there's a player
+     * @param seed the seed used to generate random moves
+     * @param player the {@link AutoPlayer} choosing the moves instead of the random generator
+     */
+    public HeadlessEngine(final long maxTicks, final int commandInterval, final long seed, final Optional<AutoPlayer> player) {
+        this(maxTicks, commandInterval, seed, player, ReplayRecorder.fromSystemProperties());
+    }
+
+    /**
+     * @param maxTicks the number of ticks after which the loop ends
+     * @param commandInterval the number of ticks between two random moves, 0 to disable them, ignored if there's a player
+     * @param seed the seed used to generate random moves
+     * @param player the {@link AutoPlayer} choosing the moves instead of the random generator
+     * @param recorder the {@link ReplayRecorder} of the matches
+     */
+    public HeadlessEngine(final long maxTicks, final int commandInterval, final long seed, final Optional<AutoPlayer> player,
+            final Optional<ReplayRecorder> recorder) {
+        this.maxTicks = maxTicks;
+        this.seed = seed;
+        this.commandInterval = commandInterval;
+        this.random = new Random(seed);
+        this.player = player;
+        this.recorder = recorder;
+        this.currentCommand = Optional.empty();
+    }
+
+    /**
+     * @return the seed of the random moves, also used for the random choices of the game
+     */
+    public final long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public final void setup(final Model model) {
+        this.game = model;
+        this.recorder.ifPresent(r -> r.setup(model));
+
+        this.running = true;
+        this.stopped = false;
+    }
+
+    @Override
+    public final void mainLoop() {
+        if (this.game != null) {
+            final long start = System.nanoTime();
+            while (this.running && this.ticks < this.maxTicks) {
+                if (!this.stopped) {
+                    this.processInput();
+                    this.recorder.ifPresent(ReplayRecorder::tick);
+                    this.game.update(GameEngine.TICK);
+                    this.ticks++;
+                }
+            }
+            this.elapsedNanos = System.nanoTime() - start;
+            this.recorder.ifPresent(ReplayRecorder::stop);
+        }
+    }
+
+    @Override
+    public final void stop() {
+        this.running = false;
+    }
+
+    @Override
+    public final void pause() {
+        this.stopped = true;
+    }
+
+    @Override
+    public final void resume() {
+        this.stopped = false;
+    }
+
+    @Override
+    public final void notifyCommand(final Command command) {
+        this.currentCommand = Optional.of(command);
+    }
+
+    /**
+     * @return the number of ticks simulated so far
+     */
+    public final long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @return the time spent in the last {@link #mainLoop()} in nanoseconds
+     */
+    public final long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * @return the number of ticks simulated per second of real time during the last {@link #mainLoop()}
+     */
+    public final double getTicksPerSecond() {
+        return this.elapsedNanos > 0 ? (double) this.ticks * NANOS_PER_SECOND / this.elapsedNanos : 0;
+    }
+
+    /**
+     * Execute the notified command if there is one, otherwise the move of the {@link AutoPlayer} or a random one
+     * when it's time to.
+     */
+    private void processInput() {
+        if (!this.currentCommand.isPresent()) {
+            if (this.player.isPresent()) {
+                if (this.game.isReadyForInput()) {
+                    this.currentCommand = this.player.get().nextCommand(this.game);
+                }
+            } else if (this.commandInterval > 0 && this.ticks % this.commandInterval == 0) {
+                this.currentCommand = Optional.of(this.moves[this.random.nextInt(this.moves.length)]);
+            }
+        }
+        if (this.currentCommand.isPresent()) {
+            final Command command = this.currentCommand.get();
+            this.currentCommand = Optional.empty();
+            this.recorder.ifPresent(r -> r.command(command));
+            command.execute(this.game);
+        }
+    }
+}
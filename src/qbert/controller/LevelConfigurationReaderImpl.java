@@ -3,11 +3,10 @@ package qbert.controller;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import org.jdom2.Document;
 import org.jdom2.Element;
@@ -19,12 +18,19 @@ import qbert.model.LevelSettingsImpl;
 import qbert.model.characters.CharactersList;
 import qbert.model.spawner.EnemyInfoImpl;
 import qbert.model.sprites.ColorComposition;
+import qbert.model.utilities.GameRandom;
 
 /**
  * The implementation of {@link LevelConfigurationReader}.
  */
 public final class LevelConfigurationReaderImpl implements LevelConfigurationReader {
 
+    /**
+     * System property multiplying the quantity of each enemy but Coily, and dividing the time between their
+     * spawns, to stress the game with many more enemies than the normal levels.
+     */
+    public static final String ENEMIES_SCALE_PROPERTY = "qbert.enemies.scale";
+
     private final Map<CharactersList, EnemyInfoImpl> mapInfo;
     private int colorsNumber;
     private boolean reversible;
@@ -34,12 +40,16 @@ public final class LevelConfigurationReaderImpl implements LevelConfigurationRea
     private ColorComposition colorComposition;
 
     private final Sprites sprites;
+    private final GameRandom random;
 
     /**
+     * @param random the source of the random choices of the session
      * @throws IOException when some input/output error occur
      */
-    public LevelConfigurationReaderImpl() throws IOException {
-        this.mapInfo = new HashMap<>();
+    public LevelConfigurationReaderImpl(final GameRandom random) throws IOException {
+        //Ordered by type, so that the enemies spawn in the same order in every run
+        this.mapInfo = new EnumMap<>(CharactersList.class);
+        this.random = random;
 
         this.sprites = Sprites.getInstance();
         this.setColorComposition();
@@ -59,6 +69,7 @@ public final class LevelConfigurationReaderImpl implements LevelConfigurationRea
         this.qbertSpeed = Float.parseFloat(round.getAttributeValue("qbertSpeed"));
         this.roundScore = Integer.parseInt(round.getAttributeValue("roundScore"));
 
+        final int scale = Math.max(1, Integer.getInteger(ENEMIES_SCALE_PROPERTY, 1));
         final List<Element> children = round.getChildren();
         final Iterator<Element> it = children.iterator();
 
@@ -66,19 +77,21 @@ public final class LevelConfigurationReaderImpl implements LevelConfigurationRea
             final Element character = (Element) it.next();
             final String name = character.getName();
             final float speed = Float.parseFloat(character.getAttributeValue("speed"));
-            final int quantity = Integer.parseInt(character.getAttributeValue("quantity"));
-            final int spawningTime = Integer.parseInt(character.getAttributeValue("spawningTime"));
+            final CharactersList type = CharactersList.getEnumConstantByValue(name);
+            //There can be only one Coily at a time
+            final int factor = type == CharactersList.COILY ? 1 : scale;
+            final int quantity = Integer.parseInt(character.getAttributeValue("quantity")) * factor;
+            final int spawningTime = Integer.parseInt(character.getAttributeValue("spawningTime")) / factor;
             final int standingTime = Integer.parseInt(character.getAttributeValue("standingTime"));
 
-            this.mapInfo.put(CharactersList.getEnumConstantByValue(name),
-                    new EnemyInfoImpl(speed, quantity, spawningTime, standingTime));
+            this.mapInfo.put(type, new EnemyInfoImpl(speed, quantity, spawningTime, standingTime, this.random));
         }
     }
 
     @Override
     public LevelSettings getLevelSettings() {
         final Map<CharactersList, EnemyInfoImpl> mapInfo = this.getMapInfo();
-        final Map<Integer, BufferedImage> colorMap = this.colorComposition.getColorComposition(colorsNumber);
+        final Map<Integer, BufferedImage> colorMap = this.colorComposition.getColorComposition(colorsNumber, this.random);
         final BufferedImage background = this.colorComposition.getBackgroundImage();
 
         return new LevelSettingsImpl(this.colorsNumber, this.reversible, background, colorMap, this.disksNumber,
@@ -86,7 +99,7 @@ public final class LevelConfigurationReaderImpl implements LevelConfigurationRea
     }
 
     private void setColorComposition() {
-        final int rand = new Random().nextInt(4) + 1;
+        final int rand = this.random.nextInt(4) + 1;
 
         switch (rand) {
         case 1:
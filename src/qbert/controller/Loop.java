@@ -34,7 +34,7 @@ public interface Loop {
     void resume();
 
     /**
-     * @param command a command to execute on the logic
+     * @param command a command to execute on the logic, issued by a single thread (e.g. the EDT)
      */
     void notifyCommand(Command command);
 }
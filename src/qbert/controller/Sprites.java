@@ -4,14 +4,21 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.imageio.ImageIO;
 
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+
 import qbert.model.sprites.ColorComposition;
 import qbert.model.sprites.ColorCompositionImpl;
+import qbert.model.sprites.Flip;
 import qbert.model.sprites.SpecialCharacterSprites;
 import qbert.model.sprites.SpecialCharacterSpritesImpl;
 import qbert.model.sprites.OneSideCharacterSprites;
@@ -30,6 +37,9 @@ public final class Sprites {
             + System.getProperty("file.separator")
             + "sprites"
             + System.getProperty("file.separator");
+    private static final String SVG_PATH = "/svg/";
+    private static final float REFERENCE_WIDTH = 1440f;
+    private static final float REFERENCE_HEIGHT = 810f;
 
     private BufferedImage blueBackground;
     private BufferedImage brownBackground;
@@ -69,9 +79,23 @@ public final class Sprites {
     private BufferedImage wrongwayMoving;
     private BufferedImage uggStanding;
     private BufferedImage uggMoving;
+    private OneSideCharacterSprites qbertFrontSprites;
+    private OneSideCharacterSprites qbertBackSprites;
+    private SpecialCharacterSprites qbertSpecialSprites;
+    private OneSideCharacterSprites coilyFrontSprites;
+    private OneSideCharacterSprites coilyBackSprites;
+    private OneSideCharacterSprites redBallSprites;
+    private OneSideCharacterSprites greenBallSprites;
+    private OneSideCharacterSprites purpleBallSprites;
+    private OneSideCharacterSprites slickSprites;
+    private OneSideCharacterSprites samSprites;
+    private OneSideCharacterSprites wrongwaySprites;
+    private OneSideCharacterSprites uggSprites;
+    private final List<BufferedImage> images = new ArrayList<>();
 
     private static volatile Sprites instance;
     private static Object mutex = new Object();
+    private static volatile boolean placeholders;
 
     private Sprites() throws IOException {
         this.loadSprites();
@@ -96,88 +120,104 @@ public final class Sprites {
         return result;
     }
 
+    /**
+     * Make {@link Sprites} create blank images, sized as the ones converted from the svg files, instead of
+     * reading them from disk. It's meant for runs without a display and must be called before {@link #getInstance()}.
+     */
+    public static void usePlaceholders() {
+        Sprites.placeholders = true;
+    }
+
     /**
      * @return a {@link FrontBackCharacterSprites} containing {@link Qbert}'s front sprites
      */
     public OneSideCharacterSprites getQbertFrontSprites() {
-        return new OneSideCharacterSpritesImpl(qbertFrontStanding, qbertFrontMoving);
+        return qbertFrontSprites;
     }
 
     /**
      * @return a {@link SpecialCharacterSprites} containing {@link Qbert}'s back sprites
      */
     public OneSideCharacterSprites getQbertBackSprites() {
-        return new OneSideCharacterSpritesImpl(qbertBackStanding, qbertBackMoving);
+        return qbertBackSprites;
     }
 
     /**
      * @return a {@link SpecialCharacterSprites} containing {@link Qbert}'s special sprites
      */
     public SpecialCharacterSprites getQbertSpecialSprites() {
-        return new SpecialCharacterSpritesImpl(qbertDead, qbertOnDisk);
+        return qbertSpecialSprites;
     }
 
     /**
      * @return a {@link SpecialCharacterSprites} containing {@link Coily}'s front sprites
      */
     public OneSideCharacterSprites getCoilyFrontSprites() {
-        return new OneSideCharacterSpritesImpl(coilyFrontStanding, coilyFrontMoving);
+        return coilyFrontSprites;
     }
 
     /**
      * @return a {@link SpecialCharacterSprites} containing {@link Coily}'s back sprites
      */
     public OneSideCharacterSprites getCoilyBackSprites() {
-        return new OneSideCharacterSpritesImpl(coilyBackStanding, coilyBackMoving);
+        return coilyBackSprites;
     }
 
     /**
      * @return {@link RedBall} sprites
      */
     public OneSideCharacterSprites getRedBallSprites() {
-        return new OneSideCharacterSpritesImpl(redBallStanding, redBallMoving);
+        return redBallSprites;
     }
 
     /**
      * @return {@link GreenBall} sprites
      */
     public OneSideCharacterSprites getGreenBallSprites() {
-        return new OneSideCharacterSpritesImpl(greenBallStanding, greenBallMoving);
+        return greenBallSprites;
     }
 
     /**
      * @return {@link Coily} sprites when it's a ball
      */
     public OneSideCharacterSprites getPurpleBallSprites() {
-        return new OneSideCharacterSpritesImpl(purpleBallStanding, purpleBallMoving);
+        return purpleBallSprites;
     }
 
     /**
      * @return Slick ({@link SamAndSlick}) sprites
      */
     public OneSideCharacterSprites getSlickSprites() {
-        return new OneSideCharacterSpritesImpl(slickStanding, slickMoving);
+        return slickSprites;
     }
 
     /**
      * @return Sam ({@link SamAndSlick}) sprites
      */
     public OneSideCharacterSprites getSamSprites() {
-        return new OneSideCharacterSpritesImpl(samStanding, samMoving);
+        return samSprites;
     }
 
     /**
      * @return {@link Wrongway} sprites
      */
     public OneSideCharacterSprites getWrongwaySprites() {
-        return new OneSideCharacterSpritesImpl(wrongwayStanding, wrongwayMoving);
+        return wrongwaySprites;
     }
 
     /**
      * @return {@link Ugg} sprites
      */
     public OneSideCharacterSprites getUggSprites() {
-        return new OneSideCharacterSpritesImpl(uggStanding, uggMoving);
+        return uggSprites;
+    }
+
+    /**
+     * @return every image the scenes can draw, including the flipped sprites, the tiles and the disks,
+     * some of them more than once
+     */
+    public List<BufferedImage> getImages() {
+        return Collections.unmodifiableList(this.images);
     }
 
     /**
@@ -285,9 +325,35 @@ public final class Sprites {
         uggStanding = loadImg(SPRITES_PATH + "UggStand.png");
         uggMoving = loadImg(SPRITES_PATH + "UggMove.png");
 
+        //The wrappers are immutable, so they are built once and shared
+        qbertFrontSprites = new OneSideCharacterSpritesImpl(qbertFrontStanding, qbertFrontMoving);
+        qbertBackSprites = new OneSideCharacterSpritesImpl(qbertBackStanding, qbertBackMoving);
+        qbertSpecialSprites = new SpecialCharacterSpritesImpl(qbertDead, qbertOnDisk);
+        coilyFrontSprites = new OneSideCharacterSpritesImpl(coilyFrontStanding, coilyFrontMoving);
+        coilyBackSprites = new OneSideCharacterSpritesImpl(coilyBackStanding, coilyBackMoving);
+        redBallSprites = new OneSideCharacterSpritesImpl(redBallStanding, redBallMoving);
+        greenBallSprites = new OneSideCharacterSpritesImpl(greenBallStanding, greenBallMoving);
+        purpleBallSprites = new OneSideCharacterSpritesImpl(purpleBallStanding, purpleBallMoving);
+        slickSprites = new OneSideCharacterSpritesImpl(slickStanding, slickMoving);
+        samSprites = new OneSideCharacterSpritesImpl(samStanding, samMoving);
+        wrongwaySprites = new OneSideCharacterSpritesImpl(wrongwayStanding, wrongwayMoving);
+        uggSprites = new OneSideCharacterSpritesImpl(uggStanding, uggMoving);
+
+        //The tiles and the disks are already among the loaded images, the flipped sprites are added
+        Stream.of(qbertFrontSprites, qbertBackSprites, coilyFrontSprites, coilyBackSprites, redBallSprites, greenBallSprites,
+                purpleBallSprites, slickSprites, samSprites, wrongwaySprites, uggSprites).forEach(s -> {
+                    for (final Flip flip : Flip.values()) {
+                        this.images.add(s.getStandSprite(flip));
+                        this.images.add(s.getMoveSprite(flip));
+                    }
+                });
+        for (final Flip flip : Flip.values()) {
+            this.images.add(qbertSpecialSprites.getDeathSprite(flip));
+        }
+
         Dimensions.setBackgroundHeight(blueBackground.getHeight());
         Dimensions.setBackgroundWidth(blueBackground.getWidth());
-        Dimensions.setBackgroundPos(new Position2D(Math.round(new Float(Dimensions.getWindowWidth() - Dimensions.getBackgroundWidth()) / 2f), 
+        Dimensions.setBackgroundPos(Position2D.of(Math.round(new Float(Dimensions.getWindowWidth() - Dimensions.getBackgroundWidth()) / 2f), 
                 Math.round(new Float(Dimensions.getWindowHeight() - Dimensions.getBackgroundHeight()) / 2f)));
         Dimensions.setCubeHeight(Math.round(new Float(Dimensions.getBackgroundHeight()) / Dimensions.MAP_TILES_ROWS));
         Dimensions.setCubeWidth(Math.round(new Float(Dimensions.getBackgroundWidth()) / Dimensions.MAP_TILES_COLUMNS));
@@ -300,6 +366,26 @@ public final class Sprites {
      * @throws IOException if an error reading the file occurs
      */
     private BufferedImage loadImg(final String name) throws IOException {
-        return ImageIO.read(new File(name));
+        final BufferedImage image = Sprites.placeholders ? this.createPlaceholder(name) : ImageIO.read(new File(name));
+        this.images.add(image);
+        return image;
+    }
+
+    /**
+     * @param name the image's name
+     * @return a transparent {@link BufferedImage} with the size the image would have after the svg conversion
+     * @throws IOException if an error reading the svg file occurs
+     */
+    private BufferedImage createPlaceholder(final String name) throws IOException {
+        final String svgName = name.substring(SPRITES_PATH.length()).replace(".png", ".svg");
+        try {
+            final Element root = new SAXBuilder().build(Sprites.class.getResource(SVG_PATH + svgName).toString()).getRootElement();
+            final float factor = Math.min(Dimensions.getWindowWidth() / REFERENCE_WIDTH, Dimensions.getWindowHeight() / REFERENCE_HEIGHT);
+            final int width = Math.max(1, Math.round(Float.valueOf(root.getAttributeValue("width")) * factor));
+            final int height = Math.max(1, Math.round(Float.valueOf(root.getAttributeValue("height")) * factor));
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        } catch (JDOMException e) {
+            throw new IOException(e);
+        }
     }
 }
@@ -0,0 +1,53 @@
+package qbert.controller.ai;
+
+import java.util.Optional;
+
+/**
+ * The available {@link AutoPlayer}s.
+ */
+public enum AutoPlayMode {
+
+    /**
+     * No {@link AutoPlayer}: the moves are chosen at random by the engine.
+     */
+    RANDOM,
+
+    /**
+     * {@link MonteCarloPlayer}.
+     */
+    MCTS;
+
+    /**
+     * The time given to the {@link MonteCarloPlayer} for each move when none is specified, in milliseconds.
+     */
+    public static final long DEFAULT_BUDGET = 20;
+
+    /**
+     * @param seed the seed of the session, which the random choices of the player are derived from
+     * @return a new {@link AutoPlayer} of this mode, empty for {@link #RANDOM}
+     */
+    public Optional<AutoPlayer> create(final long seed) {
+        if (this == MCTS) {
+            final long budget = Long.getLong("qbert.bot.budget", DEFAULT_BUDGET);
+            final int threads = Integer.getInteger("qbert.bot.threads", Runtime.getRuntime().availableProcessors());
+            return Optional.of(new MonteCarloPlayer(budget > 0 ? budget : DEFAULT_BUDGET, Math.max(threads, 1), seed));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Create the {@link AutoPlayer} described by the "qbert.bot" (mode name), "qbert.bot.budget" (milliseconds per move)
+     * and "qbert.bot.threads" (search threads, all the cores by default) system properties.
+     * @param seed the seed of the session, which the random choices of the player are derived from
+     * @return a new {@link AutoPlayer}, empty if the mode is {@link #RANDOM} or not valid
+     */
+    public static Optional<AutoPlayer> fromSystemProperties(final long seed) {
+        final String name = System.getProperty("qbert.bot", RANDOM.name());
+        for (final AutoPlayMode mode : AutoPlayMode.values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode.create(seed);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package qbert.controller.ai;
+
+import java.util.Optional;
+
+import qbert.controller.input.Command;
+import qbert.model.scenes.Model;
+
+/**
+ * A player choosing the next {@link Command} for the {@link Model} by itself, used to test the game without a human.
+ */
+public interface AutoPlayer {
+
+    /**
+     * @param model the {@link Model} being played, ready for input
+     * @return the {@link Command} to execute, empty if there's nothing to do right now
+     */
+    Optional<Command> nextCommand(Model model);
+}
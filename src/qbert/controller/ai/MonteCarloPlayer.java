@@ -0,0 +1,331 @@
+package qbert.controller.ai;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.input.Command;
+import qbert.controller.input.MoveDown;
+import qbert.controller.input.MoveLeft;
+import qbert.controller.input.MoveRight;
+import qbert.controller.input.MoveUp;
+import qbert.model.Level;
+import qbert.model.LevelImpl;
+import qbert.model.LevelSnapshot;
+import qbert.model.RoundSnapshot;
+import qbert.model.characters.Player;
+import qbert.model.scenes.Model;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.GameRandom;
+
+/**
+ * An {@link AutoPlayer} choosing each jump of Qbert with a Monte Carlo tree search over the real rules of the game.
+ * Every thread of a {@link ForkJoinPool} keeps its own scratch {@link Level} of the round being played: each iteration
+ * restores the {@link RoundSnapshot} of the current state in it and plays a sequence of jumps tick by tick.
+ * The snapshot holds the state of the random source too, so a sequence of jumps always plays out the same way:
+ * a node is worth the best of the games which went through it rather than their mean. When the time budget
+ * of the move runs out the first jump with the best value among all the trees is played.
+ */
+public final class MonteCarloPlayer implements AutoPlayer {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    //The values of the jumps differ by little, a low exploration lets the best one stand out
+    private static final double EXPLORATION = 0.25;
+    //Each jump is a few dozen ticks of the whole level, the trees can't look much further
+    private static final int HORIZON = 4;
+    //Enough for each jump to be tried a few times even if the budget runs out before the JIT warms up
+    private static final int MIN_ITERATIONS = 16;
+    //A jump, a ride on a disk or the time Qbert is frozen on his spawning point take far less than this
+    private static final int MAX_JUMP_TICKS = 500;
+    private static final double BASE_VALUE = 0.1;
+    private static final double PROGRESS_VALUE = 0.8;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final long budget;
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+    private final Map<Direction, Command> commands;
+    private final Scratch[] scratches;
+
+    private long decisions;
+    private long iterations;
+    private long nodes;
+    private long searchNanos;
+
+    /**
+     * @param budget the time given to the search of each move, in milliseconds, 0 to only run a minimum number
+     * of iterations, so that the moves depend on the seed only
+     * @param threads the number of trees searched in parallel
+     * @param seed the seed of the session, the order in which the jumps are tried is drawn from a generator derived from it
+     */
+    public MonteCarloPlayer(final long budget, final int threads, final long seed) {
+        this.budget = budget * NANOS_PER_MILLI;
+        this.pool = new ForkJoinPool(threads);
+        this.random = new SplittableRandom(new GameRandom(seed).nextLong());
+        this.scratches = new Scratch[threads];
+        this.commands = new EnumMap<>(Direction.class);
+        this.commands.put(Direction.UP_RIGHT, new MoveUp());
+        this.commands.put(Direction.UP_LEFT, new MoveLeft());
+        this.commands.put(Direction.DOWN_LEFT, new MoveDown());
+        this.commands.put(Direction.DOWN_RIGHT, new MoveRight());
+    }
+
+    @Override
+    public Optional<Command> nextCommand(final Model model) {
+        final Optional<RoundSnapshot> root = model.getRoundSnapshot();
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(this.commands.get(this.search(root.get())));
+    }
+
+    /**
+     * @param root the state of the round to search from, with Qbert standing
+     * @return the best jump found within the time budget
+     */
+    public Direction search(final RoundSnapshot root) {
+        final long start = System.nanoTime();
+        final long deadline = start + this.budget;
+        final List<Search> searches = new ArrayList<>();
+        for (int i = 0; i < this.scratches.length; i++) {
+            if (this.scratches[i] == null) {
+                this.scratches[i] = new Scratch();
+            }
+            searches.add(new Search(this.scratches[i], root, this.random.split(), deadline));
+        }
+        searches.forEach(this.pool::execute);
+
+        final long[] visits = new long[DIRECTIONS.length];
+        final double[] values = new double[DIRECTIONS.length];
+        for (final Search s : searches) {
+            s.join();
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final Node child = s.tree.children[i];
+                if (child != null) {
+                    visits[i] += child.visits;
+                    values[i] = Math.max(values[i], child.value);
+                }
+            }
+            this.iterations += s.iterations;
+            this.nodes += s.nodes;
+        }
+        this.searchNanos += System.nanoTime() - start;
+        this.decisions++;
+
+        int best = 0;
+        for (int i = 1; i < DIRECTIONS.length; i++) {
+            if (values[i] > values[best] || values[i] == values[best] && visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return DIRECTIONS[best];
+    }
+
+    /**
+     * @return the number of moves chosen so far
+     */
+    public long getDecisions() {
+        return this.decisions;
+    }
+
+    /**
+     * @return the number of simulated games, from the root of a tree to a new node
+     */
+    public long getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * @return the number of simulated jumps
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @return the number of simulated jumps per second of search, summed over all the threads
+     */
+    public double getNodesPerSecond() {
+        return this.searchNanos > 0 ? this.nodes * NANOS_PER_SECOND / this.searchNanos : 0;
+    }
+
+    /**
+     * @return the number of trees searched in parallel
+     */
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * A node of a search tree, with the number of games which went through it and the best value they reached.
+     */
+    private static final class Node {
+        private final Node[] children = new Node[DIRECTIONS.length];
+        private int visits;
+        private double value;
+
+        /**
+         * @return the index of the jump to try next: one never tried if there is any, otherwise the best by UCB1
+         */
+        private int select(final SplittableRandom random) {
+            final int offset = random.nextInt(DIRECTIONS.length);
+            final double logVisits = Math.log(this.visits);
+            int best = offset;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < DIRECTIONS.length; k++) {
+                final int i = (k + offset) % DIRECTIONS.length;
+                final Node child = this.children[i];
+                if (child == null) {
+                    return i;
+                }
+                final double score = child.value + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * A {@link Level} owned by a single search thread, with its own source of random choices, built again only
+     * when the round searched changes.
+     */
+    private static final class Scratch {
+
+        private final HeadlessController controller;
+        private Level level;
+        private int levelNumber;
+        private int roundNumber;
+        private long seed;
+        private LevelSnapshot snapshot;
+
+        Scratch() {
+            this.controller = new HeadlessController(new HeadlessEngine(0, 0, 0));
+        }
+
+        /**
+         * Get ready to play from the given state, building its round as the game did if it isn't the one kept.
+         */
+        private void setRoot(final RoundSnapshot root) {
+            if (this.level == null || root.getLevel() != this.levelNumber || root.getRound() != this.roundNumber
+                    || root.getSeed() != this.seed) {
+                this.levelNumber = root.getLevel();
+                this.roundNumber = root.getRound();
+                this.seed = root.getSeed();
+                //Lives and score are replaced by the snapshot
+                this.controller.getRandom().setState(this.seed);
+                this.level = new LevelImpl(this.controller.getLevelSettings(this.levelNumber, this.roundNumber), 0, 0,
+                        this.controller);
+            }
+            this.snapshot = root.getSnapshot();
+        }
+
+        private void restore() {
+            this.level.restore(this.snapshot);
+        }
+
+        /**
+         * Make Qbert jump and update the level until he can jump again.
+         * @return false if the game can't go on: Qbert died, the round is won or he never stood again
+         */
+        private boolean play(final Direction jump) {
+            final Player qbert = this.level.getQBert();
+            this.level.jump(jump);
+            for (int i = 0; i < MAX_JUMP_TICKS; i++) {
+                this.level.update(GameEngine.TICK);
+                //Everything freezes when Qbert dies or the round is won
+                if (!this.level.canSnapshot()) {
+                    return false;
+                }
+                if (!qbert.isMoving() && !qbert.isDead()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return a value between 0 and 1 of how good the state is for Qbert: 0 if he died, 1 if the round is won,
+         * otherwise growing with the {@link Level#getProgress()}
+         */
+        private double getValue() {
+            if (this.level.getQBert().isDead()) {
+                return 0;
+            }
+            final double progress = this.level.getProgress();
+            return progress >= 1 ? 1 : BASE_VALUE + PROGRESS_VALUE * progress;
+        }
+    }
+
+    /**
+     * The search of a single tree, run by a thread of the pool until the deadline.
+     */
+    private static final class Search extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Scratch scratch;
+        private final transient RoundSnapshot root;
+        private final transient SplittableRandom random;
+        private final long deadline;
+        private final transient Node tree;
+        private final transient Node[] path;
+        private long iterations;
+        private long nodes;
+
+        Search(final Scratch scratch, final RoundSnapshot root, final SplittableRandom random, final long deadline) {
+            this.scratch = scratch;
+            this.root = root;
+            this.random = random;
+            this.deadline = deadline;
+            this.tree = new Node();
+            this.path = new Node[HORIZON + 1];
+        }
+
+        @Override
+        protected void compute() {
+            this.scratch.setRoot(this.root);
+            do {
+                this.iterate();
+                this.iterations++;
+            } while (this.iterations < MIN_ITERATIONS || System.nanoTime() < this.deadline);
+        }
+
+        private void iterate() {
+            this.scratch.restore();
+            Node node = this.tree;
+            int depth = 0;
+            this.path[0] = node;
+            //Down the tree, until a new node is added or the game can't go on
+            boolean expanded = false;
+            boolean playing = true;
+            while (!expanded && playing && depth < HORIZON) {
+                final int jump = node.select(this.random);
+                playing = this.scratch.play(DIRECTIONS[jump]);
+                this.nodes++;
+                if (node.children[jump] == null) {
+                    node.children[jump] = new Node();
+                    expanded = true;
+                }
+                node = node.children[jump];
+                this.path[++depth] = node;
+            }
+            final double value = this.scratch.getValue();
+            for (int i = 0; i <= depth; i++) {
+                this.path[i].visits++;
+                this.path[i].value = Math.max(this.path[i].value, value);
+            }
+        }
+    }
+}
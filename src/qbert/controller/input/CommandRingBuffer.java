@@ -0,0 +1,84 @@
+package qbert.controller.input;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free queue of {@link TimedCommand}s, safe as long as only one thread offers
+ * (e.g. the EDT receiving keystrokes) and only one thread polls (the game loop).
+ */
+public final class CommandRingBuffer {
+
+    private final TimedCommand[] buffer;
+    private final int mask;
+
+    /**
+     * Index of the next element to be read, only written by the consumer.
+     */
+    private final AtomicLong head;
+
+    /**
+     * Index of the next element to be written, only written by the producer.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * @param capacity the maximum number of commands waiting, rounded up to a power of two
+     */
+    public CommandRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.buffer = new TimedCommand[size];
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Called by the producer thread.
+     * @param command the {@link TimedCommand} to be added
+     * @return false if the buffer is full and the command has been discarded
+     */
+    public boolean offer(final TimedCommand command) {
+        final long t = this.tail.get();
+        if (t - this.head.get() == this.buffer.length) {
+            return false;
+        }
+        this.buffer[(int) (t & this.mask)] = command;
+        //The element is published before the new tail becomes visible to the consumer
+        this.tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Called by the consumer thread.
+     * @return the oldest {@link TimedCommand} if there is one
+     */
+    public Optional<TimedCommand> poll() {
+        final long h = this.head.get();
+        if (h == this.tail.get()) {
+            return Optional.empty();
+        }
+        final int index = (int) (h & this.mask);
+        final TimedCommand command = this.buffer[index];
+        this.buffer[index] = null;
+        this.head.lazySet(h + 1);
+        return Optional.of(command);
+    }
+
+    /**
+     * @return the number of commands waiting, it may be already stale when called by a thread while the other is working
+     */
+    public int size() {
+        return (int) (this.tail.get() - this.head.get());
+    }
+
+    /**
+     * @return the maximum number of commands waiting
+     */
+    public int capacity() {
+        return this.buffer.length;
+    }
+}
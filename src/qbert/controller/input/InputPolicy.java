@@ -0,0 +1,36 @@
+package qbert.controller.input;
+
+/**
+ * How commands arriving while the {@link Model} is not ready to receive them (e.g. Qbert is mid-jump)
+ * are treated.
+ */
+public enum InputPolicy {
+
+    /**
+     * Commands are executed as soon as they arrive, the ones the {@link Model} isn't ready for are lost.
+     */
+    DROP,
+
+    /**
+     * Only the last command is kept and executed when the {@link Model} becomes ready.
+     */
+    COALESCE,
+
+    /**
+     * All the commands are kept and executed in order, one each time the {@link Model} becomes ready.
+     */
+    BUFFER;
+
+    /**
+     * @return the policy named by the "qbert.input" system property, {@link #COALESCE} if it's not set or not valid
+     */
+    public static InputPolicy fromSystemProperty() {
+        final String name = System.getProperty("qbert.input", COALESCE.name());
+        for (final InputPolicy policy : InputPolicy.values()) {
+            if (policy.name().equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        return COALESCE;
+    }
+}
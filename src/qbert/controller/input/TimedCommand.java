@@ -0,0 +1,33 @@
+package qbert.controller.input;
+
+/**
+ * A {@link Command} together with the instant it has been issued.
+ */
+public final class TimedCommand {
+
+    private final Command command;
+    private final long timestamp;
+
+    /**
+     * @param command the issued {@link Command}
+     * @param timestamp the instant the command has been issued, as returned by {@link System#nanoTime()}
+     */
+    public TimedCommand(final Command command, final long timestamp) {
+        this.command = command;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return the issued {@link Command}
+     */
+    public Command getCommand() {
+        return this.command;
+    }
+
+    /**
+     * @return the instant the command has been issued, in nanoseconds
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+}
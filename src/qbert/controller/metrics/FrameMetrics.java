@@ -0,0 +1,143 @@
+package qbert.controller.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The timings of the game loop phases, a {@link LatencyHistogram} for every {@link FramePhase}.
+ * Durations are recorded by the game loop thread and can be read by any other one.
+ */
+public final class FrameMetrics implements FrameMetricsMXBean {
+
+    /**
+     * The name used to register the metrics in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "qbert:type=FrameMetrics";
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+
+    private final Map<FramePhase, LatencyHistogram> histograms;
+    private volatile boolean resetRequested;
+
+    /**
+     * Create empty metrics.
+     */
+    public FrameMetrics() {
+        this.histograms = new EnumMap<>(FramePhase.class);
+        Arrays.asList(FramePhase.values()).forEach(p -> this.histograms.put(p, new LatencyHistogram()));
+    }
+
+    /**
+     * @param phase the {@link FramePhase} measured
+     * @param nanos the duration of the phase
+     */
+    public void record(final FramePhase phase, final long nanos) {
+        this.histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * @param phase a {@link FramePhase}
+     * @return the {@link LatencyHistogram} of the phase
+     */
+    public LatencyHistogram getHistogram(final FramePhase phase) {
+        return this.histograms.get(phase);
+    }
+
+    /**
+     * Execute the resets asked by other threads, it must be called by the game loop thread between two cycles.
+     */
+    public void applyPendingReset() {
+        if (this.resetRequested) {
+            this.resetRequested = false;
+            this.histograms.values().forEach(LatencyHistogram::reset);
+        }
+    }
+
+    /**
+     * Register the metrics in the platform MBean server, errors are only logged.
+     */
+    public void register() {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException | SecurityException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param phase a {@link FramePhase}
+     * @return count, p50, p99, p999 and max of the phase, durations in microseconds
+     */
+    public String getSummary(final FramePhase phase) {
+        final LatencyHistogram h = this.histograms.get(phase);
+        return String.format("%-6s n=%d p50=%.0f p99=%.0f p999=%.0f max=%.0f", phase.name(), h.getCount(),
+                toMicros(h.getPercentile(P50)), toMicros(h.getPercentile(P99)),
+                toMicros(h.getPercentile(P999)), toMicros(h.getMax()));
+    }
+
+    /**
+     * @param phase a {@link FramePhase}
+     * @param timestamp the time the row refers to in milliseconds
+     * @return a CSV row with timestamp, phase, count, mean, p50, p99, p999 and max of the phase
+     */
+    public String getCsvRow(final FramePhase phase, final long timestamp) {
+        final LatencyHistogram h = this.histograms.get(phase);
+        return String.format("%d,%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f", timestamp, phase.name(), h.getCount(),
+                h.getMean() / NANOS_PER_MICRO, toMicros(h.getPercentile(P50)), toMicros(h.getPercentile(P99)),
+                toMicros(h.getPercentile(P999)), toMicros(h.getMax()));
+    }
+
+    @Override
+    public String[] getPhases() {
+        return Arrays.stream(FramePhase.values()).map(FramePhase::name).toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getSummary() {
+        final List<String> lines = new ArrayList<>();
+        Arrays.asList(FramePhase.values()).forEach(p -> lines.add(this.getSummary(p)));
+        return lines.toArray(new String[lines.size()]);
+    }
+
+    @Override
+    public long getFrameCount() {
+        return this.histograms.get(FramePhase.FRAME).getCount();
+    }
+
+    @Override
+    public double getPercentile(final String phase, final double percentile) {
+        return toMicros(this.histograms.get(FramePhase.valueOf(phase)).getPercentile(percentile));
+    }
+
+    @Override
+    public double getMax(final String phase) {
+        return toMicros(this.histograms.get(FramePhase.valueOf(phase)).getMax());
+    }
+
+    @Override
+    public void reset() {
+        this.resetRequested = true;
+    }
+
+    private static double toMicros(final long nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,74 @@
+package qbert.controller.metrics;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Periodically append the {@link FrameMetrics} to a CSV file from a daemon thread.
+ * Durations are written in microseconds and are cumulative since the start (or the last reset).
+ */
+public final class FrameMetricsCsvWriter {
+
+    private static final String HEADER = "timestamp,phase,count,mean,p50,p99,p999,max";
+
+    private final FrameMetrics metrics;
+    private final String file;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * @param metrics the {@link FrameMetrics} to be written
+     * @param file the path of the CSV file
+     */
+    public FrameMetricsCsvWriter(final FrameMetrics metrics, final String file) {
+        this.metrics = metrics;
+        this.file = file;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "qbert-metrics-csv");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @param periodSeconds seconds between two dumps
+     */
+    public void start(final long periodSeconds) {
+        this.append(HEADER);
+        this.executor.scheduleAtFixedRate(this::dump, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop the periodic dumps.
+     */
+    public void stop() {
+        this.executor.shutdown();
+    }
+
+    private void dump() {
+        final long now = System.currentTimeMillis();
+        final StringBuilder rows = new StringBuilder();
+        Arrays.asList(FramePhase.values()).forEach(p -> {
+            if (rows.length() > 0) {
+                rows.append(System.lineSeparator());
+            }
+            rows.append(this.metrics.getCsvRow(p, now));
+        });
+        this.append(rows.toString());
+    }
+
+    private void append(final String text) {
+        try (Writer output = new BufferedWriter(new FileWriter(this.file, true))) {
+            output.append(text).append(System.lineSeparator());
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package qbert.controller.metrics;
+
+/**
+ * The management interface used to read the game loop timings through JMX (e.g. with jconsole).
+ * All the durations are expressed in microseconds.
+ */
+public interface FrameMetricsMXBean {
+
+    /**
+     * @return the names of the {@link FramePhase}s measured
+     */
+    String[] getPhases();
+
+    /**
+     * @return a line for each {@link FramePhase} with count, p50, p99, p999 and max
+     */
+    String[] getSummary();
+
+    /**
+     * @return the number of cycles measured
+     */
+    long getFrameCount();
+
+    /**
+     * @param phase the name of a {@link FramePhase}
+     * @param percentile the percentile, from 0 to 100
+     * @return the duration of the given percentile
+     */
+    double getPercentile(String phase, double percentile);
+
+    /**
+     * @param phase the name of a {@link FramePhase}
+     * @return the longest duration measured
+     */
+    double getMax(String phase);
+
+    /**
+     * Ask the game loop to forget the timings measured so far.
+     */
+    void reset();
+}
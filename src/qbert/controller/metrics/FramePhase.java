@@ -0,0 +1,32 @@
+package qbert.controller.metrics;
+
+/**
+ * The phases a cycle of the game loop is made of.
+ */
+public enum FramePhase {
+
+    /**
+     * Execution of the commands received.
+     */
+    INPUT,
+
+    /**
+     * A single update of the {@link Model}.
+     */
+    UPDATE,
+
+    /**
+     * Creation and publication of the frame to be painted.
+     */
+    RENDER,
+
+    /**
+     * Time spent waiting for the next cycle.
+     */
+    WAIT,
+
+    /**
+     * The whole cycle.
+     */
+    FRAME
+}
@@ -0,0 +1,124 @@
+package qbert.controller.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds with log-linear buckets: every power of two is split in
+ * {@link #SUB_BUCKETS} equal parts, so a percentile is reported with an error below 7%.
+ * Recording costs a few bit operations and never allocates. Values must be recorded by a single thread,
+ * while any thread can read them.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS);
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts;
+    private volatile long count;
+    private volatile long max;
+    private volatile long total;
+
+    /**
+     * Create an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * @param nanos the duration to be recorded, negative values are counted as 0
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        final int index = LatencyHistogram.indexOf(value);
+        //Single writer: plain increments published with lazySet are enough
+        this.counts.lazySet(index, this.counts.get(index) + 1);
+        this.total += value;
+        if (value > this.max) {
+            this.max = value;
+        }
+        this.count++;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the highest value recorded in nanoseconds
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * @return the mean of the values recorded in nanoseconds
+     */
+    public double getMean() {
+        final long n = this.count;
+        return n == 0 ? 0 : (double) this.total / n;
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100
+     * @return the upper bound of the bucket containing the percentile in nanoseconds, never more than {@link #getMax()}
+     */
+    public long getPercentile(final double percentile) {
+        final long n = this.count;
+        if (n == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Remove all the values, it must be called by the thread recording them.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.lazySet(i, 0);
+        }
+        this.total = 0;
+        this.max = 0;
+        this.count = 0;
+    }
+
+    /**
+     * @param value a non negative value
+     * @return the index of the bucket containing the value
+     */
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @param index the index of a bucket
+     * @return the highest value contained in the bucket
+     */
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
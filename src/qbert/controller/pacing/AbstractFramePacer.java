@@ -0,0 +1,67 @@
+package qbert.controller.pacing;
+
+import qbert.controller.metrics.LatencyHistogram;
+
+/**
+ * A {@link FramePacer} with absolute frame deadlines: every frame is scheduled a period after the previous
+ * deadline rather than after the previous wake up, so waking up late doesn't shift all the following frames.
+ * When more than a whole period is lost the schedule starts again from the current time.
+ */
+public abstract class AbstractFramePacer implements FramePacer {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long period;
+    private final LatencyHistogram drift;
+    private long deadline;
+
+    /**
+     * @param frequency the number of frames per second
+     */
+    public AbstractFramePacer(final double frequency) {
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        this.period = Math.round(NANOS_PER_SECOND / frequency);
+        this.drift = new LatencyHistogram();
+    }
+
+    @Override
+    public final void waitForNextFrame() {
+        if (this.deadline == 0) {
+            this.deadline = this.now();
+        }
+        this.deadline += this.period;
+        if (this.now() < this.deadline) {
+            this.waitUntil(this.deadline);
+        }
+
+        final long now = this.now();
+        this.drift.record(now - this.deadline);
+        if (now - this.deadline > this.period) {
+            this.deadline = now;
+        }
+    }
+
+    @Override
+    public final long getPeriod() {
+        return this.period;
+    }
+
+    @Override
+    public final LatencyHistogram getDrift() {
+        return this.drift;
+    }
+
+    /**
+     * @return the current time in nanoseconds, {@link System#nanoTime()} unless a test needs its own clock
+     */
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * @param time the instant to wait for, as returned by {@link #now()}
+     */
+    protected abstract void waitUntil(long time);
+}
@@ -0,0 +1,24 @@
+package qbert.controller.pacing;
+
+import qbert.controller.metrics.LatencyHistogram;
+
+/**
+ * A strategy used by the game loop to wait for the beginning of the next frame.
+ */
+public interface FramePacer {
+
+    /**
+     * Wait until the beginning of the next frame, returning immediately if it's already late.
+     */
+    void waitForNextFrame();
+
+    /**
+     * @return the target frame duration in nanoseconds, 0 if frames are not capped
+     */
+    long getPeriod();
+
+    /**
+     * @return how late, in nanoseconds, every frame started compared to its target time
+     */
+    LatencyHistogram getDrift();
+}
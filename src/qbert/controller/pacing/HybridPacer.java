@@ -0,0 +1,52 @@
+package qbert.controller.pacing;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link FramePacer} that parks the thread for most of the wait and spins only for the last part, which is
+ * as long as the worst oversleep recently measured. The result is nearly as precise as spinning,
+ * while the core is free for most of the frame.
+ */
+public class HybridPacer extends AbstractFramePacer {
+
+    private static final long INITIAL_SPIN = 2_000_000L;
+    private static final long MIN_SPIN = 100_000L;
+
+    /**
+     * Every frame the spin threshold gets 1/DECAY closer to the last oversleep measured.
+     */
+    private static final int DECAY = 16;
+
+    private long spinThreshold;
+
+    /**
+     * @param frequency the number of frames per second
+     */
+    public HybridPacer(final double frequency) {
+        super(frequency);
+        this.spinThreshold = INITIAL_SPIN;
+    }
+
+    @Override
+    protected final void waitUntil(final long time) {
+        final long parkTime = time - this.now() - this.spinThreshold;
+        if (parkTime > 0) {
+            final long before = this.now();
+            LockSupport.parkNanos(parkTime);
+            final long oversleep = this.now() - before - parkTime;
+            //Grow at once after a long oversleep, shrink slowly
+            this.spinThreshold = Math.max(MIN_SPIN, oversleep > this.spinThreshold
+                    ? oversleep : this.spinThreshold - (this.spinThreshold - oversleep) / DECAY);
+        }
+        while (this.now() < time) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent spinning before the frame deadline
+     */
+    public final long getSpinThreshold() {
+        return this.spinThreshold;
+    }
+}
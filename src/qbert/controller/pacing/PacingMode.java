@@ -0,0 +1,65 @@
+package qbert.controller.pacing;
+
+/**
+ * The available {@link FramePacer}s.
+ */
+public enum PacingMode {
+
+    /**
+     * {@link SleepPacer}.
+     */
+    SLEEP,
+
+    /**
+     * {@link HybridPacer}.
+     */
+    HYBRID,
+
+    /**
+     * {@link UncappedPacer}.
+     */
+    UNCAPPED;
+
+    /**
+     * The frame rate used when none is specified, the same as the simulation.
+     */
+    public static final double DEFAULT_FREQUENCY = 50;
+
+    /**
+     * @param frequency the number of frames per second, ignored by {@link #UNCAPPED}
+     * @return a new {@link FramePacer} of this mode
+     */
+    public FramePacer create(final double frequency) {
+        switch (this) {
+        case HYBRID:
+            return new HybridPacer(frequency);
+        case UNCAPPED:
+            return new UncappedPacer();
+        default:
+            return new SleepPacer(frequency);
+        }
+    }
+
+    /**
+     * Create the {@link FramePacer} described by the "qbert.pacing" (mode name) and "qbert.fps" (frames per second)
+     * system properties, a {@link SleepPacer} at {@link #DEFAULT_FREQUENCY} if they're not set or not valid.
+     * @return a new {@link FramePacer}
+     */
+    public static FramePacer fromSystemProperties() {
+        final String name = System.getProperty("qbert.pacing", SLEEP.name());
+        PacingMode mode = SLEEP;
+        for (final PacingMode m : PacingMode.values()) {
+            if (m.name().equalsIgnoreCase(name)) {
+                mode = m;
+            }
+        }
+
+        double frequency = DEFAULT_FREQUENCY;
+        try {
+            frequency = Double.parseDouble(System.getProperty("qbert.fps", String.valueOf(DEFAULT_FREQUENCY)));
+        } catch (final NumberFormatException e) {
+            frequency = DEFAULT_FREQUENCY;
+        }
+        return mode.create(frequency > 0 ? frequency : DEFAULT_FREQUENCY);
+    }
+}
@@ -0,0 +1,29 @@
+package qbert.controller.pacing;
+
+/**
+ * A {@link FramePacer} relying only on {@link Thread#sleep(long)}: cheap, but the wake up is usually
+ * late by one or two milliseconds.
+ */
+public class SleepPacer extends AbstractFramePacer {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * @param frequency the number of frames per second
+     */
+    public SleepPacer(final double frequency) {
+        super(frequency);
+    }
+
+    @Override
+    protected final void waitUntil(final long time) {
+        final long remaining = time - this.now();
+        if (remaining > 0) {
+            try {
+                Thread.sleep(remaining / NANOS_PER_MILLI, (int) (remaining % NANOS_PER_MILLI));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
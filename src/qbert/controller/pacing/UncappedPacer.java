@@ -0,0 +1,26 @@
+package qbert.controller.pacing;
+
+import qbert.controller.metrics.LatencyHistogram;
+
+/**
+ * A {@link FramePacer} that never waits, frames are produced as fast as possible.
+ */
+public class UncappedPacer implements FramePacer {
+
+    private final LatencyHistogram drift = new LatencyHistogram();
+
+    @Override
+    public final void waitForNextFrame() {
+        //There's no deadline, so no drift is ever recorded
+    }
+
+    @Override
+    public final long getPeriod() {
+        return 0;
+    }
+
+    @Override
+    public final LatencyHistogram getDrift() {
+        return this.drift;
+    }
+}
@@ -0,0 +1,68 @@
+package qbert.controller.replay;
+
+import java.util.Optional;
+
+import qbert.controller.input.Command;
+import qbert.controller.input.Confirm;
+import qbert.controller.input.MoveDown;
+import qbert.controller.input.MoveLeft;
+import qbert.controller.input.MoveRight;
+import qbert.controller.input.MoveUp;
+
+/**
+ * The {@link Command}s that can be stored in a replay, each one as the byte of its ordinal.
+ * New ones must be added at the end to keep reading the old files.
+ */
+enum ReplayCommand {
+
+    /**
+     * {@link MoveUp}.
+     */
+    MOVE_UP(new MoveUp()),
+
+    /**
+     * {@link MoveDown}.
+     */
+    MOVE_DOWN(new MoveDown()),
+
+    /**
+     * {@link MoveLeft}.
+     */
+    MOVE_LEFT(new MoveLeft()),
+
+    /**
+     * {@link MoveRight}.
+     */
+    MOVE_RIGHT(new MoveRight()),
+
+    /**
+     * {@link Confirm}.
+     */
+    CONFIRM(new Confirm());
+
+    private final Command command;
+
+    ReplayCommand(final Command command) {
+        this.command = command;
+    }
+
+    /**
+     * @return a {@link Command} doing the same as the one recorded
+     */
+    Command getCommand() {
+        return this.command;
+    }
+
+    /**
+     * @param command a {@link Command} executed by the game
+     * @return its {@link ReplayCommand}, nothing if it can't be stored
+     */
+    static Optional<ReplayCommand> of(final Command command) {
+        for (final ReplayCommand c : ReplayCommand.values()) {
+            if (c.command.getClass() == command.getClass()) {
+                return Optional.of(c);
+            }
+        }
+        return Optional.empty();
+    }
+}
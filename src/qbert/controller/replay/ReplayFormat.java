@@ -0,0 +1,81 @@
+package qbert.controller.replay;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The layout of a replay file, shared by {@link ReplayWriter} and {@link ReplayPlayer}.
+ *
+ * After a header (magic number, version, window size and state of the random source when the match started)
+ * come the records, each one a tag byte and the number of ticks since the previous record as a variable length
+ * number. The tag is the ordinal of a {@link ReplayCommand}, {@link #KEYFRAME} or {@link #END}. A keyframe holds
+ * the level, the round, the state of the random source when the round was built and a
+ * {@link qbert.model.LevelSnapshot}, which holds its current state. After the end come the index (ticks of the match, number of keyframes, then tick
+ * and offset of each one as differences from the previous) and a trailer with the offset of the index and the magic number.
+ */
+final class ReplayFormat {
+
+    /**
+     * The first and last int of a replay file.
+     */
+    static final int MAGIC = 0x51425250;
+
+    /**
+     * The version of the layout.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * The tag of a keyframe.
+     */
+    static final int KEYFRAME = 0xFE;
+
+    /**
+     * The tag of the last record.
+     */
+    static final int END = 0xFF;
+
+    /**
+     * The size of the trailer at the end of a complete file.
+     */
+    static final int TRAILER_SIZE = 2 * Integer.BYTES;
+
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int MORE = 0x80;
+    private static final int SHIFT = 7;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Write a non negative number in as many bytes as needed, seven bits each.
+     * @param output where to write
+     * @param value the number to be written
+     * @throws IOException if writing fails
+     */
+    static void writeVarLong(final DataOutput output, final long value) throws IOException {
+        long rest = value;
+        while ((rest & ~SEVEN_BITS) != 0) {
+            output.writeByte((int) (rest & SEVEN_BITS) | MORE);
+            rest >>>= SHIFT;
+        }
+        output.writeByte((int) rest);
+    }
+
+    /**
+     * @param input the buffer positioned on a number written by {@link #writeVarLong(DataOutput, long)}
+     * @return the number read
+     */
+    static long readVarLong(final ByteBuffer input) {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = input.get();
+            value |= (long) (b & SEVEN_BITS) << shift;
+            shift += SHIFT;
+        } while ((b & MORE) != 0);
+        return value;
+    }
+}
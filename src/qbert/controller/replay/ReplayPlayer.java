@@ -0,0 +1,242 @@
+package qbert.controller.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.model.LevelSnapshot;
+import qbert.model.scenes.Game;
+import qbert.model.utilities.Dimensions;
+
+/**
+ * Play a match written by a {@link ReplayWriter} without a display, as fast as the CPU allows.
+ * Seeking to a tick restores the nearest keyframe before it and simulates from there, so any point
+ * of a long match is reached in a few milliseconds. If the file was cut short, for example by a crash,
+ * the keyframes are found by reading it through and the match ends with the last complete record.
+ */
+public final class ReplayPlayer {
+
+    private static final int HEADER_SIZE = Integer.BYTES + 1 + 2 * Integer.BYTES + Long.BYTES;
+    private static final int KEYFRAME_HEADER_SIZE = 2 + Long.BYTES;
+    private static final ReplayCommand[] COMMANDS = ReplayCommand.values();
+
+    private final ByteBuffer data;
+    private final long startSeed;
+    private final int recordsStart;
+    private final HeadlessController controller;
+    private final Game game;
+
+    private long length;
+    private long[] keyframeTicks;
+    private int[] keyframeOffsets;
+
+    private boolean started;
+    private long tick;
+    private int nextTag;
+    private long nextRecordTick;
+
+    /**
+     * The window size of the recording is set in {@link Dimensions}, since the jumps are as long as the cubes,
+     * so the player must be created before anything of the game is.
+     * @param bytes the content of a replay file
+     * @throws IOException if it isn't a replay file or its version isn't supported
+     */
+    public ReplayPlayer(final byte[] bytes) throws IOException {
+        this.data = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_SIZE || this.data.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        final int version = this.data.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        Dimensions.setWindowWidth(this.data.getInt());
+        Dimensions.setWindowHeight(this.data.getInt());
+        this.startSeed = this.data.getLong();
+        this.recordsStart = this.data.position();
+
+        if (bytes.length >= HEADER_SIZE + ReplayFormat.TRAILER_SIZE
+                && this.data.getInt(bytes.length - Integer.BYTES) == ReplayFormat.MAGIC) {
+            this.readIndex(this.data.getInt(bytes.length - ReplayFormat.TRAILER_SIZE));
+        } else {
+            this.scan();
+        }
+
+        this.controller = new HeadlessController(new HeadlessEngine(0, 0, 0));
+        this.game = new Game(this.controller);
+    }
+
+    /**
+     * @param file the path of a replay file
+     * @return a {@link ReplayPlayer} of the file
+     * @throws IOException if the file can't be read or isn't a replay file
+     */
+    public static ReplayPlayer load(final String file) throws IOException {
+        return new ReplayPlayer(Files.readAllBytes(Paths.get(file)));
+    }
+
+    /**
+     * Bring the {@link Game} to the state it had after the given number of updates.
+     * @param target the tick to be reached, clamped between 0 and {@link #getLength()}
+     */
+    public void seek(final long target) {
+        final long to = Math.max(0, Math.min(target, this.length));
+        final int keyframe = this.keyframeBefore(to);
+        if (!this.started || to < this.tick || keyframe >= 0 && this.keyframeTicks[keyframe] > this.tick) {
+            if (keyframe >= 0) {
+                this.restore(keyframe);
+            } else {
+                this.restart();
+            }
+        }
+        while (this.tick < to) {
+            this.game.update(GameEngine.TICK);
+            this.tick++;
+            this.executeCommands();
+        }
+    }
+
+    /**
+     * @return the {@link Game} being replayed
+     */
+    public Game getGame() {
+        return this.game;
+    }
+
+    /**
+     * @return the tick reached
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * @return the number of ticks of the match
+     */
+    public long getLength() {
+        return this.length;
+    }
+
+    /**
+     * @return the ticks of the keyframes
+     */
+    public long[] getKeyframeTicks() {
+        return Arrays.copyOf(this.keyframeTicks, this.keyframeTicks.length);
+    }
+
+    private void readIndex(final int offset) {
+        this.data.position(offset);
+        this.length = ReplayFormat.readVarLong(this.data);
+        final int count = (int) ReplayFormat.readVarLong(this.data);
+        this.keyframeTicks = new long[count];
+        this.keyframeOffsets = new int[count];
+        long lastTick = 0;
+        int lastOffset = 0;
+        for (int i = 0; i < count; i++) {
+            lastTick += ReplayFormat.readVarLong(this.data);
+            lastOffset += (int) ReplayFormat.readVarLong(this.data);
+            this.keyframeTicks[i] = lastTick;
+            this.keyframeOffsets[i] = lastOffset;
+        }
+    }
+
+    private void scan() {
+        final List<Long> ticks = new ArrayList<>();
+        final List<Integer> offsets = new ArrayList<>();
+        this.data.position(this.recordsStart);
+        long recordTick = 0;
+        try {
+            int tag = 0;
+            while (tag != ReplayFormat.END && this.data.hasRemaining()) {
+                final int offset = this.data.position();
+                tag = Byte.toUnsignedInt(this.data.get());
+                final long time = recordTick + ReplayFormat.readVarLong(this.data);
+                if (tag == ReplayFormat.KEYFRAME) {
+                    this.skipKeyframe();
+                    ticks.add(time);
+                    offsets.add(offset);
+                }
+                recordTick = time;
+            }
+        } catch (final BufferUnderflowException e) {
+            //The last record is incomplete, the match ends with the one before
+        }
+        this.length = recordTick;
+        this.keyframeTicks = ticks.stream().mapToLong(Long::longValue).toArray();
+        this.keyframeOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int keyframeBefore(final long target) {
+        final int found = Arrays.binarySearch(this.keyframeTicks, target);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private void restart() {
+        this.controller.getRandom().setState(this.startSeed);
+        this.game.initialize();
+        this.started = true;
+        this.tick = 0;
+        this.data.position(this.recordsStart);
+        this.nextRecordTick = 0;
+        this.readNextRecord();
+        this.executeCommands();
+    }
+
+    private void restore(final int keyframe) {
+        this.data.position(this.keyframeOffsets[keyframe]);
+        this.data.get();
+        ReplayFormat.readVarLong(this.data);
+        final int level = Byte.toUnsignedInt(this.data.get());
+        final int round = Byte.toUnsignedInt(this.data.get());
+        final long roundSeed = this.data.getLong();
+        final byte[] snapshot = new byte[(int) ReplayFormat.readVarLong(this.data)];
+        this.data.get(snapshot);
+        this.game.restore(level, round, roundSeed, new LevelSnapshot(snapshot));
+        this.started = true;
+        //The commands of this tick were executed before the keyframe was taken
+        this.tick = this.keyframeTicks[keyframe];
+        this.nextRecordTick = this.tick;
+        this.readNextRecord();
+    }
+
+    private void executeCommands() {
+        while (this.nextTag < COMMANDS.length && this.nextRecordTick == this.tick) {
+            COMMANDS[this.nextTag].getCommand().execute(this.game);
+            this.readNextRecord();
+        }
+    }
+
+    private void readNextRecord() {
+        try {
+            do {
+                this.nextTag = Byte.toUnsignedInt(this.data.get());
+                this.nextRecordTick += ReplayFormat.readVarLong(this.data);
+                if (this.nextTag == ReplayFormat.KEYFRAME) {
+                    this.skipKeyframe();
+                }
+            } while (this.nextTag == ReplayFormat.KEYFRAME);
+        } catch (final BufferUnderflowException e) {
+            this.nextTag = ReplayFormat.END;
+        }
+    }
+
+    private void skipKeyframe() {
+        if (this.data.remaining() < KEYFRAME_HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        this.data.position(this.data.position() + KEYFRAME_HEADER_SIZE);
+        final int size = (int) ReplayFormat.readVarLong(this.data);
+        if (size > this.data.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        this.data.position(this.data.position() + size);
+    }
+}
@@ -0,0 +1,126 @@
+package qbert.controller.replay;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import qbert.controller.input.Command;
+import qbert.model.scenes.Game;
+import qbert.model.scenes.Model;
+
+/**
+ * Record every match played by an engine in its own file of a directory, through a {@link ReplayWriter}.
+ * A match starts when a {@link Game} is set up and ends when another {@link Model} is or the engine stops.
+ * If writing fails the match is no longer recorded, but the game goes on.
+ */
+public final class ReplayRecorder {
+
+    /**
+     * The system property with the directory where the replays are saved, none are if it isn't set.
+     */
+    public static final String DIRECTORY_PROPERTY = "qbert.replay.dir";
+
+    /**
+     * The extension of the replay files.
+     */
+    public static final String EXTENSION = ".qbr";
+
+    private final File directory;
+    private final int keyframeInterval;
+    private Optional<ReplayWriter> writer;
+
+    /**
+     * @param directory where to save the replays
+     * @param keyframeInterval the ticks between two keyframes
+     */
+    public ReplayRecorder(final File directory, final int keyframeInterval) {
+        this.directory = directory;
+        this.keyframeInterval = keyframeInterval;
+        this.writer = Optional.empty();
+    }
+
+    /**
+     * @return a {@link ReplayRecorder} saving in the directory of the "qbert.replay.dir" system property,
+     * with a keyframe every "qbert.replay.keyframes" ticks, nothing if the directory isn't set
+     */
+    public static Optional<ReplayRecorder> fromSystemProperties() {
+        final String path = System.getProperty(DIRECTORY_PROPERTY);
+        if (path == null) {
+            return Optional.empty();
+        }
+        final int interval = Integer.getInteger("qbert.replay.keyframes", ReplayWriter.DEFAULT_KEYFRAME_INTERVAL);
+        return Optional.of(new ReplayRecorder(new File(path), interval > 0 ? interval : ReplayWriter.DEFAULT_KEYFRAME_INTERVAL));
+    }
+
+    /**
+     * End the match being recorded, if any, and start recording a new one if the {@link Model} is a {@link Game}.
+     * @param model the {@link Model} just set up in the engine
+     */
+    public void setup(final Model model) {
+        this.stop();
+        if (model instanceof Game) {
+            final String name = "qbert-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+            File file = new File(this.directory, name + EXTENSION);
+            for (int i = 1; file.exists(); i++) {
+                file = new File(this.directory, name + "-" + i + EXTENSION);
+            }
+            try {
+                this.directory.mkdirs();
+                this.writer = Optional.of(new ReplayWriter(new FileOutputStream(file), (Game) model, this.keyframeInterval));
+                Logger.getGlobal().info("Recording replay " + file.getPath());
+            } catch (IOException e) {
+                Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @param command a {@link Command} about to be executed
+     */
+    public void command(final Command command) {
+        if (this.writer.isPresent()) {
+            try {
+                this.writer.get().command(command);
+            } catch (IOException e) {
+                this.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Count an update of the {@link Model}, to be called right before it.
+     */
+    public void tick() {
+        if (this.writer.isPresent()) {
+            try {
+                this.writer.get().tick();
+            } catch (IOException e) {
+                this.fail(e);
+            }
+        }
+    }
+
+    /**
+     * End the match being recorded, if any.
+     */
+    public void stop() {
+        if (this.writer.isPresent()) {
+            try {
+                this.writer.get().close();
+            } catch (IOException e) {
+                Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+            }
+            this.writer = Optional.empty();
+        }
+    }
+
+    private void fail(final IOException e) {
+        Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+        this.stop();
+    }
+}
@@ -0,0 +1,146 @@
+package qbert.controller.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import qbert.controller.input.Command;
+import qbert.model.LevelSnapshot;
+import qbert.model.scenes.Game;
+import qbert.model.utilities.Dimensions;
+
+/**
+ * Write a match of a {@link Game} to a stream, as described in {@link ReplayFormat}: every {@link Command}
+ * executed with the tick it was executed at, and a keyframe every few ticks so that a {@link ReplayPlayer}
+ * doesn't need to simulate the whole match to reach a point of it.
+ * The engine must call {@link #command(Command)} for every command executed and {@link #tick()} right before
+ * every update of the game, all from the same thread.
+ */
+public final class ReplayWriter implements Closeable {
+
+    /**
+     * Ticks between two keyframes when none is specified, 30 seconds of play.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 1500;
+
+    private final DataOutputStream output;
+    private final Game game;
+    private final int keyframeInterval;
+    private final LevelSnapshot snapshot;
+    private final ByteArrayOutputStream indexBytes;
+    private final DataOutputStream index;
+
+    private long ticks;
+    private long lastRecordTick;
+    private long nextKeyframe;
+    private int keyframes;
+    private long lastKeyframeTick;
+    private int lastKeyframeOffset;
+    private boolean closed;
+
+    /**
+     * @param output where to write the replay, closed with this writer
+     * @param game the {@link Game} to be recorded, just initialized
+     * @param keyframeInterval the ticks between two keyframes
+     * @throws IOException if the header can't be written
+     */
+    public ReplayWriter(final OutputStream output, final Game game, final int keyframeInterval) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.game = game;
+        this.keyframeInterval = keyframeInterval;
+        this.snapshot = new LevelSnapshot();
+        this.indexBytes = new ByteArrayOutputStream();
+        this.index = new DataOutputStream(this.indexBytes);
+        this.nextKeyframe = keyframeInterval;
+
+        this.output.writeInt(ReplayFormat.MAGIC);
+        this.output.writeByte(ReplayFormat.VERSION);
+        this.output.writeInt(Dimensions.getWindowWidth());
+        this.output.writeInt(Dimensions.getWindowHeight());
+        this.output.writeLong(game.getRoundSeed());
+    }
+
+    /**
+     * @param command a {@link Command} executed on the {@link Game} before the next update
+     * @throws IOException if writing fails
+     */
+    public void command(final Command command) throws IOException {
+        final Optional<ReplayCommand> code = ReplayCommand.of(command);
+        if (code.isPresent()) {
+            this.writeRecord(code.get().ordinal());
+        } else {
+            Logger.getGlobal().log(Level.WARNING, "Command not recorded: " + command.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Count an update of the {@link Game}, saving a keyframe before it when it's time to.
+     * @throws IOException if writing fails
+     */
+    public void tick() throws IOException {
+        if (this.ticks >= this.nextKeyframe && this.game.canSnapshot()) {
+            this.writeKeyframe();
+            this.nextKeyframe = this.ticks + this.keyframeInterval;
+        }
+        this.ticks++;
+    }
+
+    /**
+     * @return the number of updates counted so far
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Write the end of the match and the index of the keyframes.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                this.writeRecord(ReplayFormat.END);
+                final int indexOffset = this.output.size();
+                ReplayFormat.writeVarLong(this.output, this.ticks);
+                ReplayFormat.writeVarLong(this.output, this.keyframes);
+                this.indexBytes.writeTo(this.output);
+                this.output.writeInt(indexOffset);
+                this.output.writeInt(ReplayFormat.MAGIC);
+            } finally {
+                this.output.close();
+            }
+        }
+    }
+
+    private void writeRecord(final int tag) throws IOException {
+        this.output.writeByte(tag);
+        ReplayFormat.writeVarLong(this.output, this.ticks - this.lastRecordTick);
+        this.lastRecordTick = this.ticks;
+    }
+
+    private void writeKeyframe() throws IOException {
+        final int offset = this.output.size();
+        this.game.snapshot(this.snapshot);
+        this.writeRecord(ReplayFormat.KEYFRAME);
+        this.output.writeByte(this.game.getLevelNumber());
+        this.output.writeByte(this.game.getRoundNumber());
+        this.output.writeLong(this.game.getRoundSeed());
+        ReplayFormat.writeVarLong(this.output, this.snapshot.getSize());
+        this.output.write(this.snapshot.toByteArray());
+        //A crash loses at most the last keyframe interval, the player can find the keyframes without the index
+        this.output.flush();
+
+        ReplayFormat.writeVarLong(this.index, this.ticks - this.lastKeyframeTick);
+        ReplayFormat.writeVarLong(this.index, offset - this.lastKeyframeOffset);
+        this.lastKeyframeTick = this.ticks;
+        this.lastKeyframeOffset = offset;
+        this.keyframes++;
+    }
+}
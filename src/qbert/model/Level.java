@@ -5,6 +5,7 @@ import java.util.List;
 import qbert.model.characters.Player;
 import qbert.model.components.graphics.Renderable;
 import qbert.model.scenes.Game;
+import qbert.model.utilities.Direction;
 
 /**
  * Interface for managing core aspects of the game.
@@ -45,4 +46,34 @@ public interface Level {
      * @param elapsed the time passed since the last game cycle
      */
     void update(float elapsed);
+
+    /**
+     * Make {@link Qbert} jump toward the given {@link Direction}, if he's standing.
+     * @param direction the {@link Direction} of the jump
+     */
+    void jump(Direction direction);
+
+    /**
+     * @return how near the round is to be won, from 0 to 1: the share of the color changes done on the {@link Tile}s,
+     * plus less than a single one as {@link Qbert} gets near to the next {@link Tile} to change
+     */
+    double getProgress();
+
+    /**
+     * @return true if the level can be saved in a {@link LevelSnapshot} now, false while everything is frozen
+     */
+    boolean canSnapshot();
+
+    /**
+     * Write the logic state of the level in the {@link LevelSnapshot}, replacing what it held.
+     * @param snapshot the {@link LevelSnapshot} to write to
+     * @throws IllegalStateException if {@link #canSnapshot()} is false
+     */
+    void snapshot(LevelSnapshot snapshot);
+
+    /**
+     * Bring the level back to the state saved in the {@link LevelSnapshot}, which must come from this same level.
+     * @param snapshot the {@link LevelSnapshot} to read from
+     */
+    void restore(LevelSnapshot snapshot);
 }
@@ -1,14 +1,15 @@
 package qbert.model;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import qbert.controller.Controller;
 import qbert.model.characters.Player;
+import qbert.model.characters.states.CharacterState;
 import qbert.model.components.MapComponent;
 import qbert.model.components.MapComponentImpl;
 import qbert.model.components.PointComponent;
@@ -18,7 +19,10 @@ import qbert.model.components.TimerComponentImpl;
 import qbert.model.spawner.Spawner;
 import qbert.model.spawner.SpawnerImpl;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 import qbert.model.components.graphics.GenericGC;
 import qbert.model.components.graphics.GraphicComponent;
 import qbert.model.components.graphics.GraphicComponentImpl;
@@ -44,8 +48,15 @@ public final class LevelImpl implements Level {
     private final LevelStatus status;
     private final Renderable background;
     private final LevelSettings settings;
+    private final GameRandom random;
     private MapComponent map;
 
+    private final List<Renderable> staticRenderables;
+    private final List<Renderable> renderables;
+    private final List<Renderable> renderablesView;
+    private int renderedSpawnerVersion;
+    private int renderedDisks;
+
     /**
      * Constructor of class LevelImpl.
      * @param levelSettings Set of settings that determine how to build the level
@@ -55,25 +66,41 @@ public final class LevelImpl implements Level {
      */
     public LevelImpl(final LevelSettings levelSettings, final int lives, final int score, final Controller controller) {
         this.settings = levelSettings;
+        this.random = controller.getRandom();
         final SoundComponent sounds = new GameSC(controller);
-        this.spawner = new SpawnerImpl(levelSettings.getMapInfo(), levelSettings.getQBertSpeed(), controller, lives);
-        this.qbert = this.spawner.spawnQbert();
-        this.points = new PointComponentImpl(score);
 
         try {
-            this.map = new MapComponentImpl(settings);
+            this.map = new MapComponentImpl(settings, controller.getRandom());
         } catch (IOException e) {
             Logger.getGlobal().log(java.util.logging.Level.SEVERE, e.getMessage(), e);
             controller.forceQuit(USER_MESSAGE);
         }
 
+        this.spawner = new SpawnerImpl(levelSettings.getMapInfo(), levelSettings.getQBertSpeed(), controller, lives,
+                this.map.getPursuitTable());
+        this.qbert = this.spawner.spawnQbert();
+        this.points = new PointComponentImpl(score);
+
         this.status = new LevelStatusImpl(levelSettings, qbert, spawner, points, map, sounds);
 
         this.timer = new TimerComponentImpl(qbert, spawner, points, map, status);
 
         final GraphicComponent backgroundGC = new GenericGC(this.settings.getBackgroundImage(), 
-                new Position2D(Dimensions.getBackgroundPos().getX(), Dimensions.getBackgroundPos().getY()));
+                Position2D.of(Dimensions.getBackgroundPos().getX(), Dimensions.getBackgroundPos().getY()));
         this.background = new RenderableObject(backgroundGC);
+
+        //Target color, background and tiles never change during a level
+        this.staticRenderables = new ArrayList<>();
+        final Optional<Renderable> targetColor = this.getTargetColor();
+        if (targetColor.isPresent()) {
+            this.staticRenderables.add(targetColor.get());
+        }
+        this.staticRenderables.add(this.background);
+        this.staticRenderables.addAll(this.map.getTileList());
+        this.renderables = new ArrayList<>();
+        this.renderablesView = Collections.unmodifiableList(this.renderables);
+        this.renderedSpawnerVersion = -1;
+        this.renderedDisks = -1;
     }
 
     @Override
@@ -103,19 +130,38 @@ public final class LevelImpl implements Level {
 
     @Override
     public List<Renderable> getRenderables() {
-        Stream<Renderable> resultingStream = Stream.of(
-                Stream.of(this.getTargetColor()),
-                Stream.of(this.background),
-                Stream.of(this.qbert),
-                map.getTileList().stream(),
-                map.getDiskList().stream(),
-                spawner.getGameCharacters().stream()
-        ).flatMap(i -> i);
-
-        if (spawner.getCoily().isPresent()) {
-            resultingStream = Stream.concat(resultingStream, Stream.of(spawner.getCoily().get()));
+        //The list is rebuilt only when characters spawn or die, or a disk is used
+        if (this.spawner.getVersion() != this.renderedSpawnerVersion || this.map.getDiskList().size() != this.renderedDisks) {
+            this.renderedSpawnerVersion = this.spawner.getVersion();
+            this.renderedDisks = this.map.getDiskList().size();
+            this.renderables.clear();
+            this.renderables.addAll(this.staticRenderables);
+            this.renderables.add(this.qbert);
+            this.renderables.addAll(this.map.getDiskList());
+            this.renderables.addAll(this.spawner.getGameCharacters());
+            if (this.spawner.getCoily().isPresent()) {
+                this.renderables.add(this.spawner.getCoily().get());
+            }
+        }
+        this.sortByZIndex();
+        return this.renderablesView;
+    }
+
+    /**
+     * Keep the retained list ordered by z index. Between two frames only a few characters change layer,
+     * so an insertion sort costs about a single pass and doesn't allocate.
+     */
+    private void sortByZIndex() {
+        for (int i = 1; i < this.renderables.size(); i++) {
+            final Renderable r = this.renderables.get(i);
+            final int z = r.getZIndex();
+            int j = i - 1;
+            while (j >= 0 && this.renderables.get(j).getZIndex() > z) {
+                this.renderables.set(j + 1, this.renderables.get(j));
+                j--;
+            }
+            this.renderables.set(j + 1, r);
         }
-        return resultingStream.collect(Collectors.toList());
     }
 
     @Override
@@ -123,13 +169,88 @@ public final class LevelImpl implements Level {
         timer.update(elapsed);
     }
 
-    private Renderable getTargetColor() {
-        final Optional<Integer> i = settings.getColorMap().keySet().stream().collect(Collectors.toList()).stream().max((o1, o2) -> o1.compareTo(o2));
+    @Override
+    public void jump(final Direction direction) {
+        if (!this.qbert.isMoving() && !this.qbert.isDead()) {
+            final Position2D from = this.qbert.getCurrentPosition();
+            this.qbert.setNextPosition(Position2D.of(from.getX() + direction.getDx() * this.qbert.getStep(),
+                    from.getY() + direction.getDy() * this.qbert.getStep()));
+            this.qbert.setCurrentState(this.getMoveState(direction));
+        }
+    }
+
+    @Override
+    public double getProgress() {
+        final int target = this.settings.getColorsNumber();
+        final List<Tile> tiles = this.map.getTileList();
+        final Position2D q = this.qbert.getNextPosition();
+        int done = 0;
+        int nearest = Integer.MAX_VALUE;
+        for (int i = 0; i < tiles.size(); i++) {
+            final Tile tile = tiles.get(i);
+            done += tile.getColor();
+            final int distance = this.map.getPursuitTable().getDistance(q, tile.getCurrentPosition());
+            if (tile.getColor() != target && distance != PursuitTable.UNREACHABLE) {
+                nearest = Math.min(nearest, distance);
+            }
+        }
+        final double step = 1.0 / Math.max(1, tiles.size() * target);
+        //Half a color change at most, so that the round is only worth 1 once won
+        return nearest == Integer.MAX_VALUE ? step * done : step * (done + 1.0 / (2 + nearest));
+    }
+
+    @Override
+    public boolean canSnapshot() {
+        return !this.timer.isEverythingFrozen();
+    }
+
+    @Override
+    public void snapshot(final LevelSnapshot snapshot) {
+        if (!this.canSnapshot()) {
+            throw new IllegalStateException("The level can't be saved while everything is frozen");
+        }
+        snapshot.startWriting();
+        snapshot.putLong(this.random.getState());
+        this.map.save(snapshot);
+        this.points.save(snapshot);
+        this.spawner.save(snapshot);
+        this.timer.save(snapshot);
+    }
+
+    @Override
+    public void restore(final LevelSnapshot snapshot) {
+        snapshot.startReading();
+        final long randomState = snapshot.getLong();
+        this.map.restore(snapshot);
+        this.points.restore(snapshot);
+        this.spawner.restore(snapshot);
+        this.timer.restore(snapshot);
+        //The characters taken back from the pools draw their spawn positions, those choices must not count
+        this.random.setState(randomState);
+        //The disks may be other ones even if as many
+        this.renderedDisks = -1;
+    }
+
+    private CharacterState getMoveState(final Direction direction) {
+        switch (direction) {
+        case UP_LEFT:
+            return this.qbert.getStates().moveUpLeft();
+        case UP_RIGHT:
+            return this.qbert.getStates().moveUpRight();
+        case DOWN_LEFT:
+            return this.qbert.getStates().moveDownLeft();
+        default:
+            return this.qbert.getStates().moveDownRight();
+        }
+    }
+
+    private Optional<Renderable> getTargetColor() {
+        final Optional<Integer> i = settings.getColorMap().keySet().stream().max((o1, o2) -> o1.compareTo(o2));
         if (i.isPresent()) {
-            final GraphicComponent gc = new GraphicComponentImpl(settings.getColorMap().get(i.get()), new Position2D(Math.round(Dimensions.getWindowWidth() / 9f), Math.round(Dimensions.getWindowHeight() / 4f)));
-            return new RenderableObject(gc);
+            final GraphicComponent gc = new GraphicComponentImpl(settings.getColorMap().get(i.get()), Position2D.of(Math.round(Dimensions.getWindowWidth() / 9f), Math.round(Dimensions.getWindowHeight() / 4f)));
+            return Optional.of(new RenderableObject(gc));
         }
 
-        return null;
+        return Optional.empty();
     }
 }
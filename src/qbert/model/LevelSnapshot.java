@@ -0,0 +1,169 @@
+package qbert.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import qbert.model.utilities.Position2D;
+
+/**
+ * A reusable buffer holding the logic state of a {@link Level} in a few hundred bytes: the characters, their
+ * states and timers, the colors of the tiles, the disks left, the score, the time flow and the state of the random
+ * source of the game, so that a restored level makes the same choices it would have made.
+ * Nothing of the graphics is stored except what drives the logic, like the progress of a jump.
+ * The buffer grows when needed and is kept between snapshots, so taking one doesn't allocate in the long run.
+ * The values must be read in the same order they were written.
+ */
+public final class LevelSnapshot {
+
+    private static final int DEFAULT_CAPACITY = 512;
+
+    private ByteBuffer buffer;
+    private int size;
+
+    /**
+     * Creates an empty snapshot.
+     */
+    public LevelSnapshot() {
+        this.buffer = ByteBuffer.allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param data the bytes of a snapshot, as returned by {@link #toByteArray()}
+     */
+    public LevelSnapshot(final byte[] data) {
+        this.buffer = ByteBuffer.allocate(Math.max(DEFAULT_CAPACITY, data.length));
+        this.buffer.put(data);
+        this.size = data.length;
+    }
+
+    /**
+     * Throw away the content and start writing from the beginning.
+     */
+    public void startWriting() {
+        this.buffer.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Start reading the content from the beginning.
+     */
+    public void startReading() {
+        this.buffer.limit(this.size);
+        this.buffer.position(0);
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return a copy of the bytes written
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer.array(), this.size);
+    }
+
+    /**
+     * @param value the int to append
+     */
+    public void putInt(final int value) {
+        this.ensureCapacity(Integer.BYTES);
+        this.buffer.putInt(value);
+        this.size = this.buffer.position();
+    }
+
+    /**
+     * @param value the long to append
+     */
+    public void putLong(final long value) {
+        this.ensureCapacity(Long.BYTES);
+        this.buffer.putLong(value);
+        this.size = this.buffer.position();
+    }
+
+    /**
+     * @param value the float to append
+     */
+    public void putFloat(final float value) {
+        this.ensureCapacity(Float.BYTES);
+        this.buffer.putFloat(value);
+        this.size = this.buffer.position();
+    }
+
+    /**
+     * @param value the byte to append
+     */
+    public void putByte(final int value) {
+        this.ensureCapacity(1);
+        this.buffer.put((byte) value);
+        this.size = this.buffer.position();
+    }
+
+    /**
+     * @param value the boolean to append
+     */
+    public void putBoolean(final boolean value) {
+        this.putByte(value ? 1 : 0);
+    }
+
+    /**
+     * @param position the {@link Position2D} to append
+     */
+    public void putPosition(final Position2D position) {
+        this.putLong(position.toLong());
+    }
+
+    /**
+     * @return the next int
+     */
+    public int getInt() {
+        return this.buffer.getInt();
+    }
+
+    /**
+     * @return the next long
+     */
+    public long getLong() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * @return the next float
+     */
+    public float getFloat() {
+        return this.buffer.getFloat();
+    }
+
+    /**
+     * @return the next byte, as an unsigned value
+     */
+    public int getByte() {
+        return Byte.toUnsignedInt(this.buffer.get());
+    }
+
+    /**
+     * @return the next boolean
+     */
+    public boolean getBoolean() {
+        return this.buffer.get() != 0;
+    }
+
+    /**
+     * @return the next {@link Position2D}
+     */
+    public Position2D getPosition() {
+        return Position2D.of(this.buffer.getLong());
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            final ByteBuffer bigger = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.size + bytes));
+            this.buffer.flip();
+            bigger.put(this.buffer);
+            this.buffer = bigger;
+        }
+    }
+}
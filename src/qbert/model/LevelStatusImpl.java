@@ -57,14 +57,7 @@ public class LevelStatusImpl implements LevelStatus {
 
     @Override
     public final void checkStatus(final TimerComponent timer) {
-        int coloredTiles = 0;
-        for (final Tile t : map.getTileList()) {
-            if (t.getColor() == this.settings.getColorsNumber()) {
-                coloredTiles++;
-            }
-        }
-
-        if (coloredTiles == this.map.getTileList().stream().count()) {
+        if (this.map.countTilesWithColor(this.settings.getColorsNumber()) == this.map.getTilesNumber()) {
             this.changeRound(timer);
         }
     }
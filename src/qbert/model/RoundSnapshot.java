@@ -0,0 +1,55 @@
+package qbert.model;
+
+/**
+ * A {@link LevelSnapshot} of a round together with what is needed to build the round again: the numbers of its level
+ * and round and the state of the random source when it was built. The snapshot is kept as bytes, so that many
+ * {@link Level}s can be restored from it at once, each reading its own copy.
+ */
+public final class RoundSnapshot {
+
+    private final int level;
+    private final int round;
+    private final long seed;
+    private final byte[] data;
+
+    /**
+     * @param level the number of the level
+     * @param round the number of the round
+     * @param seed the state of the random source when the round was built
+     * @param snapshot the {@link LevelSnapshot} of the round
+     */
+    public RoundSnapshot(final int level, final int round, final long seed, final LevelSnapshot snapshot) {
+        this.level = level;
+        this.round = round;
+        this.seed = seed;
+        this.data = snapshot.toByteArray();
+    }
+
+    /**
+     * @return the number of the level
+     */
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * @return the number of the round
+     */
+    public int getRound() {
+        return this.round;
+    }
+
+    /**
+     * @return the state of the random source when the round was built
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return a new {@link LevelSnapshot} holding the state of the round
+     */
+    public LevelSnapshot getSnapshot() {
+        return new LevelSnapshot(this.data);
+    }
+}
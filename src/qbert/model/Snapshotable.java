@@ -0,0 +1,18 @@
+package qbert.model;
+
+/**
+ * An object of the {@link Level} whose logic state can be written to a {@link LevelSnapshot} and read back.
+ */
+public interface Snapshotable {
+
+    /**
+     * @param snapshot the {@link LevelSnapshot} to append the state to
+     */
+    void save(LevelSnapshot snapshot);
+
+    /**
+     * Bring the object back to the state read from the {@link LevelSnapshot}, where {@link #save(LevelSnapshot)} wrote it.
+     * @param snapshot the {@link LevelSnapshot} to read the state from
+     */
+    void restore(LevelSnapshot snapshot);
+}
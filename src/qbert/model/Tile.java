@@ -1,5 +1,8 @@
 package qbert.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import qbert.model.components.PointComponentImpl;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.RenderableBackground;
@@ -11,6 +14,7 @@ import qbert.model.components.graphics.TileGC;
 public class Tile extends RenderableBackground implements GameObject {
     private Position2D position;
     private final TileGC graphicComponent;
+    private final List<TileObserver> observers;
 
     /**
      * Constructor of Tile class.
@@ -20,8 +24,16 @@ public class Tile extends RenderableBackground implements GameObject {
     public Tile(final Position2D pos, final TileGC graphics) {
         super();
         this.graphicComponent = graphics;
-        this.graphicComponent.setPosition(new Position2D(pos));
-        this.position = new Position2D(pos);
+        this.graphicComponent.setPosition(pos);
+        this.position = pos;
+        this.observers = new ArrayList<>();
+    }
+
+    /**
+     * @param observer the {@link TileObserver} to be notified of color changes
+     */
+    public void addObserver(final TileObserver observer) {
+        this.observers.add(observer);
     }
 
     @Override
@@ -52,7 +64,19 @@ public class Tile extends RenderableBackground implements GameObject {
      * Sets Tile's sprite to its original one.
      */
     public void reset() {
+        final int oldColor = this.getColor();
         this.graphicComponent.setSprite(0);
+        this.notifyColorChange(oldColor);
+    }
+
+    /**
+     * Sets Tile's sprite to the one of the given color.
+     * @param color the color index
+     */
+    public void setColor(final int color) {
+        final int oldColor = this.getColor();
+        this.graphicComponent.setSprite(color);
+        this.notifyColorChange(oldColor);
     }
 
     /**
@@ -60,7 +84,11 @@ public class Tile extends RenderableBackground implements GameObject {
      * @return Number of points given by the action
      */
     public int increment() {
-        if (this.graphicComponent.setNextSprite()) {
+        final int oldColor = this.getColor();
+        final boolean forward = this.graphicComponent.setNextSprite();
+        //Reversible tiles go back to the first color without moving forward
+        this.notifyColorChange(oldColor);
+        if (forward) {
             if (this.graphicComponent.isTargetColor()) {
                 return PointComponentImpl.TARGET_COLOR_SCORE;
             } else {
@@ -69,4 +97,11 @@ public class Tile extends RenderableBackground implements GameObject {
         }
         return 0;
     }
+
+    private void notifyColorChange(final int oldColor) {
+        final int newColor = this.getColor();
+        if (newColor != oldColor) {
+            this.observers.forEach(o -> o.colorChanged(this, oldColor, newColor));
+        }
+    }
 }
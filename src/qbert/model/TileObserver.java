@@ -0,0 +1,14 @@
+package qbert.model;
+
+/**
+ * An object notified whenever a {@link Tile} changes its color.
+ */
+public interface TileObserver {
+
+    /**
+     * @param tile the {@link Tile} changed
+     * @param oldColor the previous color index
+     * @param newColor the current color index
+     */
+    void colorChanged(Tile tile, int oldColor, int newColor);
+}
@@ -2,7 +2,9 @@ package qbert.model.characters;
 
 import qbert.model.Collidable;
 import qbert.model.GameObject;
+import qbert.model.Snapshotable;
 import qbert.model.characters.states.CharacterState;
+import qbert.model.characters.states.CharacterStates;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
 import qbert.model.utilities.Position2D;
@@ -12,7 +14,7 @@ import qbert.model.components.graphics.CharacterGC;
 /**
  * An interface representing a visible and movable game character.
  */
-public interface Character extends GameObject, Renderable, Collidable {
+public interface Character extends GameObject, Renderable, Collidable, Snapshotable {
 
     /**
      * @return the {@link Position2D} where the {@link Character} is moving
@@ -65,10 +67,15 @@ public interface Character extends GameObject, Renderable, Collidable {
     CharacterState getCurrentState();
 
     /**
-     * @param state the new current {@link CharacterState} 
+     * @param state the new current {@link CharacterState}, which is entered again even if it's already the current one
      */
     void setCurrentState(CharacterState state);
 
+    /**
+     * @return the common {@link CharacterState}s of this {@link Character}
+     */
+    CharacterStates getStates();
+
     /**
      * @return the standing {@link CharacterState}
      */
@@ -84,4 +91,21 @@ public interface Character extends GameObject, Renderable, Collidable {
      * @param points the component used to update game points
      */
     void land(MapComponent map, PointComponent points);
+
+    /**
+     * Bring the {@link Character} back to its spawn state, alive, so that it can be reused instead of creating a new one.
+     * Its {@link CharacterGC} must be reset before.
+     * @param startPos the new first {@link Position2D} in the map
+     */
+    void reset(Position2D startPos);
+
+    /**
+     * @param observer the {@link PositionObserver} to be notified when the logic positions change
+     */
+    void addPositionObserver(PositionObserver observer);
+
+    /**
+     * @param observer the {@link PositionObserver} that won't be notified anymore
+     */
+    void removePositionObserver(PositionObserver observer);
 }
@@ -1,9 +1,14 @@
 package qbert.model.characters;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiPredicate;
 
+import qbert.model.LevelSnapshot;
 import qbert.model.characters.states.CharacterState;
-import qbert.model.characters.states.FallState;
+import qbert.model.characters.states.CharacterStates;
+import qbert.model.characters.states.StateKind;
+import qbert.model.characters.states.StateTransitions;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
 import qbert.model.components.TimerComponent;
@@ -22,6 +27,8 @@ import qbert.model.components.graphics.CharacterGC;
  */
 public abstract class CharacterImpl implements Character {
 
+    private static final StateKind[] KINDS = StateKind.values();
+
     private Position2D currentPos;
     private Position2D nextPos;
 
@@ -29,8 +36,11 @@ public abstract class CharacterImpl implements Character {
     private final CharacterGC graphics;
 
     private boolean dead;
+
+    private final CharacterStates states;
     private CharacterState currentState;
     private final int step;
+    private final List<PositionObserver> observers;
 
     /**
      * @param startPos the logical first {@link Position2D} in the map
@@ -38,12 +48,14 @@ public abstract class CharacterImpl implements Character {
      * @param graphics the relative {@link CharacterGC} to manage graphics
      */
     public CharacterImpl(final Position2D startPos, final float speed, final CharacterGC graphics) {
-        this.currentPos = new Position2D(startPos);
+        this.currentPos = startPos;
         this.characterSpeed = speed;
         this.graphics = graphics;
         this.dead = false;
-        this.nextPos = new Position2D(startPos);
+        this.nextPos = startPos;
+        this.states = new CharacterStates(this);
         this.step = 2;
+        this.observers = new ArrayList<>();
     }
 
     @Override
@@ -53,7 +65,11 @@ public abstract class CharacterImpl implements Character {
 
     @Override
     public final void setCurrentPosition(final Position2D currentGridPos) {
-        this.currentPos = new Position2D(currentGridPos);
+        final boolean changed = !this.currentPos.equals(currentGridPos);
+        this.currentPos = currentGridPos;
+        if (changed) {
+            this.notifyPositionChange();
+        }
     }
 
     @Override
@@ -63,7 +79,11 @@ public abstract class CharacterImpl implements Character {
 
     @Override
     public final void setNextPosition(final Position2D nextGridPos) {
-        this.nextPos = new Position2D(nextGridPos);
+        final boolean changed = !this.nextPos.equals(nextGridPos);
+        this.nextPos = nextGridPos;
+        if (changed) {
+            this.notifyPositionChange();
+        }
     }
 
     @Override
@@ -109,6 +129,13 @@ public abstract class CharacterImpl implements Character {
     @Override
     public final void setCurrentState(final CharacterState state) {
         this.currentState = state;
+        StateTransitions.record(state.getKind());
+        state.enter();
+    }
+
+    @Override
+    public final CharacterStates getStates() {
+        return this.states;
     }
 
     @Override
@@ -143,10 +170,140 @@ public abstract class CharacterImpl implements Character {
 
     @Override
     public final int getZIndex() {
-        if (this.getCurrentState() instanceof FallState) {
+        if (this.getCurrentState().getKind() == StateKind.FALL) {
             return Dimensions.MAP_BEHIND_INDEX;
         } else {
             return Dimensions.MAP_ROWS - this.getCurrentPosition().getY();
         }
     }
+
+    @Override
+    public final void reset(final Position2D startPos) {
+        this.setCurrentPosition(startPos);
+        this.setNextPosition(startPos);
+        this.dead = false;
+        this.resetCharacter();
+        this.setCurrentState(this.states.spawn());
+    }
+
+    /**
+     * Called by {@link #reset(Position2D)} before entering the spawn state, subclasses must restore here
+     * any state they change while playing.
+     */
+    protected void resetCharacter() {
+    }
+
+    /**
+     * Besides the logic data, the current state is saved with its progress and the starting point of its animation,
+     * since the movements end when the animation does.
+     */
+    @Override
+    public final void save(final LevelSnapshot snapshot) {
+        snapshot.putPosition(this.currentPos);
+        snapshot.putPosition(this.nextPos);
+        snapshot.putFloat(this.characterSpeed);
+        snapshot.putBoolean(this.dead);
+        snapshot.putByte(this.codeOf(this.currentState));
+        snapshot.putFloat(this.currentState.getProgress());
+        snapshot.putPosition(this.graphics.getCurrentAnimation().getStartPosition());
+        snapshot.putPosition(this.graphics.getPosition());
+        snapshot.putPosition(this.graphics.getSpawnPosition());
+        this.saveCharacter(snapshot);
+    }
+
+    @Override
+    public final void restore(final LevelSnapshot snapshot) {
+        final Position2D current = snapshot.getPosition();
+        final Position2D next = snapshot.getPosition();
+        final float speed = snapshot.getFloat();
+        final boolean dead = snapshot.getBoolean();
+        final int code = snapshot.getByte();
+        final float progress = snapshot.getFloat();
+        final Position2D animationStart = snapshot.getPosition();
+        final Position2D spritePos = snapshot.getPosition();
+        final Position2D spawnPos = snapshot.getPosition();
+
+        //The sprites and what the graphics compute from the spawn position are brought back first
+        this.graphics.reset(spawnPos);
+        this.restoreCharacter(snapshot);
+        //Only now, since what the subclasses restore can choose the state, like the standing one of Coily
+        final CharacterState state = this.stateOf(code);
+        //The animation of the state starts again from where it did and replays its steps
+        this.graphics.setPosition(animationStart);
+        this.currentState = state;
+        state.restore(progress);
+
+        this.setCurrentPosition(current);
+        this.setNextPosition(next);
+        this.characterSpeed = speed;
+        this.dead = dead;
+        this.graphics.setPosition(spritePos);
+        this.graphics.setSpawnPosition(spawnPos);
+    }
+
+    /**
+     * Called by {@link #save(LevelSnapshot)} after the common state, subclasses must save here the state they add.
+     * @param snapshot the {@link LevelSnapshot} to write to
+     */
+    protected void saveCharacter(final LevelSnapshot snapshot) {
+    }
+
+    /**
+     * Called by {@link #restore(LevelSnapshot)} once the graphics are reset to the spawn position and before the state is restored,
+     * to read what {@link #saveCharacter(LevelSnapshot)} wrote.
+     * @param snapshot the {@link LevelSnapshot} to read from
+     */
+    protected void restoreCharacter(final LevelSnapshot snapshot) {
+    }
+
+    /**
+     * @param kind a {@link StateKind} without a state in {@link CharacterStates}, other than the standing one
+     * @return the state of the given kind
+     */
+    protected CharacterState getSpecialState(final StateKind kind) {
+        throw new IllegalStateException(this.getClass().getSimpleName() + " has no " + kind + " state");
+    }
+
+    private int codeOf(final CharacterState state) {
+        return state.getKind() == StateKind.MOVE ? KINDS.length + this.states.indexOfMove(state) : state.getKind().ordinal();
+    }
+
+    private CharacterState stateOf(final int code) {
+        if (code >= KINDS.length) {
+            return this.states.move(code - KINDS.length);
+        }
+        switch (KINDS[code]) {
+        case SPAWN:
+            return this.states.spawn();
+        case STAND:
+            return this.getStandingState();
+        case LAND:
+            return this.states.land();
+        case FALL:
+            return this.states.fall();
+        case DEATH:
+            return this.states.death();
+        default:
+            return this.getSpecialState(KINDS[code]);
+        }
+    }
+
+    @Override
+    public final void addPositionObserver(final PositionObserver observer) {
+        this.observers.add(observer);
+    }
+
+    @Override
+    public final void removePositionObserver(final PositionObserver observer) {
+        this.observers.remove(observer);
+    }
+
+    /**
+     * Notify the observers that the current or the next position changed.
+     */
+    private void notifyPositionChange() {
+        for (final PositionObserver observer : this.observers) {
+            observer.positionChanged(this);
+        }
+    }
 }
@@ -1,14 +1,18 @@
 package qbert.model.characters;
 
+import java.util.Optional;
+
+import qbert.model.LevelSnapshot;
 import qbert.model.characters.states.CharacterState;
 import qbert.model.characters.states.CoilyAdultStandingState;
 import qbert.model.characters.states.CoilyBallStandingState;
-import qbert.model.characters.states.SpawnState;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
 import qbert.model.components.TimerComponent;
 import qbert.model.components.sounds.CharacterSC;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 import qbert.model.components.graphics.CoilyGC;
 import qbert.model.components.graphics.DownUpwardCharacterGC;
 
@@ -19,7 +23,8 @@ public class Coily extends CharacterImpl implements Snake {
 
     private final CoilyGC graphics;
     private final CharacterSC sounds;
-    private final int standingTime;
+    private final CharacterState ballStanding;
+    private final CharacterState adultStanding;
     private final Player qbert;
 
     private boolean adult;
@@ -31,15 +36,19 @@ public class Coily extends CharacterImpl implements Snake {
      * @param sounds the {@link DownUpwardCharacter}'s {@link CharacterSC}
      * @param standingTime the time passed on standing state
      * @param qbert the {@link Player} reference
+     * @param pursuit the {@link PursuitTable} of the map, if the {@link Player} must be chased along the shortest paths
+     * @param random the source of the random choices of the {@link Character}
      */
     public Coily(final Position2D startPos, final float speed, final CoilyGC graphics, final CharacterSC sounds,
-            final int standingTime, final Player qbert) {
+            final int standingTime, final Player qbert, final Optional<PursuitTable> pursuit,
+            final GameRandom random) {
         super(startPos, speed, graphics);
         this.graphics = graphics;
         this.sounds = sounds;
-        this.standingTime = standingTime;
+        this.ballStanding = new CoilyBallStandingState(this, standingTime, random);
+        this.adultStanding = new CoilyAdultStandingState(this, standingTime, qbert, pursuit, random);
         this.qbert = qbert;
-        this.setCurrentState(new SpawnState(this));
+        this.setCurrentState(this.getStates().spawn());
 
     }
 
@@ -49,6 +58,29 @@ public class Coily extends CharacterImpl implements Snake {
         this.graphics.transform();
     }
 
+    @Override
+    public final boolean isAdult() {
+        return this.adult;
+    }
+
+    @Override
+    protected final void resetCharacter() {
+        this.adult = false;
+    }
+
+    @Override
+    protected final void saveCharacter(final LevelSnapshot snapshot) {
+        snapshot.putBoolean(this.adult);
+    }
+
+    @Override
+    protected final void restoreCharacter(final LevelSnapshot snapshot) {
+        this.adult = snapshot.getBoolean();
+        if (this.adult) {
+            this.graphics.transform();
+        }
+    }
+
     @Override
     public final CharacterSC getCharcaterSoundComponent() {
         return this.sounds;
@@ -63,9 +95,9 @@ public class Coily extends CharacterImpl implements Snake {
     @Override
     public final CharacterState getStandingState() {
         if (!this.adult) {
-            return new CoilyBallStandingState(this, standingTime);
+            return this.ballStanding;
         } else {
-            return new CoilyAdultStandingState(this, standingTime, this.qbert);
+            return this.adultStanding;
         }
     }
 
@@ -1,10 +1,10 @@
 package qbert.model.characters;
 
-import qbert.model.characters.states.DeathState;
 import qbert.model.components.PointComponent;
 import qbert.model.components.PointComponentImpl;
 import qbert.model.components.TimerComponent;
 import qbert.model.components.TimerComponentImpl;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.CharacterGC;
 
@@ -19,15 +19,17 @@ public class GreenBall extends DownwardCharacter {
      * @param speed the {@link Character} movement speed
      * @param graphics the {@link Character}'s {@link CharacterGC}
      * @param standingTime the time passed on standing state
+     * @param random the source of the random choices of the {@link Character}
      */
-    public GreenBall(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime) {
-        super(startPos, speed, graphics, standingTime);
+    public GreenBall(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime,
+            final GameRandom random) {
+        super(startPos, speed, graphics, standingTime, random);
     }
 
     @Override
     protected final void collide(final Player qbert, final PointComponent points, final TimerComponent timer) {
         timer.freezeEntities(TimerComponentImpl.GREEN_BALL_FREEZE_TIME);
         points.score(PointComponentImpl.KILL_GREEN_BALL_SCORE, qbert);
-        this.setCurrentState(new DeathState(this));
+        this.setCurrentState(this.getStates().death());
     }
 }
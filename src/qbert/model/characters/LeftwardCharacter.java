@@ -2,7 +2,7 @@ package qbert.model.characters;
 
 import qbert.model.characters.states.CharacterState;
 import qbert.model.characters.states.LeftwardCharStandingState;
-import qbert.model.characters.states.SpawnState;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.CharacterGC;
 
@@ -13,22 +13,24 @@ import qbert.model.components.graphics.CharacterGC;
  */
 public abstract class LeftwardCharacter extends CharacterImpl {
 
-    private final int standingTime;
+    private final CharacterState standing;
 
     /**
      * @param startPos the first {@link Position2D} of the {@link Character} in the map
      * @param speed the {@link Character} movement speed
      * @param graphics the {@link Character}'s {@link CharacterGC}
      * @param standingTime the time passed on standing state
+     * @param random the source of the random choices of the {@link Character}
      */
-    public LeftwardCharacter(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime) {
+    public LeftwardCharacter(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime,
+            final GameRandom random) {
         super(startPos, speed, graphics);
-        this.setCurrentState(new SpawnState(this));
-        this.standingTime = standingTime;
+        this.setCurrentState(this.getStates().spawn());
+        this.standing = new LeftwardCharStandingState(this, standingTime, random);
     }
 
     @Override
     public final CharacterState getStandingState() {
-        return new LeftwardCharStandingState(this, this.standingTime);
+        return this.standing;
     }
 }
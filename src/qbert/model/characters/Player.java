@@ -1,5 +1,6 @@
 package qbert.model.characters;
 
+import qbert.model.characters.states.CharacterState;
 import qbert.model.components.sounds.PlayerSC;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.PlayerGC;
@@ -40,4 +41,9 @@ public interface Player extends DownUpwardCharacter {
      * @return the first logical {@link Position2D} (spawning position)
      */
     Position2D getSpawningPosition();
+
+    /**
+     * @return the {@link CharacterState} used while the {@link Player} is surfing a disk
+     */
+    CharacterState getOnDiskState();
 }
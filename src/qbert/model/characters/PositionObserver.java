@@ -0,0 +1,12 @@
+package qbert.model.characters;
+
+/**
+ * An object notified whenever a {@link Character} changes its current or next logic position.
+ */
+public interface PositionObserver {
+
+    /**
+     * @param character the {@link Character} moved
+     */
+    void positionChanged(Character character);
+}
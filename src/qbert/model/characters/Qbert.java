@@ -1,7 +1,10 @@
 package qbert.model.characters;
 
+import qbert.model.LevelSnapshot;
 import qbert.model.characters.states.CharacterState;
+import qbert.model.characters.states.QbertOnDiskState;
 import qbert.model.characters.states.QbertStandingState;
+import qbert.model.characters.states.StateKind;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
 import qbert.model.components.TimerComponent;
@@ -23,6 +26,8 @@ public class Qbert extends CharacterImpl implements Player {
 
     private final PlayerGC graphics;
     private final PlayerSC sounds;
+    private final CharacterState standing;
+    private final CharacterState onDisk;
     private int lives;
     private final Position2D spawningPos;
 
@@ -47,14 +52,21 @@ public class Qbert extends CharacterImpl implements Player {
         super(startPos, speed, graphics);
         this.graphics = graphics;
         this.sounds = sounds;
+        this.spawningPos = startPos;
+        this.standing = new QbertStandingState(this);
+        this.onDisk = new QbertOnDiskState(this);
         this.setCurrentState(this.getStandingState());
         this.lives = lives;
-        this.spawningPos = new Position2D(startPos);
     }
 
     @Override
     public final CharacterState getStandingState() {
-        return new QbertStandingState(this);
+        return this.standing;
+    }
+
+    @Override
+    public final CharacterState getOnDiskState() {
+        return this.onDisk;
     }
 
     @Override
@@ -103,6 +115,21 @@ public class Qbert extends CharacterImpl implements Player {
         return this.spawningPos;
     }
 
+    @Override
+    protected final void saveCharacter(final LevelSnapshot snapshot) {
+        snapshot.putInt(this.lives);
+    }
+
+    @Override
+    protected final void restoreCharacter(final LevelSnapshot snapshot) {
+        this.lives = snapshot.getInt();
+    }
+
+    @Override
+    protected final CharacterState getSpecialState(final StateKind kind) {
+        return kind == StateKind.ON_DISK ? this.onDisk : super.getSpecialState(kind);
+    }
+
     @Override
     protected final void collide(final Player qbert, final PointComponent points, final TimerComponent timer) {
         throw new UnsupportedOperationException();
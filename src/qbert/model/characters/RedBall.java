@@ -2,6 +2,7 @@ package qbert.model.characters;
 
 import qbert.model.components.PointComponent;
 import qbert.model.components.TimerComponent;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.CharacterGC;
 
@@ -17,9 +18,11 @@ public class RedBall extends DownwardCharacter {
      * @param speed the {@link Character} movement speed
      * @param graphics the {@link Character}'s {@link CharacterGC}
      * @param standingTime the time passed on standing state
+     * @param random the source of the random choices of the {@link Character}
      */
-    public RedBall(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime) {
-        super(startPos, speed, graphics, standingTime);
+    public RedBall(final Position2D startPos, final Float speed, final CharacterGC graphics, final Integer standingTime,
+            final GameRandom random) {
+        super(startPos, speed, graphics, standingTime, random);
     }
 
     @Override
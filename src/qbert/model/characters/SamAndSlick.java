@@ -1,10 +1,10 @@
 package qbert.model.characters;
 
-import qbert.model.characters.states.DeathState;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
 import qbert.model.components.PointComponentImpl;
 import qbert.model.components.TimerComponent;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.CharacterGC;
 
@@ -19,9 +19,11 @@ public class SamAndSlick extends DownwardCharacter {
      * @param speed the {@link Character} movement speed
      * @param graphics the {@link Character}'s {@link CharacterGC}
      * @param standingTime the time passed on standing state
+     * @param random the source of the random choices of the {@link Character}
      */
-    public SamAndSlick(final Position2D startPos, final float speed, final CharacterGC graphics, final Integer standingTime) {
-        super(startPos, speed, graphics, standingTime);
+    public SamAndSlick(final Position2D startPos, final float speed, final CharacterGC graphics, final Integer standingTime,
+            final GameRandom random) {
+        super(startPos, speed, graphics, standingTime, random);
     }
 
     @Override
@@ -32,6 +34,6 @@ public class SamAndSlick extends DownwardCharacter {
     @Override
     protected final void collide(final Player qbert, final PointComponent points, final TimerComponent timer) {
         points.score(PointComponentImpl.KILL_SAM_SLICK_SCORE, qbert);
-        this.setCurrentState(new DeathState(this));
+        this.setCurrentState(this.getStates().death());
     }
 }
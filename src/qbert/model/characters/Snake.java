@@ -13,4 +13,9 @@ public interface Snake extends DownUpwardCharacter {
      */
     void transform();
 
+    /**
+     * @return true if Coily is in its snake form
+     */
+    boolean isAdult();
+
 }
@@ -2,6 +2,7 @@ package qbert.model.characters;
 
 import qbert.model.components.PointComponent;
 import qbert.model.components.TimerComponent;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 import qbert.model.components.graphics.LeftwardCharacterGC;
 
@@ -16,9 +17,11 @@ public class Ugg extends LeftwardCharacter {
      * @param speed the {@link Character} movement speed
      * @param graphics the {@link Character}'s {@link RightwardCharacterGC}
      * @param standingTime the time passed on standing state
+     * @param random the source of the random choices of the {@link Character}
      */
-    public Ugg(final Position2D startPos, final Float speed, final LeftwardCharacterGC graphics, final Integer standingTime) {
-        super(startPos, speed, graphics, standingTime);
+    public Ugg(final Position2D startPos, final Float speed, final LeftwardCharacterGC graphics, final Integer standingTime,
+            final GameRandom random) {
+        super(startPos, speed, graphics, standingTime, random);
     }
 
     @Override
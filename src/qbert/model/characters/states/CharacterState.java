@@ -2,12 +2,36 @@ package qbert.model.characters.states;
 
 /**
  * The interface for a {@link Character} generic state. 
+ * States are created once for each {@link Character} and reused: {@link #enter()} is called every
+ * time the {@link Character} switches to the state.
  */
 public interface CharacterState {
 
+    /**
+     * Prepare the state, and its {@link Character}, to be the current one.
+     */
+    void enter();
+
     /**
      * This function update the state of the relative {@link CharacterState}.
      * @param dt the time passed since the last game cycle multiplied by the {@link Character} speed
      */
     void update(float dt);
+
+    /**
+     * @return the {@link StateKind} of this state
+     */
+    StateKind getKind();
+
+    /**
+     * @return how far the state went since it was entered, zero for the states which don't keep count of it
+     */
+    float getProgress();
+
+    /**
+     * Enter the state again when a {@link qbert.model.LevelSnapshot} is restored, without the sounds and the
+     * movements that happen only the first time, and bring it to the given progress.
+     * @param progress a value returned by {@link #getProgress()}
+     */
+    void restore(float progress);
 }
@@ -16,9 +16,24 @@ public abstract class CharacterStateImpl implements CharacterState {
         this.character = character;
     }
 
+    @Override
+    public void enter() {
+        //Nothing to prepare
+    }
+
     @Override
     public abstract void update(float dt);
 
+    @Override
+    public float getProgress() {
+        return 0;
+    }
+
+    @Override
+    public void restore(final float progress) {
+        this.enter();
+    }
+
     /**
      * @return the {@link Character} associated with this {@link CharacterState}
      */
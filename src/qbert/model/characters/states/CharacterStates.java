@@ -0,0 +1,146 @@
+package qbert.model.characters.states;
+
+import qbert.model.characters.Character;
+import qbert.model.characters.DownUpwardCharacter;
+
+/**
+ * The {@link CharacterState}s shared by all the {@link Character}s, created once for each of them
+ * when first needed and then reused on every transition.
+ */
+public final class CharacterStates {
+
+    private final Character character;
+
+    private CharacterState spawn;
+    private CharacterState land;
+    private CharacterState fall;
+    private CharacterState death;
+    private CharacterState moveDownLeft;
+    private CharacterState moveDownRight;
+    private CharacterState moveUpLeft;
+    private CharacterState moveUpRight;
+
+    /**
+     * @param character the {@link Character} owning the states
+     */
+    public CharacterStates(final Character character) {
+        this.character = character;
+    }
+
+    /**
+     * @return the {@link SpawnState}
+     */
+    public CharacterState spawn() {
+        if (this.spawn == null) {
+            this.spawn = new SpawnState(this.character);
+        }
+        return this.spawn;
+    }
+
+    /**
+     * @return the {@link LandState}
+     */
+    public CharacterState land() {
+        if (this.land == null) {
+            this.land = new LandState(this.character);
+        }
+        return this.land;
+    }
+
+    /**
+     * @return the {@link FallState}, playing the fall sound for {@link DownUpwardCharacter}s
+     */
+    public CharacterState fall() {
+        if (this.fall == null) {
+            this.fall = this.character instanceof DownUpwardCharacter
+                    ? new FallState((DownUpwardCharacter) this.character) : new FallState(this.character);
+        }
+        return this.fall;
+    }
+
+    /**
+     * @return the {@link DeathState}
+     */
+    public CharacterState death() {
+        if (this.death == null) {
+            this.death = new DeathState(this.character);
+        }
+        return this.death;
+    }
+
+    /**
+     * @return the {@link MoveState.DownLeft} state
+     */
+    public CharacterState moveDownLeft() {
+        if (this.moveDownLeft == null) {
+            this.moveDownLeft = new MoveState.DownLeft(this.character);
+        }
+        return this.moveDownLeft;
+    }
+
+    /**
+     * @return the {@link MoveState.DownRight} state
+     */
+    public CharacterState moveDownRight() {
+        if (this.moveDownRight == null) {
+            this.moveDownRight = new MoveState.DownRight(this.character);
+        }
+        return this.moveDownRight;
+    }
+
+    /**
+     * @return the {@link MoveState.UpLeft} state
+     * @throws ClassCastException if the {@link Character} isn't a {@link DownUpwardCharacter}
+     */
+    public CharacterState moveUpLeft() {
+        if (this.moveUpLeft == null) {
+            this.moveUpLeft = new MoveState.UpLeft((DownUpwardCharacter) this.character);
+        }
+        return this.moveUpLeft;
+    }
+
+    /**
+     * @return the {@link MoveState.UpRight} state
+     * @throws ClassCastException if the {@link Character} isn't a {@link DownUpwardCharacter}
+     */
+    public CharacterState moveUpRight() {
+        if (this.moveUpRight == null) {
+            this.moveUpRight = new MoveState.UpRight((DownUpwardCharacter) this.character);
+        }
+        return this.moveUpRight;
+    }
+
+    /**
+     * @param state a {@link MoveState} of the {@link Character}
+     * @return the index of the movement, see {@link #move(int)}
+     */
+    public int indexOfMove(final CharacterState state) {
+        if (state == this.moveDownLeft) {
+            return 0;
+        } else if (state == this.moveDownRight) {
+            return 1;
+        } else if (state == this.moveUpLeft) {
+            return 2;
+        } else if (state == this.moveUpRight) {
+            return 3;
+        }
+        throw new IllegalArgumentException("Not a movement of this character");
+    }
+
+    /**
+     * @param index the index of the movement: down-left, down-right, up-left or up-right
+     * @return the {@link MoveState} with the given index
+     */
+    public CharacterState move(final int index) {
+        switch (index) {
+        case 0:
+            return this.moveDownLeft();
+        case 1:
+            return this.moveDownRight();
+        case 2:
+            return this.moveUpLeft();
+        default:
+            return this.moveUpRight();
+        }
+    }
+}
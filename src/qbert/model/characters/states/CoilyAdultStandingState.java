@@ -1,9 +1,14 @@
 package qbert.model.characters.states;
 
+import java.util.Optional;
+
 import qbert.model.characters.Snake;
 import qbert.model.characters.Player;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 
 /**
  * The {@link CharacterState} used by {@link Snake} in its adult snake form when it 
@@ -13,57 +18,94 @@ public class CoilyAdultStandingState extends WaitTimerState {
 
     private final Player qbert;
     private final Snake coily;
+    private final Optional<PursuitTable> pursuit;
+    private final GameRandom random;
 
     /**
      * @param coily the {@link Snake} linked to this state
      * @param triggerTime the timer duration
      * @param qbert the {@link Player} reference
+     * @param pursuit the {@link PursuitTable} giving the shortest path to the {@link Player}, if any
+     * @param random the source of the random choices
      */
-    public CoilyAdultStandingState(final Snake coily, final int triggerTime, final Player qbert) {
+    public CoilyAdultStandingState(final Snake coily, final int triggerTime, final Player qbert, final Optional<PursuitTable> pursuit,
+            final GameRandom random) {
         super(coily, triggerTime);
         this.qbert = qbert;
         this.coily = coily;
-        this.getCharacter().setCurrentPosition(new Position2D(this.getCharacter().getNextPosition()));
+        this.pursuit = pursuit;
+        this.random = random;
+    }
+
+    @Override
+    public final void enter() {
+        super.enter();
+        this.getCharacter().setCurrentPosition(this.getCharacter().getNextPosition());
         this.coily.getDownUpwardGraphicComponent().setStandingAnimation();
     }
 
     @Override
     protected final void conclude() {
-        final Position2D targetPosition = new Position2D(this.qbert.getCurrentPosition());
-        final Position2D myPosition = new Position2D(this.getCharacter().getCurrentPosition());
+        final Position2D targetPosition = this.qbert.getCurrentPosition();
+        final Position2D myPosition = this.getCharacter().getCurrentPosition();
 
         if (targetPosition.equals(myPosition)) {
             return;
         }
 
-        final int dx, dy;
+        Optional<Direction> direction = Optional.empty();
+        if (this.pursuit.isPresent()) {
+            direction = this.pursuit.get().getNextHop(myPosition, targetPosition, this.random);
+        }
+        final Direction jump = direction.orElseGet(() -> this.approach(targetPosition, myPosition));
+
+        switch (jump) {
+        case UP_RIGHT:
+            this.getCharacter().setCurrentState(this.coily.getStates().moveUpRight());
+            break;
+        case UP_LEFT:
+            this.getCharacter().setCurrentState(this.coily.getStates().moveUpLeft());
+            break;
+        case DOWN_RIGHT:
+            this.getCharacter().setCurrentState(this.coily.getStates().moveDownRight());
+            break;
+        default:
+            this.getCharacter().setCurrentState(this.coily.getStates().moveDownLeft());
+            break;
+        }
+
+        final int step = this.getCharacter().getStep();
+        this.getCharacter().setNextPosition(this.getCharacter().getNextPosition().add(jump.getDx() * step, jump.getDy() * step));
+    }
 
-        if (targetPosition.getX() > myPosition.getX()) {
-            dx = this.getCharacter().getStep();
-        } else if (targetPosition.getX() < myPosition.getX()) {
-            dx = -this.getCharacter().getStep();
+    /**
+     * Used when the target is off the {@link PursuitTable}: jump toward it, randomly on the axis where it's aligned.
+     */
+    private Direction approach(final Position2D targetPosition, final Position2D myPosition) {
+        final boolean right;
+        if (targetPosition.getX() != myPosition.getX()) {
+            right = targetPosition.getX() > myPosition.getX();
         } else {
-            dx = ((Math.random() > 0.5) ? this.getCharacter().getStep() : -this.getCharacter().getStep());
+            right = this.random.nextBoolean();
         }
 
+        final boolean up;
         if (targetPosition.getY() > myPosition.getY() || myPosition.getY() == Dimensions.MAP_BOTTOM_EDGE) {
-            dy = this.getCharacter().getStep();
+            up = true;
         } else if (targetPosition.getY() == myPosition.getY()) {
-            dy = ((Math.random() > 0.5) ? this.getCharacter().getStep() : -this.getCharacter().getStep());
+            up = this.random.nextBoolean();
         } else {
-            dy = -this.getCharacter().getStep();
+            up = false;
         }
 
-        if (dx > 0 && dy > 0) {
-            this.getCharacter().setCurrentState(new MoveState.UpRight(this.coily));
-        } else if (dx < 0 && dy > 0) {
-            this.getCharacter().setCurrentState(new MoveState.UpLeft(this.coily));
-        } else if (dx > 0 && dy < 0) {
-            this.getCharacter().setCurrentState(new MoveState.DownRight(this.coily));
-        } else {
-            this.getCharacter().setCurrentState(new MoveState.DownLeft(this.coily));
+        if (up) {
+            return right ? Direction.UP_RIGHT : Direction.UP_LEFT;
         }
+        return right ? Direction.DOWN_RIGHT : Direction.DOWN_LEFT;
+    }
 
-        this.getCharacter().getNextPosition().vectorSum(new Position2D(dx, dy));
+    @Override
+    public final StateKind getKind() {
+        return StateKind.STAND;
     }
 }
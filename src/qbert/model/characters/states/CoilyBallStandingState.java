@@ -2,6 +2,7 @@ package qbert.model.characters.states;
 
 import qbert.model.characters.Snake;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.GameRandom;
 
 /**
  * The {@link CharacterState} used by {@link Snake} in its egg form when it 
@@ -14,11 +15,11 @@ public class CoilyBallStandingState extends DownwardCharStandingState {
     /**
      * @param coily the {@link Snake} linked to this state
      * @param triggerTime the timer duration
+     * @param random the source of the random choices
      */
-    public CoilyBallStandingState(final Snake coily, final int triggerTime) {
-        super(coily, triggerTime);
+    public CoilyBallStandingState(final Snake coily, final int triggerTime, final GameRandom random) {
+        super(coily, triggerTime, random);
         this.coily = coily;
-        this.getCharacter().getGraphicComponent().setStandingAnimation();
     }
 
     @Override
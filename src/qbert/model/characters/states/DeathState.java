@@ -12,12 +12,21 @@ public class DeathState extends CharacterStateImpl {
      */
     public DeathState(final Character character) {
         super(character);
-        character.getGraphicComponent().setDeathAnimation();
-        character.setDead(true);
+    }
+
+    @Override
+    public final void enter() {
+        this.getCharacter().getGraphicComponent().setDeathAnimation();
+        this.getCharacter().setDead(true);
     }
 
     @Override
     public final void update(final float dt) {
         this.getCharacter().getGraphicComponent().updateGraphics(dt);
     }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.DEATH;
+    }
 }
@@ -1,6 +1,7 @@
 package qbert.model.characters.states;
 
 import qbert.model.characters.Character;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 
 /**
@@ -8,28 +9,37 @@ import qbert.model.utilities.Position2D;
  */
 public class DownwardCharStandingState extends WaitTimerState {
 
+    private final GameRandom random;
+
     /**
      * @param character the {@link Character} linked to this state
      * @param triggerTime the timer duration
+     * @param random the source of the random choices
      */
-    public DownwardCharStandingState(final Character character, final int triggerTime) {
+    public DownwardCharStandingState(final Character character, final int triggerTime, final GameRandom random) {
         super(character, triggerTime);
-        this.getCharacter().setCurrentPosition(new Position2D(this.getCharacter().getNextPosition()));
+        this.random = random;
+    }
+
+    @Override
+    public void enter() {
+        super.enter();
+        this.getCharacter().setCurrentPosition(this.getCharacter().getNextPosition());
         this.getCharacter().getGraphicComponent().setStandingAnimation();
     }
 
     @Override
     protected final void conclude() {
         CharacterState nextState;
-        final Position2D newPos = new Position2D(getCharacter().getCurrentPosition());
+        Position2D newPos = this.getCharacter().getCurrentPosition();
         if (this.canAdvance()) {
-            newPos.setY(newPos.getY() - this.getCharacter().getStep());
-            if (Math.random() > 0.5) {
-                newPos.setX(newPos.getX() + this.getCharacter().getStep());
-                nextState = new MoveState.DownRight(this.getCharacter());
+            newPos = newPos.add(0, -this.getCharacter().getStep());
+            if (this.random.nextBoolean()) {
+                newPos = newPos.add(this.getCharacter().getStep(), 0);
+                nextState = this.getCharacter().getStates().moveDownRight();
             } else {
-                newPos.setX(newPos.getX() - this.getCharacter().getStep());
-                nextState = new MoveState.DownLeft(this.getCharacter());
+                newPos = newPos.add(-this.getCharacter().getStep(), 0);
+                nextState = this.getCharacter().getStates().moveDownLeft();
             }
             this.getCharacter().setNextPosition(newPos);
             this.getCharacter().setCurrentState(nextState);
@@ -42,4 +52,9 @@ public class DownwardCharStandingState extends WaitTimerState {
     protected boolean canAdvance() {
         return true;
     }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.STAND;
+    }
 }
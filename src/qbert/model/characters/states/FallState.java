@@ -1,32 +1,52 @@
 package qbert.model.characters.states;
 
+import java.util.Optional;
+
 import qbert.model.characters.Character;
 import qbert.model.characters.DownUpwardCharacter;
+import qbert.model.components.sounds.CharacterSC;
 
 /**
  * The {@link CharacterState} to manage the fall off the map.
  */
 public class FallState extends WaitAnimationState {
 
+    private final Optional<CharacterSC> sounds;
+
     /**
      * @param character the relative {@link Character}
      */
     public FallState(final Character character) {
         super(character);
-        this.getCharacter().getGraphicComponent().setFallAnimation();
+        this.sounds = Optional.empty();
     }
 
     /**
-     * @param character the relative {@link DownUpwardCharacter}
+     * @param character the relative {@link DownUpwardCharacter}, which also plays the fall sound
      */
     public FallState(final DownUpwardCharacter character) {
         super(character);
+        this.sounds = Optional.of(character.getCharcaterSoundComponent());
+    }
+
+    @Override
+    public final void enter() {
+        this.getCharacter().getGraphicComponent().setFallAnimation();
+        this.sounds.ifPresent(CharacterSC::setFallSound);
+    }
+
+    @Override
+    protected final void startAnimation() {
         this.getCharacter().getGraphicComponent().setFallAnimation();
-        character.getCharcaterSoundComponent().setFallSound();
     }
 
     @Override
     protected final void conclude() {
-        this.getCharacter().setCurrentState(new DeathState(this.getCharacter()));
+        this.getCharacter().setCurrentState(this.getCharacter().getStates().death());
+    }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.FALL;
     }
 }
@@ -12,6 +12,10 @@ public class LandState extends CharacterStateImpl {
      */
     public LandState(final Character character) {
         super(character);
+    }
+
+    @Override
+    public final void enter() {
         this.getCharacter().getGraphicComponent().setStandingAnimation();
     }
 
@@ -19,4 +23,9 @@ public class LandState extends CharacterStateImpl {
     public final void update(final float dt) {
         this.getCharacter().getGraphicComponent().updateGraphics(dt);
     }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.LAND;
+    }
 }
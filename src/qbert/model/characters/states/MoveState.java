@@ -17,7 +17,12 @@ public abstract class MoveState extends WaitAnimationState {
 
     @Override
     public final void conclude() {
-        this.getCharacter().setCurrentState(new LandState(this.getCharacter()));
+        this.getCharacter().setCurrentState(this.getCharacter().getStates().land());
+    }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.MOVE;
     }
 
     /**
@@ -30,6 +35,10 @@ public abstract class MoveState extends WaitAnimationState {
          */
         public DownLeft(final Character character) {
             super(character);
+        }
+
+        @Override
+        public final void enter() {
             this.getCharacter().getGraphicComponent().setMoveDownLeftAnimation();
         }
     }
@@ -44,6 +53,10 @@ public abstract class MoveState extends WaitAnimationState {
          */
         public DownRight(final Character character) {
             super(character);
+        }
+
+        @Override
+        public final void enter() {
             this.getCharacter().getGraphicComponent().setMoveDownRightAnimation();
         }
     }
@@ -53,12 +66,19 @@ public abstract class MoveState extends WaitAnimationState {
      */
     public static class UpRight extends MoveState {
 
+        private final DownUpwardCharacter character;
+
         /**
          * @param character the relative {@link DownUpwardCharacter}
          */
         public UpRight(final DownUpwardCharacter character) {
             super(character);
-            character.getDownUpwardGraphicComponent().setMoveUpRightAnimation();
+            this.character = character;
+        }
+
+        @Override
+        public final void enter() {
+            this.character.getDownUpwardGraphicComponent().setMoveUpRightAnimation();
         }
     }
 
@@ -67,12 +87,19 @@ public abstract class MoveState extends WaitAnimationState {
      */
     public static class UpLeft extends MoveState {
 
+        private final DownUpwardCharacter character;
+
         /**
          * @param character the relative {@link DownUpwardCharacter}
          */
         public UpLeft(final DownUpwardCharacter character) {
             super(character);
-            character.getDownUpwardGraphicComponent().setMoveUpLeftAnimation();
+            this.character = character;
+        }
+
+        @Override
+        public final void enter() {
+            this.character.getDownUpwardGraphicComponent().setMoveUpLeftAnimation();
         }
     }
 }
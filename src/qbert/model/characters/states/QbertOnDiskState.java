@@ -1,29 +1,45 @@
 package qbert.model.characters.states;
 
 import qbert.model.characters.Player;
-import qbert.model.utilities.Position2D;
 
 /**
  * The {@link CharacterState} used to manage {@link Player} when it's surfing the disk.
  */
 public class QbertOnDiskState extends WaitAnimationState {
 
+    private final Player qbert;
+
     /**
      * @param qbert the {@link Player} linked to this state.
      */
     public QbertOnDiskState(final Player qbert) {
         super(qbert);
-        qbert.setCurrentPosition(new Position2D(qbert.getNextPosition()));
-        qbert.setNextPosition(qbert.getSpawningPosition());
-        qbert.getPlayerGraphicComponent().setOnDiskAnimation();
-        qbert.getPlayerSoundComponent().setOnDiskSound();
+        this.qbert = qbert;
+    }
+
+    @Override
+    public final void enter() {
+        this.qbert.setCurrentPosition(this.qbert.getNextPosition());
+        this.qbert.setNextPosition(this.qbert.getSpawningPosition());
+        this.qbert.getPlayerGraphicComponent().setOnDiskAnimation();
+        this.qbert.getPlayerSoundComponent().setOnDiskSound();
+    }
+
+    @Override
+    protected final void startAnimation() {
+        this.qbert.getPlayerGraphicComponent().setOnDiskAnimation();
     }
 
     @Override
     protected final void conclude() {
         this.getCharacter().getGraphicComponent().setSpawnPosition(
-                new Position2D(this.getCharacter().getGraphicComponent().getPosition()));
-        this.getCharacter().setCurrentState(new SpawnState(this.getCharacter()));
+                this.getCharacter().getGraphicComponent().getPosition());
+        this.getCharacter().setCurrentState(this.getCharacter().getStates().spawn());
+    }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.ON_DISK;
     }
 
 }
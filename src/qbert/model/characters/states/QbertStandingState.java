@@ -1,7 +1,6 @@
 package qbert.model.characters.states;
 
 import qbert.model.characters.Player;
-import qbert.model.utilities.Position2D;
 
 /**
  * The {@link CharacterState} used to manage {@link Player} when it's standing, it differs from
@@ -12,13 +11,19 @@ public class QbertStandingState implements CharacterState {
     private final Player qbert;
     /**
      * @param qbert the {@link Player} linked to this state.
-     * Sets the spawn position to be the current one and starts the standing animation.
      */
     public QbertStandingState(final Player qbert) {
         this.qbert = qbert;
-        this.qbert.setCurrentPosition(new Position2D(this.qbert.getNextPosition()));
+    }
+
+    /**
+     * Sets the spawn position to be the current one and starts the standing animation.
+     */
+    @Override
+    public final void enter() {
+        this.qbert.setCurrentPosition(this.qbert.getNextPosition());
         this.qbert.getGraphicComponent().setSpawnPosition(
-                new Position2D(this.qbert.getGraphicComponent().getPosition()));
+                this.qbert.getGraphicComponent().getPosition());
         this.qbert.getGraphicComponent().setStandingAnimation();
     }
 
@@ -26,4 +31,19 @@ public class QbertStandingState implements CharacterState {
     public final void update(final float dt) {
         this.qbert.getGraphicComponent().updateGraphics(dt);
     }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.STAND;
+    }
+
+    @Override
+    public final float getProgress() {
+        return 0;
+    }
+
+    @Override
+    public final void restore(final float progress) {
+        this.enter();
+    }
 }
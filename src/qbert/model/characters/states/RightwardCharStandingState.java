@@ -2,6 +2,7 @@ package qbert.model.characters.states;
 
 import qbert.model.characters.RightwardCharacter;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
 
 /**
@@ -9,29 +10,43 @@ import qbert.model.utilities.Position2D;
  */
 public class RightwardCharStandingState extends WaitTimerState {
 
+    private final GameRandom random;
+
     /**
      * @param character the {@link RightwardCharacter} linked to this state
      * @param triggerTime the timer duration
+     * @param random the source of the random choices
      */
-    public RightwardCharStandingState(final RightwardCharacter character, final int triggerTime) {
+    public RightwardCharStandingState(final RightwardCharacter character, final int triggerTime, final GameRandom random) {
         super(character, triggerTime);
-        this.getCharacter().setCurrentPosition(new Position2D(this.getCharacter().getNextPosition()));
+        this.random = random;
+    }
+
+    @Override
+    public final void enter() {
+        super.enter();
+        this.getCharacter().setCurrentPosition(this.getCharacter().getNextPosition());
         this.getCharacter().getGraphicComponent().setStandingAnimation();
     }
 
     @Override
     protected final void conclude() {
         CharacterState nextState;
-        final Position2D newPos = new Position2D(getCharacter().getCurrentPosition());
-        newPos.setX(newPos.getX() + this.getCharacter().getStep());
-        if (newPos.getY() <= Dimensions.MAP_BOTTOM_EDGE || Math.random() > 0.5) {
-            newPos.setY(newPos.getY() + this.getCharacter().getStep());
-            nextState = new MoveState.DownLeft(this.getCharacter());
+        Position2D newPos = this.getCharacter().getCurrentPosition();
+        newPos = newPos.add(this.getCharacter().getStep(), 0);
+        if (newPos.getY() <= Dimensions.MAP_BOTTOM_EDGE || this.random.nextBoolean()) {
+            newPos = newPos.add(0, this.getCharacter().getStep());
+            nextState = this.getCharacter().getStates().moveDownLeft();
         } else {
-            newPos.setY(newPos.getY() - this.getCharacter().getStep());
-            nextState = new MoveState.DownRight(this.getCharacter());
+            newPos = newPos.add(0, -this.getCharacter().getStep());
+            nextState = this.getCharacter().getStates().moveDownRight();
         }
         this.getCharacter().setNextPosition(newPos);
         this.getCharacter().setCurrentState(nextState);
     }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.STAND;
+    }
 }
@@ -12,12 +12,21 @@ public class SpawnState extends WaitAnimationState {
      */
     public SpawnState(final Character character) {
         super(character);
+    }
+
+    @Override
+    public final void enter() {
         this.getCharacter().setDead(false);
         this.getCharacter().getGraphicComponent().setSpawnAnimation();
     }
 
     @Override
     protected final void conclude() {
-        this.getCharacter().setCurrentState(new LandState(this.getCharacter()));
+        this.getCharacter().setCurrentState(this.getCharacter().getStates().land());
+    }
+
+    @Override
+    public final StateKind getKind() {
+        return StateKind.SPAWN;
     }
 }
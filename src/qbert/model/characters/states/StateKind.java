@@ -0,0 +1,42 @@
+package qbert.model.characters.states;
+
+/**
+ * The kinds of {@link CharacterState}, used to tell which one a {@link Character} is in without type checks.
+ */
+public enum StateKind {
+
+    /**
+     * The {@link Character} is appearing in the map.
+     */
+    SPAWN,
+
+    /**
+     * The {@link Character} is waiting its next move, or the user input.
+     */
+    STAND,
+
+    /**
+     * The {@link Character} is jumping to its next position.
+     */
+    MOVE,
+
+    /**
+     * The {@link Character} just landed after a jump or spawn.
+     */
+    LAND,
+
+    /**
+     * The {@link Character} is falling off the map.
+     */
+    FALL,
+
+    /**
+     * The {@link Character} is dead.
+     */
+    DEATH,
+
+    /**
+     * The {@link Player} is surfing a disk.
+     */
+    ON_DISK
+}
@@ -0,0 +1,53 @@
+package qbert.model.characters.states;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the transitions of all the {@link Character}s into each {@link StateKind}.
+ */
+public final class StateTransitions {
+
+    private static final Map<StateKind, LongAdder> COUNTERS = new EnumMap<>(StateKind.class);
+
+    static {
+        for (final StateKind kind : StateKind.values()) {
+            COUNTERS.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * @param kind the {@link StateKind} of the state just entered
+     */
+    public static void record(final StateKind kind) {
+        COUNTERS.get(kind).increment();
+    }
+
+    /**
+     * @param kind a {@link StateKind}
+     * @return the number of transitions into a state of that kind
+     */
+    public static long get(final StateKind kind) {
+        return COUNTERS.get(kind).sum();
+    }
+
+    /**
+     * @return the number of transitions into each {@link StateKind}
+     */
+    public static Map<StateKind, Long> getAll() {
+        final Map<StateKind, Long> counts = new EnumMap<>(StateKind.class);
+        COUNTERS.forEach((k, v) -> counts.put(k, v.sum()));
+        return counts;
+    }
+
+    /**
+     * Set all the counters to zero.
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(LongAdder::reset);
+    }
+
+    private StateTransitions() {
+    }
+}
@@ -23,6 +23,30 @@ public abstract class WaitAnimationState extends CharacterStateImpl {
         }
     }
 
+    /**
+     * @return the time passed in the animation so far, measured in steps
+     */
+    @Override
+    public final float getProgress() {
+        return this.getCharacter().getGraphicComponent().getCurrentAnimation().getTime();
+    }
+
+    /**
+     * Start the animation again from the current sprite position and let the same time pass in it.
+     */
+    @Override
+    public final void restore(final float progress) {
+        this.startAnimation();
+        this.getCharacter().getGraphicComponent().updateGraphics(progress);
+    }
+
+    /**
+     * Set the animation of the state when it's restored, subclasses must override it if {@link #enter()} does more.
+     */
+    protected void startAnimation() {
+        this.enter();
+    }
+
     /**
      * Undefined method used to accomplish the operations after the conclusion of the animation. 
      */
@@ -8,7 +8,7 @@ import qbert.model.characters.Character;
 public abstract class WaitTimerState extends CharacterStateImpl {
 
     private final int triggerTime;
-    private int elapsedTime;
+    private float elapsedTime;
 
     /**
      * @param character the {@link Character} associated with this {@link CharacterState}
@@ -19,6 +19,14 @@ public abstract class WaitTimerState extends CharacterStateImpl {
         this.triggerTime = triggerTime;
     }
 
+    /**
+     * Restart the timer, subclasses overriding it must call this method.
+     */
+    @Override
+    public void enter() {
+        this.elapsedTime = 0;
+    }
+
     @Override 
     public final void update(final float dt) {
         if (this.triggerTime <= this.elapsedTime) {
@@ -30,6 +38,20 @@ public abstract class WaitTimerState extends CharacterStateImpl {
         }
     }
 
+    /**
+     * @return the time waited so far
+     */
+    @Override
+    public final float getProgress() {
+        return this.elapsedTime;
+    }
+
+    @Override
+    public final void restore(final float progress) {
+        this.enter();
+        this.elapsedTime = progress;
+    }
+
     /**
      * @return the timer duration
      */
@@ -0,0 +1,43 @@
+package qbert.model.collision;
+
+import java.util.List;
+
+import qbert.model.characters.Character;
+import qbert.model.characters.Player;
+
+/**
+ * A set of {@link Character}s able to tell which of them could collide with {@link Qbert}.
+ */
+public interface CandidateIndex {
+
+    /**
+     * @param character the {@link Character} to add
+     */
+    void add(Character character);
+
+    /**
+     * @param character the {@link Character} to remove
+     */
+    void remove(Character character);
+
+    /**
+     * @param character a {@link Character}
+     * @return true if the {@link Character} has been added and not removed
+     */
+    boolean contains(Character character);
+
+    /**
+     * @return the number of {@link Character}s
+     */
+    int size();
+
+    /**
+     * The candidates are the {@link Character}s whose current or next position is the current or next
+     * cell of {@link Qbert}, one of the two cells diagonally above him or outside the grid: every
+     * collision predicate of this package can only be true for them.
+     * The returned list may be reused by the next call.
+     * @param qbert the {@link Player}
+     * @return the {@link Character}s that could collide with the {@link Player}
+     */
+    List<Character> getCandidates(Player qbert);
+}
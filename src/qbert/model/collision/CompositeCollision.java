@@ -11,6 +11,16 @@ import qbert.model.characters.Character;
  */
 public class CompositeCollision implements BiPredicate<Player, Character> {
 
+    /**
+     * Shared instance used while the entities are moving.
+     */
+    public static final CompositeCollision MOVING = new CompositeCollision(false);
+
+    /**
+     * Shared instance used while the entities are frozen by the {@link GreenBall}.
+     */
+    public static final CompositeCollision FROZEN = new CompositeCollision(true);
+
     private final boolean entityFreezed;
 
     /**
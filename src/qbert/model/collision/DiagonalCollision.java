@@ -10,6 +10,11 @@ import qbert.model.characters.Character;
  */
 public class DiagonalCollision implements BiPredicate<Player, Character> {
 
+    /**
+     * Shared instance, the predicate has no state.
+     */
+    public static final DiagonalCollision INSTANCE = new DiagonalCollision();
+
     @Override
     public final boolean test(final Player a, final Character b) {
         return (a.getCurrentPosition().getX() - 1 == b.getCurrentPosition().getX() || a.getCurrentPosition().getX() + 1 == b.getCurrentPosition().getX()) 
@@ -0,0 +1,37 @@
+package qbert.model.collision;
+
+/**
+ * The available {@link CandidateIndex}es, chosen by how many enemies are expected in game.
+ */
+public enum IndexKind {
+
+    /**
+     * {@link OccupancyIndex}, a list of the characters in each cell of the map.
+     */
+    OCCUPANCY,
+
+    /**
+     * {@link ScanIndex}, a linear scan of packed positions, meant for stress runs with many more enemies than the normal levels.
+     */
+    SCAN;
+
+    /**
+     * @return a new empty {@link CandidateIndex} of this kind
+     */
+    public CandidateIndex createIndex() {
+        return this == SCAN ? new ScanIndex() : new OccupancyIndex();
+    }
+
+    /**
+     * @return the kind named by the "qbert.collision.index" system property, {@link #OCCUPANCY} if it's not set or not valid
+     */
+    public static IndexKind fromSystemProperty() {
+        final String name = System.getProperty("qbert.collision.index", OCCUPANCY.name());
+        for (final IndexKind kind : IndexKind.values()) {
+            if (kind.name().equalsIgnoreCase(name)) {
+                return kind;
+            }
+        }
+        return OCCUPANCY;
+    }
+}
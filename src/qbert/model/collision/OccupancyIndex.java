@@ -0,0 +1,136 @@
+package qbert.model.collision;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import qbert.model.characters.Character;
+import qbert.model.characters.Player;
+import qbert.model.characters.PositionObserver;
+import qbert.model.utilities.GridIndex;
+import qbert.model.utilities.Position2D;
+
+/**
+ * An index of the {@link Character}s occupying each logic cell of the map, used to find the
+ * ones that could collide with {@link Qbert} without testing all of them.
+ * Each {@link Character} is listed in the cells of both its current and next position, while the
+ * ones outside the grid are kept in a separate list which is always part of the candidates.
+ */
+public final class OccupancyIndex implements CandidateIndex, PositionObserver {
+
+    private final List<List<Character>> cells;
+    private final List<Character> outside;
+    private final Map<Character, int[]> occupied;
+    private final List<Character> candidates;
+    private final List<Character> candidatesView;
+
+    /**
+     * Creates an empty index.
+     */
+    public OccupancyIndex() {
+        this.cells = new ArrayList<>(GridIndex.SIZE);
+        for (int i = 0; i < GridIndex.SIZE; i++) {
+            this.cells.add(new ArrayList<>(2));
+        }
+        this.outside = new ArrayList<>();
+        this.occupied = new IdentityHashMap<>();
+        this.candidates = new ArrayList<>();
+        this.candidatesView = Collections.unmodifiableList(this.candidates);
+    }
+
+    @Override
+    public void add(final Character character) {
+        if (!this.occupied.containsKey(character)) {
+            final int[] indexes = {GridIndex.indexOf(character.getCurrentPosition()), GridIndex.indexOf(character.getNextPosition())};
+            this.occupied.put(character, indexes);
+            this.insert(character, indexes);
+            character.addPositionObserver(this);
+        }
+    }
+
+    @Override
+    public void remove(final Character character) {
+        final int[] indexes = this.occupied.remove(character);
+        if (indexes != null) {
+            this.delete(character, indexes);
+            character.removePositionObserver(this);
+        }
+    }
+
+    @Override
+    public boolean contains(final Character character) {
+        return this.occupied.containsKey(character);
+    }
+
+    @Override
+    public int size() {
+        return this.occupied.size();
+    }
+
+    @Override
+    public void positionChanged(final Character character) {
+        final int[] indexes = this.occupied.get(character);
+        if (indexes != null) {
+            final int current = GridIndex.indexOf(character.getCurrentPosition());
+            final int next = GridIndex.indexOf(character.getNextPosition());
+            if (current != indexes[0] || next != indexes[1]) {
+                this.delete(character, indexes);
+                indexes[0] = current;
+                indexes[1] = next;
+                this.insert(character, indexes);
+            }
+        }
+    }
+
+    @Override
+    public List<Character> getCandidates(final Player qbert) {
+        this.candidates.clear();
+        final Position2D current = qbert.getCurrentPosition();
+        this.collect(GridIndex.indexOf(current));
+        this.collect(GridIndex.indexOf(qbert.getNextPosition()));
+        this.collect(GridIndex.indexOf(current.getX() - 1, current.getY() + 1));
+        this.collect(GridIndex.indexOf(current.getX() + 1, current.getY() + 1));
+        for (final Character character : this.outside) {
+            this.addCandidate(character);
+        }
+        return this.candidatesView;
+    }
+
+    private void collect(final int index) {
+        if (index != GridIndex.OUTSIDE) {
+            for (final Character character : this.cells.get(index)) {
+                this.addCandidate(character);
+            }
+        }
+    }
+
+    private void addCandidate(final Character character) {
+        //Candidates are a handful, a linear search is cheaper than hashing
+        for (final Character c : this.candidates) {
+            if (c == character) {
+                return;
+            }
+        }
+        this.candidates.add(character);
+    }
+
+    private void insert(final Character character, final int[] indexes) {
+        this.listOf(indexes[0]).add(character);
+        if (indexes[1] != indexes[0]) {
+            this.listOf(indexes[1]).add(character);
+        }
+    }
+
+    private void delete(final Character character, final int[] indexes) {
+        this.listOf(indexes[0]).remove(character);
+        if (indexes[1] != indexes[0]) {
+            this.listOf(indexes[1]).remove(character);
+        }
+    }
+
+    private List<Character> listOf(final int index) {
+        return index == GridIndex.OUTSIDE ? this.outside : this.cells.get(index);
+    }
+}
@@ -1,6 +1,6 @@
 package qbert.model.collision;
 
-import qbert.model.characters.states.LandState;
+import qbert.model.characters.states.StateKind;
 
 import java.util.function.BiPredicate;
 
@@ -12,10 +12,15 @@ import qbert.model.characters.Player;
  */
 public class PassiveStompCollision implements BiPredicate<Player, Character> {
 
+    /**
+     * Shared instance, the predicate has no state.
+     */
+    public static final PassiveStompCollision INSTANCE = new PassiveStompCollision();
+
     @Override
     public final boolean test(final Player a, final Character b) {
         return b.getNextPosition().equals(a.getCurrentPosition()) 
-                && (a.getCurrentState() instanceof LandState || !a.isMoving());
+                && (a.getCurrentState().getKind() == StateKind.LAND || !a.isMoving());
     }
 
 }
@@ -0,0 +1,120 @@
+package qbert.model.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import qbert.model.characters.Character;
+import qbert.model.characters.Player;
+import qbert.model.characters.PositionObserver;
+import qbert.model.utilities.GridIndex;
+import qbert.model.utilities.Position2D;
+
+/**
+ * A {@link CandidateIndex} keeping the current and next position of each {@link Character} packed in two arrays,
+ * updated when they move, and finding the candidates with a linear scan of them. Unlike the {@link OccupancyIndex}
+ * a movement only writes two longs, so its cost stays predictable with thousands of enemies.
+ * The {@link Character}s are kept contiguous: the last one takes the place of a removed one.
+ */
+public final class ScanIndex implements CandidateIndex, PositionObserver {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] current;
+    private long[] next;
+    private Character[] characters;
+    private int size;
+
+    private final Map<Character, Integer> slots;
+    private final List<Character> candidates;
+    private final List<Character> candidatesView;
+
+    /**
+     * Creates an empty index.
+     */
+    public ScanIndex() {
+        this.current = new long[DEFAULT_CAPACITY];
+        this.next = new long[DEFAULT_CAPACITY];
+        this.characters = new Character[DEFAULT_CAPACITY];
+        this.slots = new IdentityHashMap<>();
+        this.candidates = new ArrayList<>();
+        this.candidatesView = Collections.unmodifiableList(this.candidates);
+    }
+
+    @Override
+    public void add(final Character character) {
+        if (!this.slots.containsKey(character)) {
+            if (this.size == this.characters.length) {
+                final int capacity = this.size * 2;
+                this.current = Arrays.copyOf(this.current, capacity);
+                this.next = Arrays.copyOf(this.next, capacity);
+                this.characters = Arrays.copyOf(this.characters, capacity);
+            }
+            this.characters[this.size] = character;
+            this.current[this.size] = character.getCurrentPosition().toLong();
+            this.next[this.size] = character.getNextPosition().toLong();
+            this.slots.put(character, this.size);
+            this.size++;
+            character.addPositionObserver(this);
+        }
+    }
+
+    @Override
+    public void remove(final Character character) {
+        final Integer slot = this.slots.remove(character);
+        if (slot != null) {
+            character.removePositionObserver(this);
+            this.size--;
+            if (slot != this.size) {
+                this.characters[slot] = this.characters[this.size];
+                this.current[slot] = this.current[this.size];
+                this.next[slot] = this.next[this.size];
+                this.slots.put(this.characters[slot], slot);
+            }
+            this.characters[this.size] = null;
+        }
+    }
+
+    @Override
+    public boolean contains(final Character character) {
+        return this.slots.containsKey(character);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void positionChanged(final Character character) {
+        final Integer slot = this.slots.get(character);
+        if (slot != null) {
+            this.current[slot] = character.getCurrentPosition().toLong();
+            this.next[slot] = character.getNextPosition().toLong();
+        }
+    }
+
+    @Override
+    public List<Character> getCandidates(final Player qbert) {
+        this.candidates.clear();
+        final Position2D q = qbert.getCurrentPosition();
+        final long qCurrent = q.toLong();
+        final long qNext = qbert.getNextPosition().toLong();
+        final long upLeft = Position2D.pack(q.getX() - 1, q.getY() + 1);
+        final long upRight = Position2D.pack(q.getX() + 1, q.getY() + 1);
+        for (int i = 0; i < this.size; i++) {
+            if (isNear(this.current[i], qCurrent, qNext, upLeft, upRight) || isNear(this.next[i], qCurrent, qNext, upLeft, upRight)) {
+                this.candidates.add(this.characters[i]);
+            }
+        }
+        return this.candidatesView;
+    }
+
+    private static boolean isNear(final long position, final long qCurrent, final long qNext, final long upLeft, final long upRight) {
+        return position == qCurrent || position == qNext || position == upLeft || position == upRight
+                || GridIndex.indexOf(Position2D.unpackX(position), Position2D.unpackY(position)) == GridIndex.OUTSIDE;
+    }
+}
@@ -1,6 +1,6 @@
 package qbert.model.collision;
 
-import qbert.model.characters.states.LandState;
+import qbert.model.characters.states.StateKind;
 
 import java.util.function.BiPredicate;
 
@@ -12,10 +12,15 @@ import qbert.model.characters.Player;
  */
 public class StompCollision implements BiPredicate<Player, Character> {
 
+    /**
+     * Shared instance, the predicate has no state.
+     */
+    public static final StompCollision INSTANCE = new StompCollision();
+
     @Override
     public final boolean test(final Player a, final Character b) {
         return a.getNextPosition().equals(b.getCurrentPosition()) 
-                && (b.getCurrentState() instanceof LandState || !b.isMoving());
+                && (b.getCurrentState().getKind() == StateKind.LAND || !b.isMoving());
     }
 
 }
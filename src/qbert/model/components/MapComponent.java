@@ -5,13 +5,16 @@ import java.util.Optional;
 
 import qbert.model.characters.Player;
 import qbert.model.Disk;
+import qbert.model.Snapshotable;
 import qbert.model.Tile;
+import qbert.model.utilities.CellKind;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 
 /**
  * Component managing information about the game map and its collections of {@link Tile} and {@link Disk}.
  */
-public interface MapComponent {
+public interface MapComponent extends Snapshotable {
 
     /**
      * Gets the {@link Tile} located in the said {@link Position2D}.
@@ -21,12 +24,29 @@ public interface MapComponent {
      */
    Optional<Tile> getTile(Position2D pos);
 
+   /**
+    * @param pos a logic position
+    * @return what the map contains in the given position
+    */
+   CellKind getCellKind(Position2D pos);
+
    /**
     * Gets the list of Tiles.
     * @return List of {@link Tile} currently in the map
     */
    List<Tile> getTileList();
 
+   /**
+    * @return the number of {@link Tile}s in the map
+    */
+   int getTilesNumber();
+
+   /**
+    * @param color a color index
+    * @return the number of {@link Tile}s currently of the given color, it's kept updated so it costs O(1)
+    */
+   int countTilesWithColor(int color);
+
    /**
     * Gets the list of Disks.
     * @return List of {@link Disk} currently in the map
@@ -53,6 +73,11 @@ public interface MapComponent {
     */
    boolean isOnVoid(Position2D logicPos);
 
+   /**
+    * @return the {@link PursuitTable} of the shortest paths on this map
+    */
+   PursuitTable getPursuitTable();
+
    /**
     * Checks if player is standing on a {@link Disk}.
     * @param qbert {@link Player} object
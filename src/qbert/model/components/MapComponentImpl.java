@@ -3,24 +3,26 @@ package qbert.model.components;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import qbert.model.characters.Player;
-import qbert.model.characters.states.QbertOnDiskState;
 import qbert.controller.Sprites;
 import qbert.model.Disk;
 import qbert.model.DiskImpl;
 import qbert.model.LevelSettings;
+import qbert.model.LevelSnapshot;
 import qbert.model.Tile;
+import qbert.model.TileObserver;
+import qbert.model.utilities.CellKind;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.GameRandom;
+import qbert.model.utilities.GridIndex;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 import qbert.model.components.graphics.DiskGC;
 import qbert.model.components.graphics.DiskGCImpl;
 import qbert.model.components.graphics.ReversibleTileGC;
@@ -30,25 +32,32 @@ import qbert.model.components.graphics.BaseTileGC;
 /**
  * Component managing information about the game map and its collections of {@link Tile} and {@link Disk}.
  */
-public class MapComponentImpl implements MapComponent {
+public class MapComponentImpl implements MapComponent, TileObserver {
 
-    private final Map<Integer, Map<Integer, Tile>> tiles;
-    private final Map<Integer, List<Integer>> sideTiles;
-    private final Map<Integer, Map<Integer, Optional<Disk>>> disks;
+    private final CellKind[] kinds;
+    private final Tile[] tiles;
+    private final Disk[] disks;
+    private final List<Tile> tileList;
+    private final List<Disk> diskList;
+    private final List<Disk> placedDisks;
+    private final int[] colorCounts;
+    private final PursuitTable pursuit;
 
     /**
      * Constructor of MapComponent class.
      * @param settings Object containing the parameters of the current level
+     * @param random the source of the random placement of the {@link Disk}s
      * @throws IOException 
      */
-    public MapComponentImpl(final LevelSettings settings) throws IOException {
+    public MapComponentImpl(final LevelSettings settings, final GameRandom random) throws IOException {
         int disksToPlace = settings.getDisksNumber();
         final int diskVelocity = 40;
-        final Random rand = new Random();
 
         final Map<Integer, BufferedImage> colors = settings.getColorMap();
-        this.tiles = new HashMap<>();
-        this.sideTiles = new HashMap<>();
+        this.kinds = new CellKind[GridIndex.SIZE];
+        Arrays.fill(this.kinds, CellKind.VOID);
+        this.tiles = new Tile[GridIndex.SIZE];
+        this.disks = new Disk[GridIndex.SIZE];
 
         for (int i = 1; i < Dimensions.MAP_ROWS; i += 2) {
             for (int j = i; j < Dimensions.MAP_COLUMNS - i; j += 4) {
@@ -60,54 +69,33 @@ public class MapComponentImpl implements MapComponent {
                     gComponent = new BaseTileGC(colors);
                 }
 
-                if (!this.tiles.containsKey(j)) {
-                    final Map<Integer, Tile> column = new HashMap<>();
-                    column.put(i, new Tile(new Position2D(j, i), gComponent));
-                    tiles.put(j, column);
-                } else {
-                    tiles.get(j).put(i, new Tile(new Position2D(j, i), gComponent));
-                }
+                final int index = GridIndex.indexOf(j, i);
+                this.kinds[index] = CellKind.TILE;
+                this.tiles[index] = new Tile(Position2D.of(j, i), gComponent);
             }
         }
 
         for (int i = 0; i < Dimensions.MAP_ROWS; i += 2) {
             for (int j = i; j < Dimensions.MAP_COLUMNS - i; j += 4) {
-
-                if (!this.sideTiles.containsKey(j)) {
-                    this.sideTiles.put(j, new ArrayList<Integer>());
-                }
-                this.sideTiles.get(j).add(i);
+                this.kinds[GridIndex.indexOf(j, i)] = CellKind.SIDE;
             }
         }
 
         for (int i = 0; i < Dimensions.MAP_ROWS; i += 2) {
             for (int j = i + 2; j < Dimensions.MAP_COLUMNS - i + 2; j += 4) {
-
-                if (!this.sideTiles.containsKey(j)) {
-                    this.sideTiles.put(j, new ArrayList<Integer>());
-                }
-                this.sideTiles.get(j).add(i);
+                this.kinds[GridIndex.indexOf(j, i)] = CellKind.SIDE;
             }
         }
 
-        disks = new HashMap<>();
-
         for (int i = 3; i <= Dimensions.MAP_ROWS; i += 2) {
-            final Map<Integer, Optional<Disk>> row = new HashMap<>();
-            final Map<Integer, Optional<Disk>> row2 = new HashMap<>();
-            row.put(i, Optional.empty());
-            row2.put(i, Optional.empty());
-
-            disks.put(i - 4, row);
-            disks.put(Dimensions.MAP_COLUMNS - i + 3, row2);
+            this.kinds[GridIndex.indexOf(i - 4, i)] = CellKind.DISK;
+            this.kinds[GridIndex.indexOf(Dimensions.MAP_COLUMNS - i + 3, i)] = CellKind.DISK;
         }
 
         while (disksToPlace > 0) {
-            final List<Integer> yes = IntStream.iterate(3, i -> i + 2).limit((Dimensions.MAP_ROWS / 2) - 1).mapToObj(i -> i).collect(Collectors.toList()); 
-            final int side = rand.nextInt(2);
-
-            Collections.shuffle(yes);
-            final int y = yes.stream().findFirst().get();
+            //One of the odd rows from the third
+            final int y = 3 + 2 * random.nextInt((Dimensions.MAP_ROWS / 2) - 1);
+            final int side = random.nextInt(2);
             int x;
 
             if (side > 0) {
@@ -116,15 +104,35 @@ public class MapComponentImpl implements MapComponent {
                 x = Dimensions.MAP_COLUMNS + 3 - y;
             }
 
-            if (disks.containsKey(x) && disks.get(x).containsKey(y) && !disks.get(x).get(y).isPresent()) {
+            final int index = GridIndex.indexOf(x, y);
+            if (index != GridIndex.OUTSIDE && this.kinds[index] == CellKind.DISK && this.disks[index] == null) {
                 final Map<Integer, BufferedImage> im = Sprites.getInstance().getDiskSprites();
-                final DiskGC diskG = new DiskGCImpl(new Position2D(x, y), im, diskVelocity);
-                final Disk disk = new DiskImpl(new Position2D(x, y), diskG);
-                disks.get(x).put(y, Optional.of(disk));
+                final DiskGC diskG = new DiskGCImpl(Position2D.of(x, y), im, diskVelocity);
+                this.disks[index] = new DiskImpl(Position2D.of(x, y), diskG);
 
                 disksToPlace--;
             }
         }
+
+        //Lists are ordered by column and then by row, as they used to be
+        this.tileList = new ArrayList<>();
+        this.diskList = new ArrayList<>();
+        for (int x = -GridIndex.X_OFFSET; x < GridIndex.WIDTH - GridIndex.X_OFFSET; x++) {
+            for (int y = 0; y < GridIndex.HEIGHT; y++) {
+                final int index = GridIndex.indexOf(x, y);
+                if (this.tiles[index] != null) {
+                    this.tileList.add(this.tiles[index]);
+                    this.tiles[index].addObserver(this);
+                }
+                if (this.disks[index] != null) {
+                    this.diskList.add(this.disks[index]);
+                }
+            }
+        }
+        this.placedDisks = Collections.unmodifiableList(new ArrayList<>(this.diskList));
+        this.colorCounts = new int[colors.size()];
+        this.tileList.forEach(t -> this.colorCounts[t.getColor()]++);
+        this.pursuit = new PursuitTable(this::getCellKind);
         this.reset();
     }
 
@@ -135,14 +143,28 @@ public class MapComponentImpl implements MapComponent {
      * in the requested {@link Position2D}, otherwise an {@link Optional} empty
      */
    public Optional<Tile> getTile(final Position2D pos) {
-       if (this.tiles.containsKey(pos.getX()) && this.tiles.get(pos.getX()).containsKey(pos.getY())) {
-           return Optional.of(tiles.get(pos.getX()).get(pos.getY()));
-       }
-       return Optional.empty();
+       final int index = GridIndex.indexOf(pos);
+       return index == GridIndex.OUTSIDE ? Optional.empty() : Optional.ofNullable(this.tiles[index]);
+   }
+
+   /**
+    * @param pos a logic position
+    * @return what the map contains in the given position
+    */
+   public CellKind getCellKind(final Position2D pos) {
+       final int index = GridIndex.indexOf(pos);
+       return index == GridIndex.OUTSIDE ? CellKind.VOID : this.kinds[index];
+   }
+
+   /**
+    * @return the {@link PursuitTable} of the shortest paths on this map
+    */
+   public PursuitTable getPursuitTable() {
+       return this.pursuit;
    }
 
    private void reset() {
-       this.getTileList().forEach(t -> t.reset());
+       this.tileList.forEach(t -> t.reset());
    }
 
    /**
@@ -150,14 +172,33 @@ public class MapComponentImpl implements MapComponent {
     * @return List of {@link Tile} currently in the map
     */
    public List<Tile> getTileList() {
-       return this.tiles
-               .entrySet()
-               .stream()
-               .flatMap((Map.Entry<Integer, Map<Integer, Tile>> me) -> me.getValue()
-                       .entrySet()
-                       .stream()
-                       .map(Map.Entry::getValue))
-               .collect(Collectors.toList());
+       return Collections.unmodifiableList(this.tileList);
+   }
+
+   /**
+    * @return the number of {@link Tile}s in the map
+    */
+   public int getTilesNumber() {
+       return this.tileList.size();
+   }
+
+   /**
+    * @param color a color index
+    * @return the number of {@link Tile}s currently of the given color
+    */
+   public int countTilesWithColor(final int color) {
+       return color >= 0 && color < this.colorCounts.length ? this.colorCounts[color] : 0;
+   }
+
+   /**
+    * Keep the number of tiles of each color updated.
+    * @param tile the {@link Tile} changed
+    * @param oldColor the previous color index
+    * @param newColor the current color index
+    */
+   public void colorChanged(final Tile tile, final int oldColor, final int newColor) {
+       this.colorCounts[oldColor]--;
+       this.colorCounts[newColor]++;
    }
 
    /**
@@ -165,16 +206,7 @@ public class MapComponentImpl implements MapComponent {
     * @return List of {@link Disk} currently in the map
     */
    public List<Disk> getDiskList() {
-       return this.disks
-               .entrySet()
-               .stream()
-               .flatMap((Map.Entry<Integer, Map<Integer, Optional<Disk>>> me) -> me.getValue()
-                       .entrySet()
-                       .stream()
-                       .map((Map.Entry<Integer, Optional<Disk>> opt) -> opt)
-                       .filter(opt -> opt.getValue().isPresent())
-                       .map(opt -> opt.getValue().get()))
-               .collect(Collectors.toList());
+       return Collections.unmodifiableList(this.diskList);
    }
 
    /**
@@ -183,8 +215,9 @@ public class MapComponentImpl implements MapComponent {
     * @return Number of points given by the action
     */
    public int incrementColor(final Position2D pos) {
-       if (this.getTile(pos).isPresent()) {
-           return this.getTile(pos).get().increment();
+       final Optional<Tile> tile = this.getTile(pos);
+       if (tile.isPresent()) {
+           return tile.get().increment();
        } else {
            return 0;
        }
@@ -195,8 +228,9 @@ public class MapComponentImpl implements MapComponent {
     * @param pos Position of the {@link Tile}
     */
    public void resetColor(final Position2D pos) {
-       if (this.getTile(pos).isPresent()) {
-           this.getTile(pos).get().reset();
+       final Optional<Tile> tile = this.getTile(pos);
+       if (tile.isPresent()) {
+           tile.get().reset();
        }
    }
 
@@ -206,8 +240,36 @@ public class MapComponentImpl implements MapComponent {
     * @return True if the position is outside the map
     */
    public boolean isOnVoid(final Position2D logicPos) {
-       return !(this.getTile(logicPos).isPresent() 
-               || (this.sideTiles.containsKey(logicPos.getX()) && this.sideTiles.get(logicPos.getX()).contains(logicPos.getY())));
+       final CellKind kind = this.getCellKind(logicPos);
+       return kind != CellKind.TILE && kind != CellKind.SIDE;
+   }
+
+   /**
+    * Saves the color of each {@link Tile} and which of the {@link Disk}s placed at the start are still there.
+    * @param snapshot the {@link LevelSnapshot} to write to
+    */
+   public void save(final LevelSnapshot snapshot) {
+       this.tileList.forEach(t -> snapshot.putByte(t.getColor()));
+       for (final Disk disk : this.placedDisks) {
+           snapshot.putBoolean(this.disks[GridIndex.indexOf(disk.getCurrentPosition())] != null);
+       }
+   }
+
+   /**
+    * @param snapshot the {@link LevelSnapshot} to read from, saved by this same map
+    */
+   public void restore(final LevelSnapshot snapshot) {
+       this.tileList.forEach(t -> t.setColor(snapshot.getByte()));
+       this.diskList.clear();
+       for (final Disk disk : this.placedDisks) {
+           final int index = GridIndex.indexOf(disk.getCurrentPosition());
+           if (snapshot.getBoolean()) {
+               this.disks[index] = disk;
+               this.diskList.add(disk);
+           } else {
+               this.disks[index] = null;
+           }
+       }
    }
 
    /**
@@ -216,15 +278,13 @@ public class MapComponentImpl implements MapComponent {
     * @return True if the player is on a disk
     */
    public boolean checkForDisk(final Player qbert) {
-       final Position2D logicPos = qbert.getNextPosition();
-       if (this.isOnVoid(logicPos) && disks.containsKey(logicPos.getX()) && disks.get(logicPos.getX()).containsKey(logicPos.getY())) {
-           final Optional<Disk> disk = disks.get(logicPos.getX()).get(logicPos.getY());
-           if (disk.isPresent()) {
-               disks.get(logicPos.getX()).put(logicPos.getY(), Optional.empty());
-               qbert.setCurrentState(new QbertOnDiskState(qbert));
-
-               return true;
-           }
+       final int index = GridIndex.indexOf(qbert.getNextPosition());
+       if (index != GridIndex.OUTSIDE && this.disks[index] != null) {
+           this.diskList.remove(this.disks[index]);
+           this.disks[index] = null;
+           qbert.setCurrentState(qbert.getOnDiskState());
+
+           return true;
        }
        return false;
    }
@@ -1,11 +1,12 @@
 package qbert.model.components;
 
+import qbert.model.Snapshotable;
 import qbert.model.characters.Player;
 
 /**
  * Component managing informations about player points.
  */
-public interface PointComponent {
+public interface PointComponent extends Snapshotable {
 
     /**
      * Increments the current points value of the given amount.
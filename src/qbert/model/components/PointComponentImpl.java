@@ -1,5 +1,6 @@
 package qbert.model.components;
 
+import qbert.model.LevelSnapshot;
 import qbert.model.characters.Player;
 
 /**
@@ -81,4 +82,16 @@ public class PointComponentImpl implements PointComponent {
     public int getPoints() {
         return this.points;
     }
+
+    @Override
+    public void save(final LevelSnapshot snapshot) {
+        snapshot.putInt(this.points);
+        snapshot.putInt(this.lifeThreshold);
+    }
+
+    @Override
+    public void restore(final LevelSnapshot snapshot) {
+        this.points = snapshot.getInt();
+        this.lifeThreshold = snapshot.getInt();
+    }
 }
@@ -1,9 +1,13 @@
 package qbert.model.components;
 
+import qbert.model.Snapshotable;
+
 /**
  * Component managing informations about the game timers and updates all the entities.
+ * Its snapshot holds the freeze of the enemies, the ones of everything can't be saved since they end by
+ * running a callback.
  */
-public interface TimerComponent {
+public interface TimerComponent extends Snapshotable {
 
     /**
      * @param elapsed the time passed since the last game cycle
@@ -22,4 +26,9 @@ public interface TimerComponent {
      * @param timeout Amount of time expressed in milliseconds
      */
     void freezeEverything(Runnable runnable, int timeout);
+
+    /**
+     * @return true while everything is frozen, as during the death and round change animations
+     */
+    boolean isEverythingFrozen();
 }
@@ -1,5 +1,10 @@
 package qbert.model.components;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import qbert.model.LevelSnapshot;
 import qbert.model.LevelStatus;
 import qbert.model.characters.Player;
 import qbert.model.spawner.Spawner;
@@ -7,6 +12,7 @@ import qbert.model.update.FreezeAll;
 import qbert.model.update.FreezeEntities;
 import qbert.model.update.FreezeNone;
 import qbert.model.update.UpdateStrategy;
+import qbert.model.utilities.TimerWheel;
 
 /**
  * Component managing informations about the game timers and updates all the entities.
@@ -27,12 +33,21 @@ public class TimerComponentImpl implements TimerComponent {
      */
     public static final int ROUND_ANIMATION_TIME = 2000;
 
+    private static final int WHEEL_SLOTS = 128;
+    private static final float WHEEL_TICK = 20f;
+
     private final Player qbert; 
     private final Spawner spawner;
     private final PointComponent points;
     private final MapComponent map;
     private final LevelStatus status;
     private UpdateStrategy um;
+    private final TimerWheel timers;
+    private Optional<TimerWheel.Timeout> entitiesTimeout;
+    private final List<TimerWheel.Timeout> everythingTimeouts;
+    private int everythingFrozen;
+    private float clock;
+    private float entitiesEnd;
 
     /**
      * @param qbert Instance of {@link Qbert}
@@ -47,46 +62,92 @@ public class TimerComponentImpl implements TimerComponent {
         this.points = points;
         this.map = map;
         this.status = status;
+        this.timers = new TimerWheel(WHEEL_SLOTS, WHEEL_TICK);
+        this.entitiesTimeout = Optional.empty();
+        this.everythingTimeouts = new ArrayList<>();
         this.um = new FreezeNone(qbert, spawner, points, map, this, status);
     }
 
     @Override
     public final void update(final float elapsed) {
         um.update(elapsed);
+        this.clock += elapsed;
+        this.timers.advance(elapsed);
     }
 
 
     @Override
     public final void freezeEntities(final int timeout) {
-        this.um = new FreezeEntities(qbert, spawner, points, map, this, status);
-        this.setTimeout(() -> {
-            this.um = new FreezeNone(qbert, spawner, points, map, this, status);
-        }, timeout);
+        //A new freeze restarts the countdown instead of being ended by the previous one
+        this.cancelEntitiesTimeout();
+        if (this.everythingFrozen == 0) {
+            this.startEntitiesFreeze(timeout);
+        }
     }
 
     @Override
     public final void freezeEverything(final Runnable runnable, final int timeout) {
+        this.cancelEntitiesTimeout();
+        this.everythingFrozen++;
         this.um = new FreezeAll(qbert, spawner, points, map, this, status);
-        this.setTimeout(() -> {
+        final TimerWheel.Timeout[] handle = new TimerWheel.Timeout[1];
+        handle[0] = this.timers.schedule(() -> {
+            this.everythingTimeouts.remove(handle[0]);
+            this.everythingFrozen--;
             runnable.run();
-            this.um = new FreezeNone(qbert, spawner, points, map, this, status);
+            if (this.everythingFrozen == 0) {
+                this.um = new FreezeNone(qbert, spawner, points, map, this, status);
+            }
         }, timeout);
+        this.everythingTimeouts.add(handle[0]);
+    }
+
+    @Override
+    public final boolean isEverythingFrozen() {
+        return this.everythingFrozen > 0;
     }
 
     /**
-     * Utility function that starts a timer which execute a function at the end of the given time.
-     * @param runnable Callback function
-     * @param timeout Time expressed in milliseconds
+     * Saves the time left to the end of the enemies freeze, zero if they aren't frozen.
      */
-    private void setTimeout(final Runnable runnable, final int timeout) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(timeout);
-                runnable.run();
-            } catch (Exception e) { 
-                runnable.run();
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+    @Override
+    public final void save(final LevelSnapshot snapshot) {
+        snapshot.putFloat(this.entitiesTimeout.isPresent() ? this.entitiesEnd - this.clock : 0);
+    }
+
+    /**
+     * Any freeze in progress is cancelled, callbacks included, before the saved one starts again.
+     */
+    @Override
+    public final void restore(final LevelSnapshot snapshot) {
+        this.cancelEntitiesTimeout();
+        this.everythingTimeouts.forEach(TimerWheel.Timeout::cancel);
+        this.everythingTimeouts.clear();
+        this.everythingFrozen = 0;
+        final float remaining = snapshot.getFloat();
+        if (remaining > 0) {
+            this.startEntitiesFreeze(remaining);
+        } else {
+            this.um = new FreezeNone(qbert, spawner, points, map, this, status);
+        }
+    }
+
+    private void startEntitiesFreeze(final float timeout) {
+        this.um = new FreezeEntities(qbert, spawner, points, map, this, status);
+        this.entitiesEnd = this.clock + timeout;
+        this.entitiesTimeout = Optional.of(this.timers.schedule(() -> {
+            this.entitiesTimeout = Optional.empty();
+            this.um = new FreezeNone(qbert, spawner, points, map, this, status);
+        }, timeout));
+    }
+
+    /**
+     * Cancel the end of the enemies freeze, if there is one pending.
+     */
+    private void cancelEntitiesTimeout() {
+        if (this.entitiesTimeout.isPresent()) {
+            this.entitiesTimeout.get().cancel();
+            this.entitiesTimeout = Optional.empty();
+        }
     }
 }
@@ -46,12 +46,22 @@ public abstract class AbstractTileGC implements TileGC {
 
     @Override
     public final void setPosition(final Position2D logicPos) {
-            this.spritePos = new Position2D(
+            this.spritePos = Position2D.of(
                     Dimensions.getBackgroundPos().getX() + (Dimensions.getCubeWidth() / 2) * ((logicPos.getX() - 1) / 2),
                     (Dimensions.getBackgroundPos().getY() + Dimensions.getBackgroundHeight()) - (Dimensions.getCubeHeight() * (((logicPos.getY() - 1) / 2) + 1) + Dimensions.getTileHeight() / 2)
             );
     }
 
+    @Override
+    public final void storePreviousPosition() {
+        //Tiles never move, there's nothing to interpolate
+    }
+
+    @Override
+    public final Position2D getPreviousPosition() {
+        return this.spritePos;
+    }
+
     @Override
     public final int getSpriteHeight() {
         return this.getSprite().getHeight();
@@ -60,19 +60,16 @@ public interface CharacterGC extends GraphicComponent {
     void setMoveDownRightAnimation();
 
     /**
-     * A method to flip on Y axis the current sprite.
-     */
-    void flipOnYImage();
-
-    /**
-     * A method to flip on X axis the current sprite.
+     * This function is called to update the graphics, e.g., the current {@link MovementAnimation}.
+     * @param graphicsSpeed the time passed since the last game cycle multiplied by the speed, that is the steps
+     * of the animation to do, fractions included as they add up over the next cycles
      */
-    void flipOnXImage();
+    void updateGraphics(float graphicsSpeed);
 
     /**
-     * This function is called to update the graphics, e.g., the current {@link MovementAnimation}.
-     * @param graphicsSpeed the graphics' speed calculated from the time passed since the last game cycle 
+     * Bring the component back to how it was when created, so that its {@link Character} can be reused.
+     * @param startSpritePos the new first position (physic) of the {@link Character} and also the spawn position
      */
-    void updateGraphics(float graphicsSpeed);
+    void reset(Position2D startSpritePos);
 
 }
@@ -1,7 +1,5 @@
 package qbert.model.components.graphics;
 
-import java.awt.geom.AffineTransform;
-import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 
 import qbert.model.components.graphics.animations.MovementAnimation;
@@ -15,6 +13,7 @@ public abstract class CharacterGCImpl implements CharacterGC {
     private BufferedImage sprite;
 
     private Position2D spritePos;
+    private Position2D previousPos;
     private Position2D spawnPos;
 
     private MovementAnimation animation;
@@ -25,8 +24,9 @@ public abstract class CharacterGCImpl implements CharacterGC {
      */
     public CharacterGCImpl(final BufferedImage sprite, final Position2D startSpritePos) {
         this.sprite = sprite;
-        this.spritePos = new Position2D(startSpritePos);
-        this.spawnPos = new Position2D(startSpritePos);
+        this.spritePos = startSpritePos;
+        this.previousPos = this.spritePos;
+        this.spawnPos = startSpritePos;
     }
 
     @Override
@@ -58,7 +58,17 @@ public abstract class CharacterGCImpl implements CharacterGC {
 
     @Override
     public final void setPosition(final Position2D newPos) {
-        this.spritePos = new Position2D(newPos);
+        this.spritePos = newPos;
+    }
+
+    @Override
+    public final void storePreviousPosition() {
+        this.previousPos = this.spritePos;
+    }
+
+    @Override
+    public final Position2D getPreviousPosition() {
+        return this.previousPos;
     }
 
     @Override
@@ -68,7 +78,7 @@ public abstract class CharacterGCImpl implements CharacterGC {
 
     @Override
     public final void setSpawnPosition(final Position2D newPos) {
-        this.spawnPos = new Position2D(newPos);
+        this.spawnPos = newPos;
     }
 
     @Override
@@ -100,23 +110,23 @@ public abstract class CharacterGCImpl implements CharacterGC {
     public abstract void setMoveDownRightAnimation();
 
     @Override
-    public final void flipOnYImage() {
-        final AffineTransform transformation = AffineTransform.getScaleInstance(-1, 1);
-        transformation.translate(-this.getSpriteWidth(), 0);
-        final AffineTransformOp operation = new AffineTransformOp(transformation, AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
-        this.setSprite(operation.filter(this.getSprite(), null));
+    public final void reset(final Position2D startSpritePos) {
+        this.spritePos = startSpritePos;
+        this.previousPos = startSpritePos;
+        this.spawnPos = startSpritePos;
+        this.animation = null;
+        this.resetGraphics();
     }
 
-    @Override
-    public final void flipOnXImage() {
-        final AffineTransform transformation = AffineTransform.getScaleInstance(1, -1);
-        transformation.translate(0, -this.getSpriteHeight());
-        final AffineTransformOp operation = new AffineTransformOp(transformation, AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
-        this.setSprite(operation.filter(this.getSprite(), null));
+    /**
+     * Called by {@link #reset(Position2D)} after the positions are restored, subclasses must restore here
+     * their first sprite and any other state they change while the {@link Character} is playing.
+     */
+    protected void resetGraphics() {
     }
 
     @Override
     public final void updateGraphics(final float graphicsSpeed) {
-        this.setPosition(this.animation.updateAnimation(Math.round(graphicsSpeed)));
+        this.setPosition(this.animation.advance(graphicsSpeed));
     }
 }
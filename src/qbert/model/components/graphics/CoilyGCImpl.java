@@ -12,7 +12,7 @@ public class CoilyGCImpl extends DownUpwardCharacterGCImpl implements CoilyGC {
 
     private final OneSideCharacterSprites adultSprites;
 
-    private final Position2D landPos;
+    private Position2D landPos;
 
     /**
      * @param ballSprites the {@link OneSideCharacterSprites} containing the {@link Character}'s standing front sprite when he's in his ball form
@@ -23,7 +23,17 @@ public class CoilyGCImpl extends DownUpwardCharacterGCImpl implements CoilyGC {
     public CoilyGCImpl(final OneSideCharacterSprites ballSprites, final OneSideCharacterSprites adultSprites, final OneSideCharacterSprites adultBackSprites, final Position2D startSpritePos) {
         super(ballSprites, adultBackSprites, startSpritePos);
         this.adultSprites = adultSprites;
-        this.landPos = new Position2D(this.getSpawnPosition().getX(), (Dimensions.getWindowHeight() - Dimensions.getBackgroundHeight()) / 2 + Dimensions.getCubeHeight() - this.getSpriteHeight());
+        this.landPos = this.calculateLandPosition();
+    }
+
+    @Override
+    protected final void resetGraphics() {
+        super.resetGraphics();
+        this.landPos = this.calculateLandPosition();
+    }
+
+    private Position2D calculateLandPosition() {
+        return Position2D.of(this.getSpawnPosition().getX(), (Dimensions.getWindowHeight() - Dimensions.getBackgroundHeight()) / 2 + Dimensions.getCubeHeight() - this.getSpriteHeight());
     }
 
     @Override
@@ -33,17 +43,14 @@ public class CoilyGCImpl extends DownUpwardCharacterGCImpl implements CoilyGC {
 
     @Override
     public final void transform() {
-        this.getPosition().setY(
-                this.getPosition().getY() + this.getFrontSprites().getStandSprite().getHeight() - this.adultSprites.getStandSprite().getHeight());
+        this.setPosition(this.getPosition().add(0,
+                this.getFrontSprites().getStandSprite().getHeight() - this.adultSprites.getStandSprite().getHeight()));
         this.setFrontSprites(this.adultSprites);
     }
 
     @Override
     public final void setSpawnAnimation() {
-        this.setSprite(this.getFrontSprites().getMoveSprite());
-        if (!this.isRight()) {
-            this.flipOnYImage();
-        }
+        this.setSprite(this.getFrontSprites().getMoveSprite(this.facing()));
         this.setCurrentAnimation(new StraightMovementAnimation(this.getSpawnPosition(), this.landPos));
     }
 }
@@ -1,8 +1,9 @@
 package qbert.model.components.graphics;
 
-import qbert.model.components.graphics.animations.ComposedAnimation;
+import qbert.model.components.graphics.animations.JumpTrajectory;
 import qbert.model.components.graphics.animations.StandingAnimation;
 import qbert.model.components.graphics.animations.StraightMovementAnimation;
+import qbert.model.sprites.Flip;
 import qbert.model.sprites.OneSideCharacterSprites;
 import qbert.model.utilities.Dimensions;
 import qbert.model.utilities.Position2D;
@@ -14,6 +15,7 @@ import qbert.model.utilities.Position2D;
 public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implements DownUpwardCharacterGC {
 
     private final OneSideCharacterSprites backSprites;
+    private final OneSideCharacterSprites firstFrontSprites;
     private OneSideCharacterSprites frontSprites;
 
 
@@ -37,12 +39,21 @@ public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implemen
      */
     public DownUpwardCharacterGCImpl(final OneSideCharacterSprites frontSprites, final OneSideCharacterSprites backSprites, final Position2D startSpritePos) {
         super(frontSprites.getStandSprite(), startSpritePos);
+        this.firstFrontSprites = frontSprites;
         this.frontSprites = frontSprites;
         this.backSprites = backSprites;
 
         this.front = true;
         this.right = true;
     }
+
+    @Override
+    protected void resetGraphics() {
+        this.frontSprites = this.firstFrontSprites;
+        this.setSprite(this.frontSprites.getStandSprite());
+        this.front = true;
+        this.right = true;
+    }
  
     @Override
     public final boolean isFront() {
@@ -80,13 +91,9 @@ public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implemen
     @Override
     public final void setStandingAnimation() {
         if (this.front) {
-            this.setSprite(this.frontSprites.getStandSprite());
+            this.setSprite(this.frontSprites.getStandSprite(this.facing()));
         } else {
-            this.setSprite(this.backSprites.getStandSprite());
-        }
-
-        if (!this.right) {
-            this.flipOnYImage();
+            this.setSprite(this.backSprites.getStandSprite(this.facing()));
         }
 
         this.setCurrentAnimation(new StandingAnimation(this.getPosition()));
@@ -98,26 +105,21 @@ public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implemen
     @Override
     public final void setFallAnimation() {
         if (this.front) {
-            this.setSprite(this.frontSprites.getMoveSprite());
+            this.setSprite(this.frontSprites.getMoveSprite(this.facing()));
         } else {
-            this.setSprite(this.backSprites.getMoveSprite());
-        }
-
-        if (!this.right) {
-            this.flipOnYImage();
+            this.setSprite(this.backSprites.getMoveSprite(this.facing()));
         }
 
         this.setCurrentAnimation(new StraightMovementAnimation(this.getPosition(), 
-                new Position2D(this.getPosition().getX(), Dimensions.getWindowHeight() + this.getSpriteHeight())));
+                Position2D.of(this.getPosition().getX(), Dimensions.getWindowHeight() + this.getSpriteHeight())));
     }
 
     @Override
     public final void setMoveDownLeftAnimation() {
-        this.setSprite(this.frontSprites.getMoveSprite());
+        this.setSprite(this.frontSprites.getMoveSprite(Flip.ON_Y));
         this.front = true;
         this.right = false;
-        this.flipOnYImage();
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownLeft(this.getPosition(), new Position2D(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_LEFT.from(this.getPosition(), Position2D.of(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
     }
 
     @Override
@@ -125,16 +127,15 @@ public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implemen
         this.setSprite(this.frontSprites.getMoveSprite());
         this.front = true;
         this.right = true;
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownRight(this.getPosition(), new Position2D(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_RIGHT.from(this.getPosition(), Position2D.of(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
     }
 
     @Override
     public final void setMoveUpLeftAnimation() {
-        this.setSprite(this.backSprites.getMoveSprite());
+        this.setSprite(this.backSprites.getMoveSprite(Flip.ON_Y));
         this.front = false;
         this.right = false;
-        this.flipOnYImage();
-        this.setCurrentAnimation(new ComposedAnimation.JumpUpLeft(this.getPosition(), new Position2D(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() - this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.UP_LEFT.from(this.getPosition(), Position2D.of(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() - this.jumpHeight)));
     }
 
     @Override
@@ -142,6 +143,13 @@ public abstract class DownUpwardCharacterGCImpl extends CharacterGCImpl implemen
         this.setSprite(this.backSprites.getMoveSprite());
         this.front = false;
         this.right = true;
-        this.setCurrentAnimation(new ComposedAnimation.JumpUpRight(this.getPosition(), new Position2D(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() - this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.UP_RIGHT.from(this.getPosition(), Position2D.of(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() - this.jumpHeight)));
+    }
+
+    /**
+     * @return the {@link Flip} of the sprites for the side the character is facing, they are drawn facing right
+     */
+    protected final Flip facing() {
+        return this.right ? Flip.NONE : Flip.ON_Y;
     }
 }
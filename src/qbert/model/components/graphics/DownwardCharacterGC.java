@@ -1,8 +1,9 @@
 package qbert.model.components.graphics;
 
-import qbert.model.components.graphics.animations.ComposedAnimation;
+import qbert.model.components.graphics.animations.JumpTrajectory;
 import qbert.model.components.graphics.animations.StandingAnimation;
 import qbert.model.components.graphics.animations.StraightMovementAnimation;
+import qbert.model.sprites.Flip;
 import qbert.model.sprites.OneSideCharacterSprites;
 import qbert.model.utilities.Dimensions;
 import qbert.model.utilities.Position2D;
@@ -18,7 +19,7 @@ public class DownwardCharacterGC extends CharacterGCImpl {
     private final int jumpWidth = Dimensions.getCubeWidth();
     private final int jumpHeight = Dimensions.getCubeHeight();
 
-    private final Position2D landPos;
+    private Position2D landPos;
 
     /**
      * A boolean to set true when the character has moved right (up or down).
@@ -32,7 +33,13 @@ public class DownwardCharacterGC extends CharacterGCImpl {
     public DownwardCharacterGC(final OneSideCharacterSprites sprites, final Position2D startSpritePos) {
         super(sprites.getStandSprite(), startSpritePos);
         this.sprites = sprites;
-        this.landPos = new Position2D(this.getSpawnPosition().getX(), (Dimensions.getWindowHeight() - Dimensions.getBackgroundHeight()) / 2 + Dimensions.getCubeHeight() - this.getSpriteHeight()); 
+        this.resetGraphics();
+    }
+
+    @Override
+    protected final void resetGraphics() {
+        this.setSprite(this.sprites.getStandSprite());
+        this.landPos = Position2D.of(this.getSpawnPosition().getX(), (Dimensions.getWindowHeight() - Dimensions.getBackgroundHeight()) / 2 + Dimensions.getCubeHeight() - this.getSpriteHeight()); 
         this.right = true;
     }
 
@@ -43,43 +50,37 @@ public class DownwardCharacterGC extends CharacterGCImpl {
 
     @Override
     public final void setStandingAnimation() {
-        this.setSprite(this.sprites.getStandSprite());
-        if (!this.right) {
-            this.flipOnYImage();
-        }
+        this.setSprite(this.sprites.getStandSprite(this.facing()));
         this.setCurrentAnimation(new StandingAnimation(this.getPosition()));
     }
 
     @Override
     public final void setSpawnAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
-        if (!this.right) {
-            this.flipOnYImage();
-        }
+        this.setSprite(this.sprites.getMoveSprite(this.facing()));
         this.setCurrentAnimation(new StraightMovementAnimation(this.getSpawnPosition(), this.landPos));
     }
 
     @Override
     public final void setFallAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
-        if (!this.right) {
-            this.flipOnYImage();
-        }
-        this.setCurrentAnimation(new StraightMovementAnimation(this.getPosition(), new Position2D(this.getPosition().getX(), Dimensions.getWindowHeight() + this.getSpriteHeight())));
+        this.setSprite(this.sprites.getMoveSprite(this.facing()));
+        this.setCurrentAnimation(new StraightMovementAnimation(this.getPosition(), Position2D.of(this.getPosition().getX(), Dimensions.getWindowHeight() + this.getSpriteHeight())));
     }
 
     @Override
     public final void setMoveDownLeftAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
+        this.setSprite(this.sprites.getMoveSprite(Flip.ON_Y));
         this.right = false;
-        this.flipOnYImage();
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownLeft(this.getPosition(), new Position2D(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_LEFT.from(this.getPosition(), Position2D.of(this.getPosition().getX() - this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
     }
 
     @Override
     public final void setMoveDownRightAnimation() {
         this.setSprite(this.sprites.getMoveSprite());
         this.right = true;
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownRight(this.getPosition(), new Position2D(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_RIGHT.from(this.getPosition(), Position2D.of(this.getPosition().getX() + this.jumpWidth / 2, this.getPosition().getY() + this.jumpHeight)));
+    }
+
+    private Flip facing() {
+        return this.right ? Flip.NONE : Flip.ON_Y;
     }
 }
@@ -19,7 +19,7 @@ public class GenericGC implements GraphicComponent {
      */
     public GenericGC(final BufferedImage sprite, final Position2D position) {
         this.sprite = sprite;
-        this.spritePos = new Position2D(position);
+        this.spritePos = position;
     }
 
     @Override
@@ -42,6 +42,16 @@ public class GenericGC implements GraphicComponent {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public final void storePreviousPosition() {
+        //The position can't change, there's nothing to interpolate
+    }
+
+    @Override
+    public final Position2D getPreviousPosition() {
+        return this.spritePos;
+    }
+
     @Override
     public final int getSpriteHeight() {
         return this.sprite.getHeight();
@@ -34,4 +34,14 @@ public interface GraphicComponent {
      * @param newPos the new sprite position ({@link Position2D}) in the space 
      */
     void setPosition(Position2D newPos);
+
+    /**
+     * Store the current sprite position as the one reached at the end of the previous simulation tick.
+     */
+    void storePreviousPosition();
+
+    /**
+     * @return the sprite position ({@link Position2D}) reached at the end of the previous simulation tick
+     */
+    Position2D getPreviousPosition();
 }
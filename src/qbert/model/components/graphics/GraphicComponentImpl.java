@@ -45,4 +45,14 @@ public class GraphicComponentImpl implements GraphicComponent {
     public final void setPosition(final Position2D newPos) {
         this.position = newPos;
     }
+
+    @Override
+    public final void storePreviousPosition() {
+        //Not animated, there's nothing to interpolate
+    }
+
+    @Override
+    public final Position2D getPreviousPosition() {
+        return this.position;
+    }
 }
@@ -2,6 +2,7 @@ package qbert.model.components.graphics;
 
 import qbert.model.components.graphics.animations.ComposedAnimation;
 import qbert.model.components.graphics.animations.DisplaceAnimation;
+import qbert.model.sprites.Flip;
 import qbert.model.sprites.OneSideCharacterSprites;
 import qbert.model.sprites.SpecialCharacterSprites;
 import qbert.model.utilities.Position2D;
@@ -23,17 +24,14 @@ public class PlayerGCImpl extends DownUpwardCharacterGCImpl implements PlayerGC
     public PlayerGCImpl(final OneSideCharacterSprites frontSprites, final OneSideCharacterSprites backSprites, final SpecialCharacterSprites specialSprites, final Position2D startSpritePos) {
         super(frontSprites, backSprites, startSpritePos);
         this.specialSprites = specialSprites;
-        this.firstSpawningPosition = new Position2D(startSpritePos);
+        this.firstSpawningPosition = startSpritePos;
     }
 
     @Override
     public final void setDeathAnimation() {
-        this.setPosition(new Position2D(this.getPosition().getX(), 
+        this.setPosition(Position2D.of(this.getPosition().getX(), 
                 this.getPosition().getY() - Math.abs(this.getSpriteHeight() - this.specialSprites.getDeathSprite().getHeight())));
-        this.setSprite(this.specialSprites.getDeathSprite());
-        if (this.isRight()) {
-            this.flipOnYImage();
-        }
+        this.setSprite(this.specialSprites.getDeathSprite(this.isRight() ? Flip.ON_Y : Flip.NONE));
     }
 
     @Override
@@ -47,7 +45,7 @@ public class PlayerGCImpl extends DownUpwardCharacterGCImpl implements PlayerGC
     @Override
     public final void setOnDiskAnimation() {
         this.setSprite(this.specialSprites.getOnDiskSprite());
-        final Position2D intermediatePos = new Position2D(this.firstSpawningPosition.getX(), this.firstSpawningPosition.getY() - this.getSpriteHeight() * 2);
-        this.setCurrentAnimation(new ComposedAnimation.OnDisk(this.getPosition(), intermediatePos, new Position2D(this.firstSpawningPosition)));
+        final Position2D intermediatePos = Position2D.of(this.firstSpawningPosition.getX(), this.firstSpawningPosition.getY() - this.getSpriteHeight() * 2);
+        this.setCurrentAnimation(new ComposedAnimation.OnDisk(this.getPosition(), intermediatePos, this.firstSpawningPosition));
     }
 }
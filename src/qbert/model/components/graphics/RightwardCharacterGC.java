@@ -1,8 +1,9 @@
 package qbert.model.components.graphics;
 
-import qbert.model.components.graphics.animations.ComposedAnimation;
+import qbert.model.components.graphics.animations.JumpTrajectory;
 import qbert.model.components.graphics.animations.StandingAnimation;
 import qbert.model.components.graphics.animations.StraightMovementAnimation;
+import qbert.model.sprites.Flip;
 import qbert.model.sprites.OneSideCharacterSprites;
 import qbert.model.utilities.Dimensions;
 import qbert.model.utilities.Position2D;
@@ -16,7 +17,7 @@ public class RightwardCharacterGC extends CharacterGCImpl {
     private final int jumpWidth = Dimensions.getCubeHeight();
     private final int jumpHeight = Dimensions.getCubeWidth() / 2;
 
-    private final Position2D landPos;
+    private Position2D landPos;
 
     /**
      * A boolean to set true when the character is facing up.
@@ -32,7 +33,13 @@ public class RightwardCharacterGC extends CharacterGCImpl {
     public RightwardCharacterGC(final OneSideCharacterSprites sprites, final Position2D startSpritePos) {
         super(sprites.getStandSprite(), startSpritePos);
         this.sprites = sprites;
-        this.landPos = new Position2D(Dimensions.getBackgroundPos().getX() - this.jumpHeight, this.getSpawnPosition().getY()); 
+        this.resetGraphics();
+    }
+
+    @Override
+    protected final void resetGraphics() {
+        this.setSprite(this.sprites.getStandSprite());
+        this.landPos = Position2D.of(Dimensions.getBackgroundPos().getX() - this.jumpHeight, this.getSpawnPosition().getY()); 
         this.up = true;
     }
 
@@ -43,46 +50,40 @@ public class RightwardCharacterGC extends CharacterGCImpl {
 
     @Override
     public final void setStandingAnimation() {
-        this.setSprite(this.sprites.getStandSprite());
-        if (!this.up) {
-            this.flipOnXImage();
-        }
+        this.setSprite(this.sprites.getStandSprite(this.facing()));
         this.setCurrentAnimation(new StandingAnimation(this.getPosition()));
     }
 
     @Override
     public final void setSpawnAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
-        if (!this.up) {
-            this.flipOnXImage();
-        }
+        this.setSprite(this.sprites.getMoveSprite(this.facing()));
         this.setCurrentAnimation(new StraightMovementAnimation(this.getSpawnPosition(), this.landPos));
     }
 
     @Override
     public final void setFallAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
-        if (!this.up) {
-            this.flipOnXImage();
-        }
+        this.setSprite(this.sprites.getMoveSprite(this.facing()));
         this.setCurrentAnimation(new StraightMovementAnimation(this.getPosition(), 
-                new Position2D(Dimensions.getWindowWidth() + this.getSpriteWidth(), this.getPosition().getY())));
+                Position2D.of(Dimensions.getWindowWidth() + this.getSpriteWidth(), this.getPosition().getY())));
     }
 
     @Override
     public final void setMoveDownLeftAnimation() {
-        this.setSprite(this.sprites.getMoveSprite());
+        this.setSprite(this.sprites.getMoveSprite(Flip.ON_X));
         this.up = false;
-        this.flipOnXImage();
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownLeftRightward(this.getPosition(), 
-                new Position2D(this.getPosition().getX() + this.jumpHeight, this.getPosition().getY() - this.jumpWidth)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_LEFT_RIGHTWARD.from(this.getPosition(), 
+                Position2D.of(this.getPosition().getX() + this.jumpHeight, this.getPosition().getY() - this.jumpWidth)));
     }
 
     @Override
     public final void setMoveDownRightAnimation() {
         this.setSprite(this.sprites.getMoveSprite());
         this.up = true;
-        this.setCurrentAnimation(new ComposedAnimation.JumpDownRightRightward(this.getPosition(), 
-                new Position2D(this.getPosition().getX() + this.jumpHeight, this.getPosition().getY() + this.jumpWidth)));
+        this.setCurrentAnimation(JumpTrajectory.DOWN_RIGHT_RIGHTWARD.from(this.getPosition(), 
+                Position2D.of(this.getPosition().getX() + this.jumpHeight, this.getPosition().getY() + this.jumpWidth)));
+    }
+
+    private Flip facing() {
+        return this.up ? Flip.NONE : Flip.ON_X;
     }
 }
@@ -29,13 +29,13 @@ public class ArcClockwiseAnimation extends MovementAnimationImpl {
 
             //If the target has an Y coordinate that is less than the current the center of the circumference is under the current position, above otherwise
             if (this.getCurrentPosition().getY() > this.getTargetPosition().getY()) {
-                this.centerPos = new Position2D(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() - this.radius));
+                this.centerPos = Position2D.of(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() - this.radius));
             } else {
-                this.centerPos = new Position2D(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() + this.radius));
+                this.centerPos = Position2D.of(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() + this.radius));
             }
         } else {
             this.radius = Math.abs(this.getCurrentPosition().getX() - targetPos.getX()) / 2;
-            this.centerPos = new Position2D((int) (this.getCurrentPosition().getX() + this.radius), this.getCurrentPosition().getY());
+            this.centerPos = Position2D.of((int) (this.getCurrentPosition().getX() + this.radius), this.getCurrentPosition().getY());
         }
 
         this.currentAngle = startAngle;
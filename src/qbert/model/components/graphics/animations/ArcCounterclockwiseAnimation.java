@@ -29,13 +29,13 @@ public class ArcCounterclockwiseAnimation extends MovementAnimationImpl {
 
             //If the target has an Y coordinate that is more than the current the center of the circumference is above the current position, under otherwise
             if (this.getCurrentPosition().getY() < this.getTargetPosition().getY()) {
-                this.centerPos = new Position2D(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() + this.radius));
+                this.centerPos = Position2D.of(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() + this.radius));
             } else {
-                this.centerPos = new Position2D(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() - this.radius)); 
+                this.centerPos = Position2D.of(this.getCurrentPosition().getX(), (int) (this.getCurrentPosition().getY() - this.radius)); 
             }
         } else {
             this.radius = Math.abs(this.getCurrentPosition().getX() - targetPos.getX()) / 2;
-            this.centerPos = new Position2D((int) (this.getCurrentPosition().getX() - this.radius), this.getCurrentPosition().getY());
+            this.centerPos = Position2D.of((int) (this.getCurrentPosition().getX() - this.radius), this.getCurrentPosition().getY());
         }
 
         this.currentAngle = startAngle;
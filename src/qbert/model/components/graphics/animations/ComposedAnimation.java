@@ -60,7 +60,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownRight(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(targetPos.getX(), startPos.getY());
+            final Position2D intermediatePosition = Position2D.of(targetPos.getX(), startPos.getY());
 
             this.getAnimations().add(new ArcClockwiseAnimation(startPos, intermediatePosition, ANGLE180, ANGLE360));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -78,7 +78,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownRightRightward(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new ArcCounterclockwiseAnimation(startPos, intermediatePosition, ANGLE270, ANGLE90));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -96,7 +96,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownRightLeftward(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new ArcCounterclockwiseAnimation(startPos, intermediatePosition, ANGLE90, -ANGLE90));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -114,7 +114,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownLeft(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(targetPos.getX(), startPos.getY());
+            final Position2D intermediatePosition = Position2D.of(targetPos.getX(), startPos.getY());
 
             this.getAnimations().add(new ArcCounterclockwiseAnimation(startPos, intermediatePosition, ANGLE0, -ANGLE180));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -132,7 +132,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownLeftRightward(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new ArcClockwiseAnimation(startPos, intermediatePosition, ANGLE90, ANGLE270));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -150,7 +150,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpDownLeftLeftward(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new ArcClockwiseAnimation(startPos, intermediatePosition, -ANGLE90, ANGLE90));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePosition, targetPos));
@@ -168,7 +168,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpUpRight(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new StraightMovementAnimation(startPos, intermediatePosition));
             this.getAnimations().add(new ArcClockwiseAnimation(intermediatePosition, targetPos, ANGLE180, ANGLE360));
@@ -187,7 +187,7 @@ public class ComposedAnimation extends MovementAnimationImpl {
          */
         public JumpUpLeft(final Position2D startPos, final Position2D targetPos) {
             super(startPos, targetPos);
-            final Position2D intermediatePosition = new Position2D(startPos.getX(), targetPos.getY());
+            final Position2D intermediatePosition = Position2D.of(startPos.getX(), targetPos.getY());
 
             this.getAnimations().add(new StraightMovementAnimation(startPos, intermediatePosition));
             this.getAnimations().add(new ArcCounterclockwiseAnimation(intermediatePosition, targetPos, ANGLE0, -ANGLE180));
@@ -207,8 +207,8 @@ public class ComposedAnimation extends MovementAnimationImpl {
         public OnDisk(final Position2D startPos,  final Position2D intermediatePos, final Position2D targetPos) {
             super(startPos, targetPos);
 
-            this.getAnimations().add(new StraightMovementAnimation(startPos, new Position2D(startPos.getX(), intermediatePos.getY())));
-            this.getAnimations().add(new StraightMovementAnimation(new Position2D(startPos.getX(), intermediatePos.getY()), intermediatePos));
+            this.getAnimations().add(new StraightMovementAnimation(startPos, Position2D.of(startPos.getX(), intermediatePos.getY())));
+            this.getAnimations().add(new StraightMovementAnimation(Position2D.of(startPos.getX(), intermediatePos.getY()), intermediatePos));
             this.getAnimations().add(new StraightMovementAnimation(intermediatePos, targetPos));
         }
     }
@@ -0,0 +1,55 @@
+package qbert.model.components.graphics.animations;
+
+/**
+ * The curves an animation can follow over its duration, from the normalised time t in [0, 1]
+ * to how far along its steps it is, from 0 to 1. All of them start at 0 and end at 1, so they
+ * change how the animation moves but not how long it lasts.
+ */
+public enum Easing {
+
+    /**
+     * The same speed for the whole animation.
+     */
+    LINEAR {
+        @Override
+        public double apply(final double t) {
+            return t;
+        }
+    },
+
+    /**
+     * Start slowly and speed up.
+     */
+    EASE_IN {
+        @Override
+        public double apply(final double t) {
+            return t * t;
+        }
+    },
+
+    /**
+     * Start fast and slow down at the end.
+     */
+    EASE_OUT {
+        @Override
+        public double apply(final double t) {
+            return t * (2 - t);
+        }
+    },
+
+    /**
+     * Speed up in the first half and slow down in the second one.
+     */
+    EASE_IN_OUT {
+        @Override
+        public double apply(final double t) {
+            return t * t * (3 - 2 * t);
+        }
+    };
+
+    /**
+     * @param t the normalised time, from 0 to 1
+     * @return the fraction of the animation done at that time, from 0 to 1
+     */
+    public abstract double apply(double t);
+}
@@ -0,0 +1,125 @@
+package qbert.model.components.graphics.animations;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+
+import qbert.model.utilities.Position2D;
+
+/**
+ * The jumps of the characters, an arc and a straight line as built by {@link ComposedAnimation}.
+ * The steps of a jump only depend on how long it is, which is fixed by the size of the cubes, so their offsets
+ * from the start are computed once and every {@link TrajectoryAnimation} of the jump walks through the same tables.
+ */
+public enum JumpTrajectory {
+
+    /**
+     * {@link ComposedAnimation.JumpDownLeft}.
+     */
+    DOWN_LEFT(ComposedAnimation.JumpDownLeft::new),
+
+    /**
+     * {@link ComposedAnimation.JumpDownRight}.
+     */
+    DOWN_RIGHT(ComposedAnimation.JumpDownRight::new),
+
+    /**
+     * {@link ComposedAnimation.JumpUpLeft}.
+     */
+    UP_LEFT(ComposedAnimation.JumpUpLeft::new),
+
+    /**
+     * {@link ComposedAnimation.JumpUpRight}.
+     */
+    UP_RIGHT(ComposedAnimation.JumpUpRight::new),
+
+    /**
+     * {@link ComposedAnimation.JumpDownLeftLeftward}.
+     */
+    DOWN_LEFT_LEFTWARD(ComposedAnimation.JumpDownLeftLeftward::new),
+
+    /**
+     * {@link ComposedAnimation.JumpDownRightLeftward}.
+     */
+    DOWN_RIGHT_LEFTWARD(ComposedAnimation.JumpDownRightLeftward::new),
+
+    /**
+     * {@link ComposedAnimation.JumpDownLeftRightward}.
+     */
+    DOWN_LEFT_RIGHTWARD(ComposedAnimation.JumpDownLeftRightward::new),
+
+    /**
+     * {@link ComposedAnimation.JumpDownRightRightward}.
+     */
+    DOWN_RIGHT_RIGHTWARD(ComposedAnimation.JumpDownRightRightward::new);
+
+    private static final int INITIAL_STEPS = 256;
+
+    private final BiFunction<Position2D, Position2D, MovementAnimation> shape;
+
+    /**
+     * The tables of the last length asked, the only one as long as the cubes don't change size.
+     */
+    private volatile Tables tables;
+
+    JumpTrajectory(final BiFunction<Position2D, Position2D, MovementAnimation> shape) {
+        this.shape = shape;
+    }
+
+    /**
+     * @param startPos the first {@link Position2D}
+     * @param targetPos the last {@link Position2D}
+     * @return a new animation of the jump, at the same speed from start to end
+     */
+    public MovementAnimation from(final Position2D startPos, final Position2D targetPos) {
+        return this.from(startPos, targetPos, Easing.LINEAR);
+    }
+
+    /**
+     * @param startPos the first {@link Position2D}
+     * @param targetPos the last {@link Position2D}
+     * @param easing the {@link Easing} of the jump
+     * @return a new animation of the jump
+     */
+    public MovementAnimation from(final Position2D startPos, final Position2D targetPos, final Easing easing) {
+        final int width = targetPos.getX() - startPos.getX();
+        final int height = targetPos.getY() - startPos.getY();
+        Tables current = this.tables;
+        if (current == null || current.width != width || current.height != height) {
+            current = new Tables(this.shape.apply(Position2D.ZERO, Position2D.of(width, height)), width, height);
+            this.tables = current;
+        }
+        return new TrajectoryAnimation(startPos, current.offsetsX, current.offsetsY, easing);
+    }
+
+    /**
+     * The offsets of every step of a jump long as given.
+     */
+    private static final class Tables {
+
+        private final int width;
+        private final int height;
+        private final int[] offsetsX;
+        private final int[] offsetsY;
+
+        Tables(final MovementAnimation jump, final int width, final int height) {
+            this.width = width;
+            this.height = height;
+            int[] xs = new int[INITIAL_STEPS];
+            int[] ys = new int[INITIAL_STEPS];
+            int steps = 0;
+            while (jump.hasNext()) {
+                if (steps == xs.length) {
+                    xs = Arrays.copyOf(xs, steps * 2);
+                    ys = Arrays.copyOf(ys, steps * 2);
+                }
+                final Position2D position = jump.updateAnimation(1);
+                xs[steps] = position.getX();
+                ys[steps] = position.getY();
+                steps++;
+            }
+            //A jump already at its target still needs its last offset
+            this.offsetsX = Arrays.copyOf(xs, Math.max(steps, 1));
+            this.offsetsY = Arrays.copyOf(ys, Math.max(steps, 1));
+        }
+    }
+}
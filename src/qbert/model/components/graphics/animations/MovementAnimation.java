@@ -15,4 +15,27 @@ public interface MovementAnimation extends Iterator<Position2D> {
      * @return the next {@link Position2D} of the animation
      */
     Position2D updateAnimation(int animationCycles);
+
+    /**
+     * Let time pass in the animation. Its position only depends on the total time since it started, so it lasts
+     * the same however that time is split between the calls.
+     * @param time the time passed since the last call, measured in steps
+     * @return the {@link Position2D} of the animation at the total time
+     */
+    Position2D advance(float time);
+
+    /**
+     * @return the time passed since the animation started, measured in steps
+     */
+    float getTime();
+
+    /**
+     * @return the {@link Position2D} the animation started from
+     */
+    Position2D getStartPosition();
+
+    /**
+     * @return the number of steps done so far, a new animation from the same start reaches the same point after as many
+     */
+    int getCycles();
 }
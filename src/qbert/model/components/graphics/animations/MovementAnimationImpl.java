@@ -7,14 +7,18 @@ import qbert.model.utilities.Position2D;
  */
 public abstract class MovementAnimationImpl implements MovementAnimation {
 
+    private final Position2D startPos;
     private Position2D currentPos;
     private final Position2D targetPos;
+    private int doneCycles;
+    private float time;
 
     /**
      * @param startPos the first {@link Position2D}
      * @param targetPos the last {@link Position2D}
      */
     public MovementAnimationImpl(final Position2D startPos, final Position2D targetPos) {
+        this.startPos = startPos;
         this.currentPos = startPos;
         this.targetPos = targetPos;
     }
@@ -29,11 +33,33 @@ public abstract class MovementAnimationImpl implements MovementAnimation {
         int cycles = animationCycles;
         while (this.hasNext() && cycles > 0) {
             cycles--;
-            this.currentPos = new Position2D(this.next());
+            this.doneCycles++;
+            this.currentPos = this.next();
         }
         return this.currentPos;
     }
 
+    @Override
+    public final Position2D advance(final float time) {
+        this.time += time;
+        return this.updateAnimation(this.stepsAt(this.time) - this.doneCycles);
+    }
+
+    @Override
+    public final float getTime() {
+        return this.time;
+    }
+
+    @Override
+    public final Position2D getStartPosition() {
+        return this.startPos;
+    }
+
+    @Override
+    public final int getCycles() {
+        return this.doneCycles;
+    }
+
     /**
      * This method must be implemented by concrete animation classes to personalize the animation.
      * It is called in updateAnimation(), when hasNext() return false.
@@ -41,6 +67,15 @@ public abstract class MovementAnimationImpl implements MovementAnimation {
     @Override
     public abstract Position2D next();
 
+    /**
+     * Animations that know how many steps they last can override it to follow an {@link Easing}.
+     * @param time the time passed since the animation started, measured in steps
+     * @return the number of steps the animation must have done at that time, a step each unit by default
+     */
+    protected int stepsAt(final double time) {
+        return (int) Math.round(time);
+    }
+
     /**
      * @return the current {@link Position2D} of the animation
      */
@@ -62,7 +97,7 @@ public abstract class MovementAnimationImpl implements MovementAnimation {
      * @return the {@link Position2D} after the rotation
      */
     protected Position2D calculateCircumferenceCoords(final Position2D centerPos, final int angle, final double radius) {
-        return new Position2D(Math.round((float) (centerPos.getX() + Math.cos(Math.toRadians(angle)) * radius)),
+        return Position2D.of(Math.round((float) (centerPos.getX() + Math.cos(Math.toRadians(angle)) * radius)),
                 Math.round((float) (centerPos.getY() + Math.sin(Math.toRadians(angle)) * radius)));
     }
 }
@@ -7,7 +7,11 @@ import qbert.model.utilities.Position2D;
  */
 public class StraightMovementAnimation extends MovementAnimationImpl {
 
-    private final double angle;
+    /*
+     * The movement of every step in both axis, that doesn't change along the line.
+     */
+    private final int stepX;
+    private final int stepY;
 
     /*
      * Variables calculated from the given positions used to determine the animation
@@ -35,28 +39,28 @@ public class StraightMovementAnimation extends MovementAnimationImpl {
             this.rightward = false;
         }
 
-        final Position2D direction = new Position2D(targetPos);
-        direction.vectorSum(new Position2D(-this.getCurrentPosition().getX(), 
-                -this.getCurrentPosition().getY()));
-        this.angle = Math.atan2(direction.getY(), direction.getX());
+        final Position2D direction = targetPos.subtract(this.getCurrentPosition());
+        final double angle = Math.atan2(direction.getY(), direction.getX());
+        this.stepX = (int) Math.cos(angle);
+        this.stepY = (int) Math.sin(angle);
     }
 
     @Override
     public final Position2D next() {
 
-        final Position2D nextPos = new Position2D(this.getCurrentPosition().getX() + ((int) Math.cos(angle)), 
-                this.getCurrentPosition().getY() + ((int) Math.sin(angle)));
+        final Position2D nextPos = Position2D.of(this.getCurrentPosition().getX() + this.stepX, 
+                this.getCurrentPosition().getY() + this.stepY);
 
         if (this.upward && nextPos.getY() < this.getTargetPosition().getY()) {
-            return new Position2D(this.getTargetPosition());
+            return this.getTargetPosition();
         } else if (!this.upward && nextPos.getY() > this.getTargetPosition().getY()) {
-            return new Position2D(this.getTargetPosition());
+            return this.getTargetPosition();
         }
 
         if (this.rightward && nextPos.getX() > this.getTargetPosition().getX()) {
-            return new Position2D(this.getTargetPosition());
+            return this.getTargetPosition();
         } else if (!this.rightward && nextPos.getX() < this.getTargetPosition().getX()) {
-            return new Position2D(this.getTargetPosition());
+            return this.getTargetPosition();
         }
 
         return nextPos;
@@ -0,0 +1,51 @@
+package qbert.model.components.graphics.animations;
+
+import qbert.model.utilities.Position2D;
+
+/**
+ * An animation walking through offsets from its start computed in advance, one for each step,
+ * as the tables of a {@link JumpTrajectory}. It ends on the last offset, and as the number of steps is known
+ * the time can be shaped by an {@link Easing}.
+ */
+public class TrajectoryAnimation extends MovementAnimationImpl {
+
+    private final int startX;
+    private final int startY;
+    private final int[] offsetsX;
+    private final int[] offsetsY;
+    private final Easing easing;
+    private int step;
+
+    /**
+     * @param startPos the first {@link Position2D}
+     * @param offsetsX the horizontal offsets from the start of every step, shared and not copied
+     * @param offsetsY the vertical offsets from the start of every step, as many as the horizontal ones
+     * @param easing the {@link Easing} followed while the time passes
+     */
+    public TrajectoryAnimation(final Position2D startPos, final int[] offsetsX, final int[] offsetsY, final Easing easing) {
+        super(startPos, startPos.add(offsetsX[offsetsX.length - 1], offsetsY[offsetsY.length - 1]));
+        this.startX = startPos.getX();
+        this.startY = startPos.getY();
+        this.offsetsX = offsetsX;
+        this.offsetsY = offsetsY;
+        this.easing = easing;
+    }
+
+    /**
+     * The animation lasts as many units of time as it has steps, whatever its {@link Easing}.
+     */
+    @Override
+    protected final int stepsAt(final double time) {
+        final int length = this.offsetsX.length;
+        return (int) Math.round(this.easing.apply(Math.min(time / length, 1)) * length);
+    }
+
+    @Override
+    public final Position2D next() {
+        if (this.step >= this.offsetsX.length) {
+            return this.getTargetPosition();
+        }
+        final int i = this.step++;
+        return Position2D.of(this.startX + this.offsetsX[i], this.startY + this.offsetsY[i]);
+    }
+}
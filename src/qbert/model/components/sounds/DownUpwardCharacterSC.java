@@ -41,19 +41,19 @@ public class DownUpwardCharacterSC implements CharacterSC {
 
     @Override
     public final void setHopSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.COILY_HOPS));
+        this.controller.uploadClip(SoundEffectFile.COILY_HOPS).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setFallSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.COILY_FALLS));
+        this.controller.uploadClip(SoundEffectFile.COILY_FALLS).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setKillSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.COILY_KILLS));
+        this.controller.uploadClip(SoundEffectFile.COILY_KILLS).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
@@ -26,19 +26,19 @@ public class GameSC implements SoundComponent {
 
     @Override
     public final void setCoinSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.INSERT_A_COIN));
+        this.controller.uploadClip(SoundEffectFile.INSERT_A_COIN).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setGameStartSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.GAME_START_MUSIC));
+        this.controller.uploadClip(SoundEffectFile.GAME_START_MUSIC).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setWinningARoundSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.WIN_A_ROUND_MUSIC));
+        this.controller.uploadClip(SoundEffectFile.WIN_A_ROUND_MUSIC).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
@@ -46,5 +46,4 @@ public class GameSC implements SoundComponent {
     public final void notifyPlaySound() {
         this.controller.emptyClipQueue(this.clipToPlay);
     }
-
 }
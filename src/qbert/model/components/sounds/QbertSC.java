@@ -41,13 +41,13 @@ public class QbertSC implements PlayerSC {
 
     @Override
     public final void setHopSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.QBERT_HOPS));
+        this.controller.uploadClip(SoundEffectFile.QBERT_HOPS).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setFallSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.QBERT_FALLS));
+        this.controller.uploadClip(SoundEffectFile.QBERT_FALLS).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
@@ -58,13 +58,13 @@ public class QbertSC implements PlayerSC {
 
     @Override
     public final void setOnDiskSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.QBERT_RIDES_A_DISK));
+        this.controller.uploadClip(SoundEffectFile.QBERT_RIDES_A_DISK).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
     @Override
     public final void setDeathSound() {
-        this.clipToPlay.add(this.controller.uploadClip(SoundEffectFile.QBERT_DIES));
+        this.controller.uploadClip(SoundEffectFile.QBERT_DIES).ifPresent(this.clipToPlay::add);
         this.notifyPlaySound();
     }
 
@@ -72,5 +72,4 @@ public class QbertSC implements PlayerSC {
     public final void notifyPlaySound() {
         this.controller.emptyClipQueue(this.clipToPlay);
     }
-
 }
@@ -2,15 +2,17 @@ package qbert.model.scenes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import qbert.controller.Controller;
 import qbert.controller.GameStatus;
 import qbert.model.Level;
 import qbert.model.LevelImpl;
 import qbert.model.LevelSettings;
+import qbert.model.LevelSnapshot;
+import qbert.model.RoundSnapshot;
 import qbert.model.characters.Player;
-import qbert.model.characters.states.MoveState;
-import qbert.model.utilities.Position2D;
+import qbert.model.utilities.Direction;
 import qbert.model.components.graphics.Renderable;
 import qbert.model.components.sounds.GameSC;
 import qbert.model.components.sounds.SoundComponent;
@@ -32,6 +34,7 @@ public class Game implements Model {
     private int roundNumber;
     private int lives;
     private int score;
+    private long roundSeed;
 
     private final GUILogic levelAndRound;
     private final GUILogic scoreAndLives;
@@ -110,46 +113,22 @@ public class Game implements Model {
 
     @Override
     public final void moveDown() {
-        final Player qbert = this.gameLevel.getQBert();
-        if (!qbert.isMoving() && !qbert.isDead()) {
-            qbert.setNextPosition(
-                    new Position2D(qbert.getCurrentPosition().getX() - qbert.getStep(), qbert.getCurrentPosition().getY() - qbert.getStep()));
-
-            qbert.setCurrentState(new MoveState.DownLeft(qbert));
-        }
+        this.gameLevel.jump(Direction.DOWN_LEFT);
     }
 
     @Override
     public final void moveLeft() {
-        final Player qbert = this.gameLevel.getQBert();
-        if (!qbert.isMoving() && !qbert.isDead()) {
-            qbert.setNextPosition(
-                    new Position2D(qbert.getCurrentPosition().getX() - qbert.getStep(), qbert.getCurrentPosition().getY() + qbert.getStep()));
-
-            qbert.setCurrentState(new MoveState.UpLeft(qbert));
-        }
+        this.gameLevel.jump(Direction.UP_LEFT);
     }
 
     @Override
     public final void moveRight() {
-        final Player qbert = this.gameLevel.getQBert();
-        if (!qbert.isMoving() && !qbert.isDead()) {
-            qbert.setNextPosition(
-                new Position2D(qbert.getCurrentPosition().getX() + qbert.getStep(), qbert.getCurrentPosition().getY() - qbert.getStep()));
-
-            qbert.setCurrentState(new MoveState.DownRight(qbert));
-        }
+        this.gameLevel.jump(Direction.DOWN_RIGHT);
     }
 
     @Override
     public final void moveUp() {
-        final Player qbert = this.gameLevel.getQBert();
-        if (!qbert.isMoving() && !qbert.isDead()) {
-            qbert.setNextPosition(
-                    new Position2D(qbert.getCurrentPosition().getX() + qbert.getStep(), qbert.getCurrentPosition().getY() + qbert.getStep()));
-
-            qbert.setCurrentState(new MoveState.UpRight(qbert));
-        }
+        this.gameLevel.jump(Direction.UP_RIGHT);
     }
 
     @Override
@@ -157,11 +136,88 @@ public class Game implements Model {
         this.changeRound();
     }
 
+    @Override
+    public final boolean isReadyForInput() {
+        if (this.gameLevel == null) {
+            return true;
+        }
+        final Player qbert = this.gameLevel.getQBert();
+        return !qbert.isMoving() && !qbert.isDead();
+    }
+
+    @Override
+    public final Optional<RoundSnapshot> getRoundSnapshot() {
+        if (!this.canSnapshot()) {
+            return Optional.empty();
+        }
+        final LevelSnapshot snapshot = new LevelSnapshot();
+        this.gameLevel.snapshot(snapshot);
+        return Optional.of(new RoundSnapshot(this.levelNumber, this.roundNumber, this.roundSeed, snapshot));
+    }
+
     @Override
     public final boolean hasFinished() {
         return this.lives <= 0;
     }
 
+    /**
+     * @return the number of the level being played
+     */
+    public final int getLevelNumber() {
+        return this.levelNumber;
+    }
+
+    /**
+     * @return the number of the round being played
+     */
+    public final int getRoundNumber() {
+        return this.roundNumber;
+    }
+
+    /**
+     * @return the state of the random source of the game when the current round was built
+     */
+    public final long getRoundSeed() {
+        return this.roundSeed;
+    }
+
+    /**
+     * @return true if the current round can be saved in a {@link LevelSnapshot} now
+     */
+    public final boolean canSnapshot() {
+        return this.gameLevel != null && this.gameLevel.canSnapshot();
+    }
+
+    /**
+     * @param snapshot the {@link LevelSnapshot} to write the state of the current round to
+     * @throws IllegalStateException if {@link #canSnapshot()} is false
+     */
+    public final void snapshot(final LevelSnapshot snapshot) {
+        if (this.gameLevel == null) {
+            throw new IllegalStateException("The game hasn't started");
+        }
+        this.gameLevel.snapshot(snapshot);
+    }
+
+    /**
+     * Bring the game back to a round saved before. If it isn't the current one, the round is built again
+     * from the same state of the random source, so that it has the same colors and disks.
+     * @param level the number of the level saved
+     * @param round the number of the round saved
+     * @param seed the {@link #getRoundSeed()} of the round saved
+     * @param snapshot the {@link LevelSnapshot} of the round
+     */
+    public final void restore(final int level, final int round, final long seed, final LevelSnapshot snapshot) {
+        if (this.gameLevel == null || level != this.levelNumber || round != this.roundNumber || seed != this.roundSeed) {
+            this.levelNumber = level;
+            this.roundNumber = round;
+            this.controller.getRandom().setState(seed);
+            this.createNewLevel();
+        }
+        this.gameLevel.restore(snapshot);
+        this.updateScoreAndLives();
+    }
+
     /**
      * A method used to create and initialize a new level. It also updates the GUI.
      */
@@ -170,6 +226,7 @@ public class Game implements Model {
         this.levelAndRound.addData("LEVEL: " + this.levelNumber);
         this.levelAndRound.addData("ROUND: " + this.roundNumber);
 
+        this.roundSeed = this.controller.getRandom().getState();
         final LevelSettings ls = controller.getLevelSettings(this.levelNumber, this.roundNumber);
         this.gameLevel = new LevelImpl(ls, lives, score, this.controller);
         this.gameLevel.addObserver(this);
@@ -3,11 +3,13 @@ package qbert.model.scenes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import qbert.controller.Controller;
 import qbert.controller.GameStatus;
+import qbert.model.RoundSnapshot;
 import qbert.model.components.graphics.Renderable;
 import qbert.model.scenes.RankingBuilder.Builder;
 
@@ -176,6 +178,16 @@ public class GameOver implements Model {
         return new ArrayList<Renderable>();
     }
 
+    @Override
+    public final boolean isReadyForInput() {
+        return true;
+    }
+
+    @Override
+    public final Optional<RoundSnapshot> getRoundSnapshot() {
+        return Optional.empty();
+    }
+
     @Override
     public final boolean hasFinished() {
         return false;
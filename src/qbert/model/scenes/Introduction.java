@@ -3,15 +3,16 @@ package qbert.model.scenes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import qbert.controller.Controller;
 import qbert.controller.GameStatus;
+import qbert.model.RoundSnapshot;
 import qbert.model.characters.Player;
-import qbert.model.characters.states.LandState;
-import qbert.model.characters.states.MoveState;
+import qbert.model.characters.states.StateKind;
 import qbert.model.spawner.EnemyFactory;
 import qbert.model.spawner.EnemyFactoryImpl;
 import qbert.model.utilities.Dimensions;
@@ -34,7 +35,7 @@ public class Introduction implements Model {
 
     private static final float SPEED = 0.35f;
     private static final Position2D QBERTPOSITION = 
-            new Position2D(Math.round(Dimensions.getWindowWidth() / 3f), Math.round(Dimensions.getWindowHeight() / 2.75f));
+            Position2D.of(Math.round(Dimensions.getWindowWidth() / 3f), Math.round(Dimensions.getWindowHeight() / 2.75f));
 
     private final GUILogic guiBody;
 
@@ -97,8 +98,8 @@ public class Introduction implements Model {
 
         this.guiBody.selectSet(IntStream.range(this.instructionsIndex, this.guiBody.getData().size()).mapToObj(i -> i).collect(Collectors.toSet()));
 
-        this.qbert.setCurrentPosition(new Position2D(qbert.getSpawningPosition()));
-        this.qbert.getGraphicComponent().setPosition(new Position2D(Introduction.QBERTPOSITION));
+        this.qbert.setCurrentPosition(qbert.getSpawningPosition());
+        this.qbert.getGraphicComponent().setPosition(Introduction.QBERTPOSITION);
         this.qbert.setCurrentState(this.qbert.getStandingState());
 
         this.sounds.setCoinSound();
@@ -134,9 +135,9 @@ public class Introduction implements Model {
             this.steps++;
 
             this.qbert.setNextPosition(
-                    new Position2D(qbert.getCurrentPosition().getX() + qbert.getStep(), qbert.getCurrentPosition().getY() - qbert.getStep()));
+                    Position2D.of(qbert.getCurrentPosition().getX() + qbert.getStep(), qbert.getCurrentPosition().getY() - qbert.getStep()));
 
-            this.qbert.setCurrentState(new MoveState.DownRight(this.qbert));
+            this.qbert.setCurrentState(this.qbert.getStates().moveDownRight());
         }
     }
 
@@ -144,7 +145,7 @@ public class Introduction implements Model {
     public final void update(final float elapsed) {
         this.qbert.update(elapsed);
 
-        if (this.qbert.getCurrentState() instanceof LandState) {
+        if (this.qbert.getCurrentState().getKind() == StateKind.LAND) {
             this.qbert.getPlayerSoundComponent().setHopSound();
             this.qbert.setCurrentState(this.qbert.getStandingState());
         }
@@ -164,6 +165,16 @@ public class Introduction implements Model {
         return Stream.of(this.qbert).collect(Collectors.toList());
     }
 
+    @Override
+    public final boolean isReadyForInput() {
+        return true;
+    }
+
+    @Override
+    public final Optional<RoundSnapshot> getRoundSnapshot() {
+        return Optional.empty();
+    }
+
     @Override
     public final boolean hasFinished() {
         return this.steps > Introduction.MAXSTEP;
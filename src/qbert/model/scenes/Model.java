@@ -1,7 +1,9 @@
 package qbert.model.scenes;
 
 import java.util.List;
+import java.util.Optional;
 
+import qbert.model.RoundSnapshot;
 import qbert.model.components.graphics.Renderable;
 
 /**
@@ -55,6 +57,16 @@ public interface Model {
      */
     List<Renderable> getRenderables();
 
+    /**
+     * @return true if the model can execute a command right now, e.g. false while Qbert is mid-jump
+     */
+    boolean isReadyForInput();
+
+    /**
+     * @return the state of the round being played, empty if the model is not a round of the game or it can't be saved now
+     */
+    Optional<RoundSnapshot> getRoundSnapshot();
+
     /**
      * @return true if the model wants to communicate that is job is done
      */
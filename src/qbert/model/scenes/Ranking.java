@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import qbert.controller.Controller;
 import qbert.controller.GameStatus;
+import qbert.model.RoundSnapshot;
 import qbert.model.components.graphics.Renderable;
 
 /**
@@ -90,6 +92,16 @@ public class Ranking implements Model {
         return new ArrayList<Renderable>();
     }
 
+    @Override
+    public final boolean isReadyForInput() {
+        return true;
+    }
+
+    @Override
+    public final Optional<RoundSnapshot> getRoundSnapshot() {
+        return Optional.empty();
+    }
+
     @Override
     public final boolean hasFinished() {
         return false;
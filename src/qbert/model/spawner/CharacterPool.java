@@ -0,0 +1,71 @@
+package qbert.model.spawner;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import qbert.model.characters.Character;
+
+/**
+ * A pool of {@link Character}s of the same kind which left the game and can be spawned again
+ * instead of creating new ones.
+ * @param <C> the type of the pooled {@link Character}s
+ */
+public final class CharacterPool<C extends Character> {
+
+    private final Deque<C> available;
+    private final int capacity;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param capacity the maximum number of {@link Character}s kept, usually the number of them that can be in game at the same time
+     */
+    public CharacterPool(final int capacity) {
+        this.available = new ArrayDeque<>(Math.max(capacity, 1));
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return a {@link Character} to reuse, or nothing if the pool is empty and a new one must be created
+     */
+    public Optional<C> acquire() {
+        final C character = this.available.poll();
+        if (character == null) {
+            this.misses++;
+            return Optional.empty();
+        }
+        this.hits++;
+        return Optional.of(character);
+    }
+
+    /**
+     * @param character a {@link Character} which left the game, it's dropped if the pool is full
+     */
+    public void release(final C character) {
+        if (this.available.size() < this.capacity) {
+            this.available.push(character);
+        }
+    }
+
+    /**
+     * @return the number of {@link Character}s ready to be reused
+     */
+    public int getAvailable() {
+        return this.available.size();
+    }
+
+    /**
+     * @return the number of requests served by a pooled {@link Character}
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of requests which needed a new {@link Character}
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+}
@@ -1,8 +1,10 @@
 package qbert.model.spawner;
 
 import qbert.model.characters.Character;
+import qbert.model.characters.CharactersList;
 import qbert.model.characters.Snake;
 import qbert.model.characters.Player;
+import qbert.model.utilities.PursuitTable;
 
 /**
  * The factory method interface for enemies creation.
@@ -20,10 +22,19 @@ public interface EnemyFactory {
      * @param speed the {@link Character} movement speed
      * @param standingTime the time passed on standing state
      * @param qbert the {@link Player} reference
-     * @return the {@link Snake} representing {@link Coily} enemy
+     * @return the {@link Snake} representing {@link Coily} enemy, chasing the {@link Player} by its relative direction
      */
     Snake createCoily(float speed, int standingTime, Player qbert);
 
+    /**
+     * @param speed the {@link Character} movement speed
+     * @param standingTime the time passed on standing state
+     * @param qbert the {@link Player} reference
+     * @param pursuit the {@link PursuitTable} of the map, used to chase the {@link Player} along the shortest paths
+     * @return the {@link Snake} representing {@link Coily} enemy
+     */
+    Snake createCoily(float speed, int standingTime, Player qbert, PursuitTable pursuit);
+
     /**
      * @param speed the {@link Character} movement speed
      * @param standingTime the time passed on standing state
@@ -58,4 +69,11 @@ public interface EnemyFactory {
      * @return the {@link Character} representing {@link Ugg}
      */
     Character createUgg(float speed, int standingTime);
+
+    /**
+     * Prepare a {@link Character} created by this factory to be spawned again, as if it was just created.
+     * @param character the {@link Character} to reuse
+     * @param type the kind of the {@link Character}
+     */
+    void respawn(Character character, CharactersList type);
 }
@@ -3,6 +3,7 @@ package qbert.model.spawner;
 import qbert.controller.Controller;
 import qbert.controller.Sprites;
 import qbert.model.characters.Character;
+import qbert.model.characters.CharactersList;
 import qbert.model.characters.Snake;
 import qbert.model.characters.Ugg;
 import qbert.model.characters.Wrongway;
@@ -18,7 +19,9 @@ import qbert.model.characters.Qbert;
 import qbert.model.characters.RedBall;
 import qbert.model.characters.SamAndSlick;
 import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.GameRandom;
 import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
 import qbert.model.components.graphics.CharacterGC;
 import qbert.model.components.graphics.CoilyGC;
 import qbert.model.components.graphics.CoilyGCImpl;
@@ -29,7 +32,7 @@ import qbert.model.components.graphics.PlayerGCImpl;
 import qbert.model.components.graphics.RightwardCharacterGC;
 
 import java.io.IOException;
-import java.util.Random;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,6 +42,8 @@ import java.util.logging.Logger;
 public class EnemyFactoryImpl implements EnemyFactory {
 
     private static final String USER_MESSAGE = "Application aborted. Please look at log file for more information.";
+    private static final Position2D WRONGWAY_LOGICAL_POS = Position2D.of(Dimensions.MAP_BOTTOM_EDGE - 1, Dimensions.MAP_BOTTOM_EDGE - 1);
+    private static final Position2D UGG_LOGICAL_POS = Position2D.of(Dimensions.MAP_COLUMNS - 1, Dimensions.MAP_BOTTOM_EDGE - 1);
 
     private final int spawningPointLeftX;
     private final int spawningPointRightX;
@@ -50,6 +55,7 @@ public class EnemyFactoryImpl implements EnemyFactory {
     private final Position2D spawningLogQBert;
 
     private final Controller controller;
+    private final GameRandom random;
 
     private Sprites sprites;
 
@@ -69,23 +75,24 @@ public class EnemyFactoryImpl implements EnemyFactory {
         this.spawningPointLeftX = Math.round(new Float(Dimensions.getWindowWidth() / 2f) - Dimensions.getCubeWidth());
         this.spawningPointRightX = Math.round(new Float(Dimensions.getWindowWidth() / 2f));
 
-        this.spawningLogPointLeft = new Position2D(Dimensions.MAP_SPAWNING_POINT_LEFT_X, Dimensions.MAP_SPAWNING_POINT_LEFT_Y);
-        this.spawningLogPointRight = new Position2D(Dimensions.MAP_SPAWNING_POINT_RIGHT_X, Dimensions.MAP_SPAWNING_POINT_RIGHT_Y);
+        this.spawningLogPointLeft = Position2D.of(Dimensions.MAP_SPAWNING_POINT_LEFT_X, Dimensions.MAP_SPAWNING_POINT_LEFT_Y);
+        this.spawningLogPointRight = Position2D.of(Dimensions.MAP_SPAWNING_POINT_RIGHT_X, Dimensions.MAP_SPAWNING_POINT_RIGHT_Y);
 
         final int qbertFrontSpriteHeight = this.sprites.getQbertFrontSprites().getStandSprite().getHeight();
         final int qbertFrontSpriteWidth = this.sprites.getQbertFrontSprites().getStandSprite().getWidth();
 
-        this.spawningQBert = new Position2D(Math.round(new Float(Dimensions.getWindowWidth()) / 2f) - Math.round(new Float(qbertFrontSpriteWidth) / 2f), 
+        this.spawningQBert = Position2D.of(Math.round(new Float(Dimensions.getWindowWidth()) / 2f) - Math.round(new Float(qbertFrontSpriteWidth) / 2f), 
                 Dimensions.getBackgroundPos().getY() - qbertFrontSpriteHeight);
-        this.spawningLogQBert = new Position2D(Dimensions.MAP_SPAWNING_QBERT_X, Dimensions.MAP_SPAWNING_QBERT_Y);
+        this.spawningLogQBert = Position2D.of(Dimensions.MAP_SPAWNING_QBERT_X, Dimensions.MAP_SPAWNING_QBERT_Y);
 
         this.controller = controller;
+        this.random = controller.getRandom();
     }
 
     @Override
     public final Player createQbert(final float speed, final int qbertLives) {
         final PlayerGC graphics = new PlayerGCImpl(this.sprites.getQbertFrontSprites(), this.sprites.getQbertBackSprites(), 
-                sprites.getQbertSpecialSprites(), new Position2D(spawningQBert));
+                sprites.getQbertSpecialSprites(), spawningQBert);
         final PlayerSC sounds = new QbertSC(this.controller);
 
         return new Qbert(this.spawningLogQBert, speed, graphics, sounds, qbertLives);
@@ -93,6 +100,15 @@ public class EnemyFactoryImpl implements EnemyFactory {
 
     @Override
     public final Snake createCoily(final float speed, final int standingTime, final Player qbert) {
+        return this.createCoily(speed, standingTime, qbert, Optional.empty());
+    }
+
+    @Override
+    public final Snake createCoily(final float speed, final int standingTime, final Player qbert, final PursuitTable pursuit) {
+        return this.createCoily(speed, standingTime, qbert, Optional.of(pursuit));
+    }
+
+    private Snake createCoily(final float speed, final int standingTime, final Player qbert, final Optional<PursuitTable> pursuit) {
         final Position2D randomPos = this.getRandomPos(this.sprites.getPurpleBallSprites().getMoveSprite().getHeight());
         final Position2D logicalPos = this.getLogicalPos(randomPos);
 
@@ -100,7 +116,25 @@ public class EnemyFactoryImpl implements EnemyFactory {
                 this.sprites.getCoilyBackSprites(), randomPos);
         final CharacterSC sounds = new DownUpwardCharacterSC(this.controller);
 
-        return new Coily(logicalPos, speed, graphics, sounds, standingTime, qbert);
+        return new Coily(logicalPos, speed, graphics, sounds, standingTime, qbert, pursuit, this.random);
+    }
+
+    @Override
+    public final void respawn(final Character character, final CharactersList type) {
+        switch (type) {
+        case WRONGWAY:
+            character.getGraphicComponent().reset(this.getWrongwayPos());
+            character.reset(WRONGWAY_LOGICAL_POS);
+            break;
+        case UGG:
+            character.getGraphicComponent().reset(this.getUggPos());
+            character.reset(UGG_LOGICAL_POS);
+            break;
+        default:
+            final Position2D randomPos = this.getRandomPos(this.getFallingHeight(type));
+            character.getGraphicComponent().reset(randomPos);
+            character.reset(this.getLogicalPos(randomPos));
+        }
     }
 
     @Override
@@ -110,7 +144,7 @@ public class EnemyFactoryImpl implements EnemyFactory {
         final Position2D logicalPos = this.getLogicalPos(randomPos);
         final CharacterGC graphics = new DownwardCharacterGC(sprites, randomPos);
 
-        return new RedBall(logicalPos, speed, graphics, standingTime);
+        return new RedBall(logicalPos, speed, graphics, standingTime, this.random);
     }
 
     @Override
@@ -120,45 +154,67 @@ public class EnemyFactoryImpl implements EnemyFactory {
         final Position2D logicalPos = this.getLogicalPos(randomPos);
         final CharacterGC graphics = new DownwardCharacterGC(this.sprites.getGreenBallSprites(), randomPos);
 
-        return new GreenBall(logicalPos, speed, graphics, standingTime);
+        return new GreenBall(logicalPos, speed, graphics, standingTime, this.random);
     }
 
     @Override
     public final Character createSamAndSlick(final float speed, final int standingTime) {
         final OneSideCharacterSprites slickS = this.sprites.getSlickSprites();
         final OneSideCharacterSprites samS = this.sprites.getSamSprites();
-        final Position2D randomPos = this.getRandomPos(slickS.getMoveSprite().getHeight() > samS.getMoveSprite().getHeight()
-                ? slickS.getMoveSprite().getHeight() : samS.getMoveSprite().getHeight());
+        final Position2D randomPos = this.getRandomPos(this.getSamAndSlickHeight());
         final Position2D logicalPos = this.getLogicalPos(randomPos);
 
         final CharacterGC graphics = randomPos == this.spawningLogPointLeft
                 ? new DownwardCharacterGC(slickS, randomPos)
                 : new DownwardCharacterGC(samS, randomPos);
 
-        return new SamAndSlick(logicalPos, speed, graphics, standingTime);
+        return new SamAndSlick(logicalPos, speed, graphics, standingTime, this.random);
     }
 
     @Override
     public final Character createWrongway(final float speed, final int standingTime) {
-        final Position2D logicalPos = new Position2D(Dimensions.MAP_BOTTOM_EDGE - 1, Dimensions.MAP_BOTTOM_EDGE - 1);
-        final RightwardCharacterGC graphics = new RightwardCharacterGC(this.sprites.getWrongwaySprites(), 
-                new Position2D(-this.sprites.getWrongwaySprites().getMoveSprite().getWidth(), Dimensions.getBackgroundPos().getY() + Dimensions.getBackgroundHeight() - Dimensions.getCubeHeight()));
+        final RightwardCharacterGC graphics = new RightwardCharacterGC(this.sprites.getWrongwaySprites(), this.getWrongwayPos());
 
-        return new Wrongway(logicalPos, speed, graphics, standingTime);
+        return new Wrongway(WRONGWAY_LOGICAL_POS, speed, graphics, standingTime, this.random);
     }
 
     @Override
     public final Character createUgg(final float speed, final int standingTime) {
-        final Position2D logicalPos = new Position2D(Dimensions.MAP_COLUMNS - 1, Dimensions.MAP_BOTTOM_EDGE - 1);
-        final LeftwardCharacterGC graphics = new LeftwardCharacterGC(this.sprites.getUggSprites(), 
-                new Position2D(Dimensions.getWindowWidth() + this.sprites.getWrongwaySprites().getMoveSprite().getWidth(), Dimensions.getBackgroundPos().getY() + Dimensions.getBackgroundHeight() - Dimensions.getCubeHeight()));
+        final LeftwardCharacterGC graphics = new LeftwardCharacterGC(this.sprites.getUggSprites(), this.getUggPos());
+
+        return new Ugg(UGG_LOGICAL_POS, speed, graphics, standingTime, this.random);
+    }
+
+    private Position2D getWrongwayPos() {
+        return Position2D.of(-this.sprites.getWrongwaySprites().getMoveSprite().getWidth(), Dimensions.getBackgroundPos().getY() + Dimensions.getBackgroundHeight() - Dimensions.getCubeHeight());
+    }
+
+    private Position2D getUggPos() {
+        return Position2D.of(Dimensions.getWindowWidth() + this.sprites.getWrongwaySprites().getMoveSprite().getWidth(), Dimensions.getBackgroundPos().getY() + Dimensions.getBackgroundHeight() - Dimensions.getCubeHeight());
+    }
+
+    private int getFallingHeight(final CharactersList type) {
+        switch (type) {
+        case COILY:
+            return this.sprites.getPurpleBallSprites().getMoveSprite().getHeight();
+        case RED_BALL:
+            return this.sprites.getRedBallSprites().getMoveSprite().getHeight();
+        case GREEN_BALL:
+            return this.sprites.getGreenBallSprites().getMoveSprite().getHeight();
+        default:
+            return this.getSamAndSlickHeight();
+        }
+    }
 
-        return new Ugg(logicalPos, speed, graphics, standingTime);
+    private int getSamAndSlickHeight() {
+        final int slickHeight = this.sprites.getSlickSprites().getMoveSprite().getHeight();
+        final int samHeight = this.sprites.getSamSprites().getMoveSprite().getHeight();
+        return slickHeight > samHeight ? slickHeight : samHeight;
     }
 
     private Position2D getRandomPos(final int spriteHeight) {
-        return new Random().nextInt(2) == 0 ? new Position2D(this.spawningPointLeftX, -spriteHeight)
-            : new Position2D(this.spawningPointRightX, -spriteHeight);
+        return this.random.nextInt(2) == 0 ? Position2D.of(this.spawningPointLeftX, -spriteHeight)
+            : Position2D.of(this.spawningPointRightX, -spriteHeight);
     }
 
     private Position2D getLogicalPos(final Position2D randPos) {
@@ -1,11 +1,13 @@
 package qbert.model.spawner;
 
-import java.util.Random;
+import qbert.model.LevelSnapshot;
+import qbert.model.Snapshotable;
+import qbert.model.utilities.GameRandom;
 
 /**
  * The implementation of {@link EnemyInfo}.
  */
-public final class EnemyInfoImpl implements EnemyInfo {
+public final class EnemyInfoImpl implements EnemyInfo, Snapshotable {
 
     private static final int MILLIS_OFFSET = 1500;
 
@@ -22,12 +24,13 @@ public final class EnemyInfoImpl implements EnemyInfo {
      * @param quantity the amount of a particular enemy on the map at a given time
      * @param spawningTime the spawning frequency of the character
      * @param standingTime the time passed on standing state
+     * @param random the source of the random offset added to the spawning time
      */
-    public EnemyInfoImpl(final float speed, final int quantity, final int spawningTime, final int standingTime) {
+    public EnemyInfoImpl(final float speed, final int quantity, final int spawningTime, final int standingTime, final GameRandom random) {
         this.speed = speed;
         this.currentQuantity = 0;
         this.totalQuantity = quantity;
-        this.spawningTime = this.addRandomness(spawningTime);
+        this.spawningTime = this.addRandomness(spawningTime, random);
         this.standingTime = standingTime;
 
         this.elapsedTime = 0;
@@ -83,11 +86,23 @@ public final class EnemyInfoImpl implements EnemyInfo {
         this.elapsedTime += dt;
     }
 
+    @Override
+    public void save(final LevelSnapshot snapshot) {
+        snapshot.putInt(this.currentQuantity);
+        snapshot.putInt(this.elapsedTime);
+    }
+
+    @Override
+    public void restore(final LevelSnapshot snapshot) {
+        this.currentQuantity = snapshot.getInt();
+        this.elapsedTime = snapshot.getInt();
+    }
+
     /**
      * This method adds an offset of randomness to the spawning timing of each enemy.
      */
-    private int addRandomness(final int spawningTime) {
-        return (spawningTime + new Random().nextInt(EnemyInfoImpl.MILLIS_OFFSET));
+    private int addRandomness(final int spawningTime, final GameRandom random) {
+        return (spawningTime + random.nextInt(EnemyInfoImpl.MILLIS_OFFSET));
     }
 }
 
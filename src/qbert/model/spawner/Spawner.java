@@ -1,16 +1,21 @@
 package qbert.model.spawner;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import qbert.model.Snapshotable;
 import qbert.model.characters.Character;
+import qbert.model.characters.CharactersList;
 import qbert.model.characters.Player;
 import qbert.model.characters.Snake;
+import qbert.model.collision.CandidateIndex;
 
 /**
  * The interface for the characters spawning management.
+ * Its snapshot holds the spawning timers and all the characters in game, {@link Player} included.
  */
-public interface Spawner {
+public interface Spawner extends Snapshotable {
 
     /**
      * @return the {@link Player} representing Qbert.
@@ -55,8 +60,30 @@ public interface Spawner {
     void killAll();
 
     /**
-     * @param gc the list of {@link Character} to be updated
+     * Remove the dead characters from the game, notifying their {@link #death(Character)}.
+     * It's meant to be called once at the end of the game cycle, so that the list of characters doesn't change while iterating it.
      */
-    void updateGameCharacters(List<Character> gc);
+    void removeDeadCharacters();
 
+    /**
+     * @return a number that changes every time a character is added or removed, used to know when lists built from them are stale
+     */
+    int getVersion();
+
+
+    /**
+     * @return the {@link CandidateIndex} of the game characters, Coily excluded, as chosen by {@link qbert.model.collision.IndexKind}
+     */
+    CandidateIndex getOccupancy();
+
+    /**
+     * @return the {@link CharacterPool}s of the enemies which left the game, with their hit and miss counters
+     */
+    Map<CharactersList, CharacterPool<Character>> getPools();
+
+    /**
+     * @param character an enemy
+     * @return its kind
+     */
+    CharactersList getType(Character character);
 }
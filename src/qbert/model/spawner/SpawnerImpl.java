@@ -1,21 +1,23 @@
 package qbert.model.spawner;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import qbert.controller.Controller;
+import qbert.model.LevelSnapshot;
 import qbert.model.characters.Character;
 import qbert.model.characters.CharactersList;
 import qbert.model.characters.Player;
 import qbert.model.characters.Snake;
-import qbert.model.characters.states.DeathState;
-import qbert.model.characters.states.SpawnState;
+import qbert.model.collision.CandidateIndex;
+import qbert.model.collision.IndexKind;
 import qbert.model.utilities.Dimensions;
-import qbert.model.utilities.Position2D;
+import qbert.model.utilities.EntityStore;
+import qbert.model.utilities.PursuitTable;
 
 /**
  * The implementation of {@link Spawner}.
@@ -24,21 +26,50 @@ public final class SpawnerImpl implements Spawner {
 
     private final Player qbert;
     private Optional<Snake> coily = Optional.empty();
-    private List<Character> gameCharacters;
+    private final EntityStore<Character> gameCharacters;
     private final EnemyFactory ef;
     private final Map<CharactersList, EnemyInfoImpl> mapInfo;
+    private int version;
+    private final CandidateIndex occupancy;
+    private final Map<CharactersList, CharacterPool<Character>> pools;
+    private final Consumer<Character> dismissal;
+    private final Optional<PursuitTable> pursuit;
 
     /**
+     * Create a spawner whose {@link Snake} chases the {@link Player} by its relative direction.
      * @param mapInfo the map of the characters
      * @param qBertSpeed the player speed
      * @param controller the game {@link Controller}
      * @param qbertLives number of lives the {@link Player} is starting the level with
      */
     public SpawnerImpl(final Map<CharactersList, EnemyInfoImpl> mapInfo, final float qBertSpeed, final Controller controller, final int qbertLives) {
-        this.gameCharacters = new ArrayList<>();
+        this(mapInfo, qBertSpeed, controller, qbertLives, Optional.empty());
+    }
+
+    /**
+     * @param mapInfo the map of the characters
+     * @param qBertSpeed the player speed
+     * @param controller the game {@link Controller}
+     * @param qbertLives number of lives the {@link Player} is starting the level with
+     * @param pursuit the {@link PursuitTable} of the map, used by the {@link Snake} to chase the {@link Player}
+     */
+    public SpawnerImpl(final Map<CharactersList, EnemyInfoImpl> mapInfo, final float qBertSpeed, final Controller controller, final int qbertLives,
+            final PursuitTable pursuit) {
+        this(mapInfo, qBertSpeed, controller, qbertLives, Optional.of(pursuit));
+    }
+
+    private SpawnerImpl(final Map<CharactersList, EnemyInfoImpl> mapInfo, final float qBertSpeed, final Controller controller, final int qbertLives,
+            final Optional<PursuitTable> pursuit) {
+        this.pursuit = pursuit;
+        this.gameCharacters = new EntityStore<>();
+        this.occupancy = IndexKind.fromSystemProperty().createIndex();
+        this.dismissal = this::dismiss;
         this.mapInfo = mapInfo;
         this.ef = new EnemyFactoryImpl(controller);
         this.qbert = ef.createQbert(qBertSpeed, qbertLives);
+        this.pools = new EnumMap<>(CharactersList.class);
+        //No more than the total quantity of each enemy can be in game at the same time
+        mapInfo.forEach((type, info) -> this.pools.put(type, new CharacterPool<>(info.getTotalQuantity())));
     }
 
     @Override
@@ -48,8 +79,8 @@ public final class SpawnerImpl implements Spawner {
 
     @Override
     public void respawnQbert() {
-        this.qbert.setNextPosition(new Position2D(this.qbert.getCurrentPosition()));
-        this.qbert.setCurrentState(new SpawnState(this.qbert));
+        this.qbert.setNextPosition(this.qbert.getCurrentPosition());
+        this.qbert.setCurrentState(this.qbert.getStates().spawn());
     }
 
     @Override
@@ -58,41 +89,15 @@ public final class SpawnerImpl implements Spawner {
             if (entry.getValue().getSpawningTime() <= entry.getValue().getElapsedTime()) {
                 entry.getValue().resetElapsedTime();
                 if (entry.getValue().getCurrentQuantity() < entry.getValue().getTotalQuantity()) {
-                    final Character character;
-                    switch (entry.getKey()) {
-                    case COILY:
-                        final Snake snake = ef.createCoily(entry.getValue().getSpeed(), entry.getValue().getStandingTime(), this.qbert);
-                        snake.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.coily = Optional.of(snake);
-                        break;
-                    case RED_BALL:
-                        character = ef.createRedBall(entry.getValue().getSpeed(), entry.getValue().getStandingTime());
-                        character.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.gameCharacters.add(character);
-                        break;
-                    case GREEN_BALL:
-                        character = ef.createGreenBall(entry.getValue().getSpeed(), entry.getValue().getStandingTime());
-                        character.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.gameCharacters.add(character);
-                        break;
-                    case UGG:
-                        character = ef.createUgg(entry.getValue().getSpeed(), entry.getValue().getStandingTime());
-                        character.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.gameCharacters.add(character);
-                        break;
-                    case WRONGWAY:
-                        character = ef.createWrongway(entry.getValue().getSpeed(), entry.getValue().getStandingTime());
-                        character.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.gameCharacters.add(character);
-                        break;
-                    case SAM_AND_SLICK:
-                        character = ef.createSamAndSlick(entry.getValue().getSpeed(), entry.getValue().getStandingTime());
-                        character.setCurrentPosition(new Position2D(Dimensions.UNDEFINED_POSITION));
-                        this.gameCharacters.add(character);
-                        break;
-                    default:
+                    final Character character = this.acquire(entry.getKey());
+                    character.setCurrentPosition(Dimensions.UNDEFINED_POSITION);
+                    if (entry.getKey() == CharactersList.COILY) {
+                        this.coily = Optional.of((Snake) character);
+                    } else {
+                        this.addGameCharacter(character);
                     }
                     entry.getValue().incCurrentQuantity();
+                    this.version++;
                 }
             } else {
                 entry.getValue().incElapsedTime(dt);
@@ -102,16 +107,16 @@ public final class SpawnerImpl implements Spawner {
 
     @Override
     public void death(final Character character) {
-        final String name = character.getClass().getSimpleName();
+        final CharactersList type = this.getType(character);
 
-        if (this.mapInfo.get(CharactersList.getEnumConstantByValue(name)) != null && this.mapInfo.get(CharactersList.getEnumConstantByValue(name)).getCurrentQuantity() > 0) {
-            this.mapInfo.get(CharactersList.getEnumConstantByValue(name)).decCurrentQuantity();
+        if (this.mapInfo.get(type) != null && this.mapInfo.get(type).getCurrentQuantity() > 0) {
+            this.mapInfo.get(type).decCurrentQuantity();
         }
     }
 
     @Override
     public List<Character> getGameCharacters() {
-        return Collections.unmodifiableList(this.gameCharacters);
+        return this.gameCharacters.asList();
     }
 
     @Override
@@ -121,24 +126,156 @@ public final class SpawnerImpl implements Spawner {
 
     @Override
     public void killAll() {
-        this.updateGameCharacters(this.getGameCharacters().stream().peek(e -> {
-            e.setCurrentState(new DeathState(e));
-            this.death(e);
-        }).filter(e -> !e.isDead()).collect(Collectors.toList()));
+        for (int i = 0; i < this.gameCharacters.size(); i++) {
+            final Character e = this.gameCharacters.get(i);
+            e.setCurrentState(e.getStates().death());
+        }
+        this.removeDeadCharacters();
         this.killCoily();
     }
 
     @Override
     public void killCoily() {
         if (this.coily.isPresent()) {
-            this.coily.get().setCurrentState(new DeathState(this.coily.get()));
+            this.coily.get().setCurrentState(this.coily.get().getStates().death());
             this.death(this.coily.get());
+            this.release(this.coily.get());
             this.coily = Optional.empty();
+            this.version++;
+        }
+    }
+
+    @Override
+    public void removeDeadCharacters() {
+        if (this.gameCharacters.removeIf(Character::isDead, this.dismissal) > 0) {
+            this.version++;
+        }
+    }
+
+    @Override
+    public int getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public CandidateIndex getOccupancy() {
+        return this.occupancy;
+    }
+
+    @Override
+    public Map<CharactersList, CharacterPool<Character>> getPools() {
+        return Collections.unmodifiableMap(this.pools);
+    }
+
+    @Override
+    public CharactersList getType(final Character character) {
+        return CharactersList.getEnumConstantByValue(character.getClass().getSimpleName());
+    }
+
+    @Override
+    public void save(final LevelSnapshot snapshot) {
+        this.mapInfo.values().forEach(info -> info.save(snapshot));
+        this.qbert.save(snapshot);
+        snapshot.putInt(this.gameCharacters.size());
+        for (int i = 0; i < this.gameCharacters.size(); i++) {
+            final Character character = this.gameCharacters.get(i);
+            snapshot.putByte(this.getType(character).ordinal());
+            character.save(snapshot);
+        }
+        snapshot.putBoolean(this.coily.isPresent());
+        if (this.coily.isPresent()) {
+            this.coily.get().save(snapshot);
         }
     }
 
+    /**
+     * The characters in game go back to their pools and the saved ones are taken from there, so that restoring
+     * again and again doesn't create new objects.
+     */
     @Override
-    public void updateGameCharacters(final List<Character> gc) {
-        this.gameCharacters = gc;
+    public void restore(final LevelSnapshot snapshot) {
+        this.mapInfo.values().forEach(info -> info.restore(snapshot));
+        this.qbert.restore(snapshot);
+
+        this.gameCharacters.removeIf(c -> true, this::recycle);
+        this.coily.ifPresent(this::release);
+        this.coily = Optional.empty();
+
+        final int characters = snapshot.getInt();
+        for (int i = 0; i < characters; i++) {
+            final Character character = this.acquire(CharactersList.values()[snapshot.getByte()]);
+            //Added before being restored, so that the occupancy sees its positions change
+            this.addGameCharacter(character);
+            character.restore(snapshot);
+        }
+        if (snapshot.getBoolean()) {
+            final Character character = this.acquire(CharactersList.COILY);
+            character.restore(snapshot);
+            this.coily = Optional.of((Snake) character);
+        }
+        this.version++;
+    }
+
+    /**
+     * @param type the type of the {@link Character}
+     * @return a {@link Character} taken from the pool and spawned again, or a new one if the pool is empty
+     */
+    private Character acquire(final CharactersList type) {
+        final Optional<Character> pooled = this.pools.get(type).acquire();
+        if (pooled.isPresent()) {
+            this.ef.respawn(pooled.get(), type);
+            return pooled.get();
+        }
+        return this.create(type, this.mapInfo.get(type));
+    }
+
+    private Character create(final CharactersList type, final EnemyInfo info) {
+        switch (type) {
+        case COILY:
+            return this.pursuit.isPresent()
+                    ? this.ef.createCoily(info.getSpeed(), info.getStandingTime(), this.qbert, this.pursuit.get())
+                    : this.ef.createCoily(info.getSpeed(), info.getStandingTime(), this.qbert);
+        case RED_BALL:
+            return this.ef.createRedBall(info.getSpeed(), info.getStandingTime());
+        case GREEN_BALL:
+            return this.ef.createGreenBall(info.getSpeed(), info.getStandingTime());
+        case UGG:
+            return this.ef.createUgg(info.getSpeed(), info.getStandingTime());
+        case WRONGWAY:
+            return this.ef.createWrongway(info.getSpeed(), info.getStandingTime());
+        default:
+            return this.ef.createSamAndSlick(info.getSpeed(), info.getStandingTime());
+        }
+    }
+
+    /**
+     * @param character a {@link Character} which left the game, given back to its pool
+     */
+    private void release(final Character character) {
+        final CharacterPool<Character> pool = this.pools.get(this.getType(character));
+        if (pool != null) {
+            pool.release(character);
+        }
+    }
+
+    /**
+     * @param character a dead {@link Character} just removed from the game
+     */
+    private void dismiss(final Character character) {
+        this.death(character);
+        this.recycle(character);
+    }
+
+    /**
+     * @param character a {@link Character} just removed from the game, leaving the occupancy for its pool
+     */
+    private void recycle(final Character character) {
+        this.occupancy.remove(character);
+        this.release(character);
+    }
+
+    private void addGameCharacter(final Character character) {
+        this.gameCharacters.add(character);
+        this.occupancy.add(character);
     }
 }
@@ -4,6 +4,8 @@ import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.Map;
 
+import qbert.model.utilities.GameRandom;
+
 /**
  * The interface for the management of the combination of the background and tiles colors in the level/round.
  */
@@ -11,9 +13,10 @@ public interface ColorComposition {
 
     /**
      * @param n the number of the tiles colors to be set in the current round
+     * @param random the source of the random choice of the colors
      * @return the map containing all the tiles colors of the current round
      */
-    Map<Integer, BufferedImage> getColorComposition(int n);
+    Map<Integer, BufferedImage> getColorComposition(int n, GameRandom random);
 
     /**
      * @return the {@link BufferedImage} representing the background image
@@ -1,12 +1,15 @@
 package qbert.model.sprites;
 
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import qbert.model.utilities.GameRandom;
+
 /**
  * The implementation of {@link ColorComposition}.
  */
@@ -25,13 +28,17 @@ public class ColorCompositionImpl implements ColorComposition {
     }
 
     @Override
-    public final Map<Integer, BufferedImage> getColorComposition(final int n) {
-        Collections.shuffle(tilesList);
+    public final Map<Integer, BufferedImage> getColorComposition(final int n, final GameRandom random) {
+        //Shuffled copy, the order of the shared list would otherwise depend on the previous rounds
+        final List<BufferedImage> shuffled = new ArrayList<>(this.tilesList);
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            Collections.swap(shuffled, i, random.nextInt(i + 1));
+        }
 
         final int num = n > tilesList.size() ? (tilesList.size() - 1) : n;
 
         final AtomicInteger ai = new AtomicInteger();
-        return this.tilesList.stream()
+        return shuffled.stream()
                              .limit(num + 1)
                              .collect(Collectors.toMap(e -> ai.getAndIncrement(), e -> e));
     }
@@ -0,0 +1,61 @@
+package qbert.model.sprites;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The orientations a sprite can be drawn with, as mirrored images made when the sprites are loaded.
+ */
+public enum Flip {
+
+    /**
+     * The sprite as it is.
+     */
+    NONE,
+
+    /**
+     * The sprite flipped on the X axis, upside down.
+     */
+    ON_X,
+
+    /**
+     * The sprite flipped on the Y axis, facing the other side.
+     */
+    ON_Y;
+
+    /**
+     * @param image the {@link BufferedImage} to flip
+     * @return a new {@link BufferedImage} flipped as this orientation, the same one for {@link #NONE}
+     */
+    public BufferedImage apply(final BufferedImage image) {
+        final AffineTransform transformation;
+        switch (this) {
+        case ON_X:
+            transformation = AffineTransform.getScaleInstance(1, -1);
+            transformation.translate(0, -image.getHeight());
+            break;
+        case ON_Y:
+            transformation = AffineTransform.getScaleInstance(-1, 1);
+            transformation.translate(-image.getWidth(), 0);
+            break;
+        default:
+            return image;
+        }
+        return new AffineTransformOp(transformation, AffineTransformOp.TYPE_NEAREST_NEIGHBOR).filter(image, null);
+    }
+
+    /**
+     * @param image the {@link BufferedImage} to flip
+     * @return the image in every orientation
+     */
+    public static Map<Flip, BufferedImage> variantsOf(final BufferedImage image) {
+        final Map<Flip, BufferedImage> variants = new EnumMap<>(Flip.class);
+        for (final Flip flip : Flip.values()) {
+            variants.put(flip, flip.apply(image));
+        }
+        return variants;
+    }
+}
@@ -16,4 +16,16 @@ public interface OneSideCharacterSprites {
      * @return the sprite used when the character is moving
      */
     BufferedImage getMoveSprite();
+
+    /**
+     * @param flip the orientation of the sprite
+     * @return the sprite used when the character is standing, flipped as asked
+     */
+    BufferedImage getStandSprite(Flip flip);
+
+    /**
+     * @param flip the orientation of the sprite
+     * @return the sprite used when the character is moving, flipped as asked
+     */
+    BufferedImage getMoveSprite(Flip flip);
 }
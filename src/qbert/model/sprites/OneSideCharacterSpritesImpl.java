@@ -1,31 +1,42 @@
 package qbert.model.sprites;
 
 import java.awt.image.BufferedImage;
+import java.util.Map;
 
 /**
- * An implementation of {@link OneSideCharacterSprites}.
+ * An implementation of {@link OneSideCharacterSprites}, every {@link Flip} of the sprites is made when it's created.
  */
 public class OneSideCharacterSpritesImpl implements OneSideCharacterSprites {
 
-    private final BufferedImage standSprite;
-    private final BufferedImage moveSprite;
+    private final Map<Flip, BufferedImage> standSprites;
+    private final Map<Flip, BufferedImage> moveSprites;
 
     /**
      * @param standSprite the sprite used when the character is standing
      * @param moveSprite the sprite used when the character is moving
      */
     public OneSideCharacterSpritesImpl(final BufferedImage standSprite, final BufferedImage moveSprite) {
-        this.standSprite = standSprite;
-        this.moveSprite = moveSprite;
+        this.standSprites = Flip.variantsOf(standSprite);
+        this.moveSprites = Flip.variantsOf(moveSprite);
     }
 
     @Override 
     public final BufferedImage getStandSprite() {
-        return this.standSprite;
+        return this.getStandSprite(Flip.NONE);
     }
 
     @Override 
     public final BufferedImage getMoveSprite() {
-        return this.moveSprite;
+        return this.getMoveSprite(Flip.NONE);
+    }
+
+    @Override
+    public final BufferedImage getStandSprite(final Flip flip) {
+        return this.standSprites.get(flip);
+    }
+
+    @Override
+    public final BufferedImage getMoveSprite(final Flip flip) {
+        return this.moveSprites.get(flip);
     }
 }
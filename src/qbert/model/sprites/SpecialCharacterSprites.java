@@ -12,6 +12,12 @@ public interface SpecialCharacterSprites {
      */
     BufferedImage getDeathSprite();
 
+    /**
+     * @param flip the orientation of the sprite
+     * @return the sprite for the character when is dead, flipped as asked
+     */
+    BufferedImage getDeathSprite(Flip flip);
+
     /**
      *  @return the sprite for the character when is surfing the disk
      */
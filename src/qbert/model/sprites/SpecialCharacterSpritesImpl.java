@@ -1,13 +1,14 @@
 package qbert.model.sprites;
 
 import java.awt.image.BufferedImage;
+import java.util.Map;
 
 /**
- * Implementation of {@link SpecialCharacterSprites}.
+ * Implementation of {@link SpecialCharacterSprites}, every {@link Flip} of the death sprite is made when it's created.
  */
 public class SpecialCharacterSpritesImpl implements SpecialCharacterSprites {
 
-    private final BufferedImage deathSprite;
+    private final Map<Flip, BufferedImage> deathSprites;
     private final BufferedImage onDiskSprite;
 
     /**
@@ -15,13 +16,18 @@ public class SpecialCharacterSpritesImpl implements SpecialCharacterSprites {
      * @param onDiskSprite the sprite used when the character is surfing the disk
      */
     public SpecialCharacterSpritesImpl(final BufferedImage deathSprite, final BufferedImage onDiskSprite) {
-        this.deathSprite = deathSprite;
+        this.deathSprites = Flip.variantsOf(deathSprite);
         this.onDiskSprite = onDiskSprite;
     }
 
     @Override
     public final BufferedImage getDeathSprite() {
-        return this.deathSprite;
+        return this.getDeathSprite(Flip.NONE);
+    }
+
+    @Override
+    public final BufferedImage getDeathSprite(final Flip flip) {
+        return this.deathSprites.get(flip);
     }
 
     @Override
@@ -36,5 +36,6 @@ public class FreezeEntities extends UpdateManager {
 
         this.updateQbert(elapsed);
         this.updateDisks(elapsed);
+        this.removeDeadCharacters();
     }
 }
@@ -1,6 +1,9 @@
 package qbert.model.update;
 
+import java.util.List;
+
 import qbert.model.LevelStatus;
+import qbert.model.characters.Character;
 import qbert.model.characters.Player;
 import qbert.model.components.MapComponent;
 import qbert.model.components.PointComponent;
@@ -31,9 +34,10 @@ public class FreezeNone extends UpdateManager {
      */
     public void update(final float elapsed) {
         this.getQbert().update(elapsed);
-        this.getSpawner().getGameCharacters().stream().forEach(e -> {
-            e.update(elapsed);
-        });
+        final List<Character> characters = this.getSpawner().getGameCharacters();
+        for (int i = 0; i < characters.size(); i++) {
+            characters.get(i).update(elapsed);
+        }
         if (this.getSpawner().getCoily().isPresent()) {
             this.getSpawner().getCoily().get().update(elapsed);
         }
@@ -43,5 +47,6 @@ public class FreezeNone extends UpdateManager {
         this.updateQbert(elapsed);
         this.updateDisks(elapsed);
         this.updateEntities(elapsed);
+        this.removeDeadCharacters();
     }
 }
@@ -1,13 +1,12 @@
 package qbert.model.update;
 
-import java.util.stream.Collectors;
+import java.util.List;
 
 import qbert.model.LevelStatus;
+import qbert.model.characters.Character;
 import qbert.model.characters.DownUpwardCharacter;
 import qbert.model.characters.Player;
-import qbert.model.characters.states.DeathState;
-import qbert.model.characters.states.FallState;
-import qbert.model.characters.states.LandState;
+import qbert.model.characters.states.StateKind;
 import qbert.model.collision.DiagonalCollision;
 import qbert.model.collision.CompositeCollision;
 import qbert.model.collision.StompCollision;
@@ -88,17 +87,17 @@ public abstract class UpdateManager implements UpdateStrategy {
      * @param elapsed the time passed since the last game cycle
      */
     protected void updateCollisions(final float elapsed) {
-        spawner.updateGameCharacters(spawner.getGameCharacters().stream().peek(e -> {
-            e.checkCollision(qbert, points, timer, new CompositeCollision(false));
-
-            if (e.isDead()) {
-                //Notify Spawner
-                spawner.death(e);
+        //Only the characters near Qbert can collide with him
+        final List<Character> candidates = spawner.getOccupancy().getCandidates(qbert);
+        for (int i = 0; i < candidates.size(); i++) {
+            final Character e = candidates.get(i);
+            if (!e.isDead()) {
+                e.checkCollision(qbert, points, timer, CompositeCollision.MOVING);
             }
-        }).filter(e -> !e.isDead()).collect(Collectors.toList()));
+        }
 
         if (spawner.getCoily().isPresent()) {
-            spawner.getCoily().get().checkCollision(qbert, points, timer, new CompositeCollision(false));
+            spawner.getCoily().get().checkCollision(qbert, points, timer, CompositeCollision.MOVING);
         }
     }
 
@@ -107,7 +106,7 @@ public abstract class UpdateManager implements UpdateStrategy {
      */
     protected void updateQbert(final float elapsed) {
         if (qbert.isDead()) {
-            qbert.setCurrentState(new DeathState(qbert));
+            qbert.setCurrentState(qbert.getStates().death());
                 timer.freezeEverything(() -> {
                     qbert.looseLife();
                     spawner.killAll();
@@ -119,21 +118,26 @@ public abstract class UpdateManager implements UpdateStrategy {
         final Position2D qLogicPos = qbert.getNextPosition();
 
         //Check if entity is just landed 
-        if (qbert.getCurrentState() instanceof LandState) {
+        if (qbert.getCurrentState().getKind() == StateKind.LAND) {
             //Checking if entity is outside the map
             if (this.map.isOnVoid(qLogicPos)) {
                 if (this.map.checkForDisk(qbert)) {
-                    this.spawner.getGameCharacters().forEach(c -> {
-                        c.setCurrentState(new DeathState(c));
-                    });
+                    final List<Character> characters = spawner.getGameCharacters();
+                    for (int i = 0; i < characters.size(); i++) {
+                        characters.get(i).setCurrentState(characters.get(i).getStates().death());
+                    }
                     this.qbert.getPlayerSoundComponent().setOnDiskSound();
                 } else {
-                    qbert.setCurrentState(new FallState(qbert));
+                    qbert.setCurrentState(qbert.getStates().fall());
                 }
             } else {
-                spawner.getGameCharacters().forEach(e -> 
-                    e.checkCollision(qbert, points, timer, new StompCollision())
-                );
+                final List<Character> candidates = spawner.getOccupancy().getCandidates(qbert);
+                for (int i = 0; i < candidates.size(); i++) {
+                    final Character e = candidates.get(i);
+                    if (!e.isDead()) {
+                        e.checkCollision(qbert, points, timer, StompCollision.INSTANCE);
+                    }
+                }
 
                 if (!qbert.isDead()) {
                     qbert.land(this.map, this.points);
@@ -150,43 +154,40 @@ public abstract class UpdateManager implements UpdateStrategy {
     protected void updateEntities(final float elapsed) {
         spawner.update(elapsed);
 
-        spawner.updateGameCharacters(spawner.getGameCharacters().stream().peek(e -> {
+        final List<Character> characters = spawner.getGameCharacters();
+        for (int i = 0; i < characters.size(); i++) {
+            final Character e = characters.get(i);
             final Position2D logicPos = e.getNextPosition();
 
-            //Check if entity is just landed 
-            if (e.getCurrentState() instanceof LandState) {
+            //Check if entity is just landed, the dead ones are removed at the end of the cycle
+            if (!e.isDead() && e.getCurrentState().getKind() == StateKind.LAND) {
                 //Checking if entity collides with Qbert falling out the map sides
-                e.checkCollision(qbert, points, timer, new DiagonalCollision());
+                e.checkCollision(qbert, points, timer, DiagonalCollision.INSTANCE);
 
                 //Checking if entity is outside the map
                 if (this.map.isOnVoid(logicPos)) {
-                    e.setCurrentState(new FallState(e));
+                    e.setCurrentState(e.getStates().fall());
                 } else {
-                    if (!e.checkCollision(qbert, points, timer, new PassiveStompCollision())) {
+                    if (!e.checkCollision(qbert, points, timer, PassiveStompCollision.INSTANCE)) {
                         e.land(this.map, this.points);
                         e.setCurrentState(e.getStandingState());
                     }
                 }
             }
-
-            if (e.isDead()) {
-                //Notify Spawner
-                spawner.death(e);
-            }
-        }).filter(e -> !e.isDead()).collect(Collectors.toList())); /* togliere parentesi se modifico */
+        }
 
         if (spawner.getCoily().isPresent()) {
             final DownUpwardCharacter coily = spawner.getCoily().get();
             final Position2D logicPos = coily.getNextPosition();
 
             //Check if entity is just landed 
-            if (coily.getCurrentState() instanceof LandState) {
+            if (coily.getCurrentState().getKind() == StateKind.LAND) {
                 //Checking if entity is outside the map
                 if (this.map.isOnVoid(logicPos)) {
-                    coily.setCurrentState(new FallState(coily));
+                    coily.setCurrentState(coily.getStates().fall());
                     this.points.score(PointComponentImpl.COILY_FALL_SCORE, qbert);
                 } else {
-                    if (!coily.checkCollision(qbert, points, timer, new PassiveStompCollision())) {
+                    if (!coily.checkCollision(qbert, points, timer, PassiveStompCollision.INSTANCE)) {
                         coily.land(this.map, this.points);
                         coily.setCurrentState(coily.getStandingState());
                     }
@@ -199,6 +200,13 @@ public abstract class UpdateManager implements UpdateStrategy {
         }
     }
 
+    /**
+     * Remove the characters died during this game cycle, it must be the last update of the cycle.
+     */
+    protected void removeDeadCharacters() {
+        this.spawner.removeDeadCharacters();
+    }
+
     /**
      * @param elapsed the time passed since the last game cycle
      */
@@ -0,0 +1,27 @@
+package qbert.model.utilities;
+
+/**
+ * What a cell of the map grid contains.
+ */
+public enum CellKind {
+
+    /**
+     * Nothing, an entity landing here falls.
+     */
+    VOID,
+
+    /**
+     * The top of a cube, an entity landing here changes its color.
+     */
+    TILE,
+
+    /**
+     * The side of a cube, reachable only by the entities moving sideways.
+     */
+    SIDE,
+
+    /**
+     * A place next to the pyramid where a {@link Disk} can be.
+     */
+    DISK
+}
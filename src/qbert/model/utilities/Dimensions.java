@@ -68,7 +68,7 @@ public final class Dimensions {
     /**
      * A position that doesn't exist in the grid.
      */
-    public static final Position2D UNDEFINED_POSITION = new Position2D(-MAP_COLUMNS, -MAP_ROWS);
+    public static final Position2D UNDEFINED_POSITION = Position2D.of(-MAP_COLUMNS, -MAP_ROWS);
 
     private static int windowHeight;
     private static int windowWidth;
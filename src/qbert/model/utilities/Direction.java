@@ -0,0 +1,56 @@
+package qbert.model.utilities;
+
+/**
+ * The four diagonal directions of the jumps on the pyramid, expressed as the sign of the logic movement on each axis.
+ */
+public enum Direction {
+
+    /**
+     * Up and to the left.
+     */
+    UP_LEFT(-1, 1),
+
+    /**
+     * Up and to the right.
+     */
+    UP_RIGHT(1, 1),
+
+    /**
+     * Down and to the left.
+     */
+    DOWN_LEFT(-1, -1),
+
+    /**
+     * Down and to the right.
+     */
+    DOWN_RIGHT(1, -1);
+
+    private final int dx;
+    private final int dy;
+
+    Direction(final int dx, final int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * @return the sign of the movement on the X axis
+     */
+    public int getDx() {
+        return this.dx;
+    }
+
+    /**
+     * @return the sign of the movement on the Y axis
+     */
+    public int getDy() {
+        return this.dy;
+    }
+
+    /**
+     * @return the bit representing this {@link Direction} in a mask of directions
+     */
+    public int getMask() {
+        return 1 << this.ordinal();
+    }
+}
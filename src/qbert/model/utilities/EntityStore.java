@@ -0,0 +1,122 @@
+package qbert.model.utilities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A compact array-backed container for game entities, removing them by moving the last one in their place.
+ * The order of the elements is not kept by removals, in exchange no element is shifted and no
+ * list is rebuilt: removals are meant to be done once at the end of the game cycle through
+ * {@link #removeIf(Predicate, Consumer)}, so that during the cycle the elements keep their indexes
+ * and an index loop sees each of them exactly once, plus the ones added meanwhile at the end.
+ * @param <E> the type of the entities
+ */
+public final class EntityStore<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int size;
+    private final List<E> view;
+
+    /**
+     * Creates an empty store.
+     */
+    public EntityStore() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+        this.view = new View();
+    }
+
+    /**
+     * @param element the entity to add at the end
+     */
+    public void add(final E element) {
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size * 2);
+        }
+        this.elements[this.size++] = element;
+    }
+
+    /**
+     * @param index the index of an entity, between 0 and {@link #size()}
+     * @return the entity
+     */
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + this.size);
+        }
+        return (E) this.elements[index];
+    }
+
+    /**
+     * @return the number of entities
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return true if there are no entities
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Remove all the entities satisfying the given condition.
+     * @param filter the condition of the entities to remove
+     * @param onRemoved called with each removed entity
+     * @return the number of removed entities
+     */
+    public int removeIf(final Predicate<? super E> filter, final Consumer<? super E> onRemoved) {
+        int removed = 0;
+        //Walking backwards, the last element moved in place of a removed one has already been tested
+        for (int i = this.size - 1; i >= 0; i--) {
+            final E element = this.get(i);
+            if (filter.test(element)) {
+                this.size--;
+                this.elements[i] = this.elements[this.size];
+                this.elements[this.size] = null;
+                onRemoved.accept(element);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all the entities.
+     */
+    public void clear() {
+        Arrays.fill(this.elements, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * @return an unmodifiable {@link List} view of the entities, always the same instance
+     */
+    public List<E> asList() {
+        return this.view;
+    }
+
+    /**
+     * The read-only {@link List} returned by {@link EntityStore#asList()}.
+     */
+    private final class View extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public E get(final int index) {
+            return EntityStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return EntityStore.this.size;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package qbert.model.utilities;
+
+/**
+ * The source of the random choices of the game, a SplitMix64 generator drawing the same numbers as a
+ * {@link java.util.SplittableRandom} with the same seed. Unlike that one, its whole state is a single long
+ * that can be read and set again, so a saved game can go on with the same choices it would have made.
+ * It isn't thread safe.
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX64_FIRST = 0xbf58476d1ce4e5b9L;
+    private static final long MIX64_SECOND = 0x94d049bb133111ebL;
+    private static final long MIX32_FIRST = 0x62a9d9ed799705f5L;
+    private static final long MIX32_SECOND = 0xcb24d0a5c88c35b3L;
+    private static final int SHIFT_27 = 27;
+    private static final int SHIFT_28 = 28;
+    private static final int SHIFT_30 = 30;
+    private static final int SHIFT_31 = 31;
+    private static final int SHIFT_33 = 33;
+
+    private long state;
+
+    /**
+     * @param seed the initial state
+     */
+    public GameRandom(final long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * @return the current state, to be passed to {@link #setState(long)} to draw the same numbers again
+     */
+    public long getState() {
+        return this.state;
+    }
+
+    /**
+     * @param state a state returned by {@link #getState()}
+     */
+    public void setState(final long state) {
+        this.state = state;
+    }
+
+    /**
+     * @return a random long
+     */
+    public long nextLong() {
+        return mix64(this.nextSeed());
+    }
+
+    /**
+     * @param bound the upper bound, exclusive
+     * @return a random int between 0 and bound
+     * @throws IllegalArgumentException if bound isn't positive
+     */
+    public int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive");
+        }
+        int r = mix32(this.nextSeed());
+        final int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        //Values from the last incomplete range are rejected so that every result is as likely
+        int u = r >>> 1;
+        while (u + m - (r = u % bound) < 0) {
+            u = mix32(this.nextSeed()) >>> 1;
+        }
+        return r;
+    }
+
+    /**
+     * @return a random boolean
+     */
+    public boolean nextBoolean() {
+        return mix32(this.nextSeed()) < 0;
+    }
+
+    private long nextSeed() {
+        this.state += GOLDEN_GAMMA;
+        return this.state;
+    }
+
+    private static long mix64(final long seed) {
+        long z = (seed ^ (seed >>> SHIFT_30)) * MIX64_FIRST;
+        z = (z ^ (z >>> SHIFT_27)) * MIX64_SECOND;
+        return z ^ (z >>> SHIFT_31);
+    }
+
+    private static int mix32(final long seed) {
+        final long z = (seed ^ (seed >>> SHIFT_33)) * MIX32_FIRST;
+        return (int) (((z ^ (z >>> SHIFT_28)) * MIX32_SECOND) >>> Integer.SIZE);
+    }
+}
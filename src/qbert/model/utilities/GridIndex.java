@@ -0,0 +1,74 @@
+package qbert.model.utilities;
+
+/**
+ * Utility class packing the logic coordinates of the map in a single index, used to store its cells in flat arrays.
+ * The grid includes a margin around the pyramid wide enough for the disks, positions outside of it are void.
+ */
+public final class GridIndex {
+
+    /**
+     * Number of columns added on each side of the pyramid.
+     */
+    public static final int X_OFFSET = 4;
+
+    /**
+     * Number of columns of the grid.
+     */
+    public static final int WIDTH = Dimensions.MAP_COLUMNS + 2 * X_OFFSET;
+
+    /**
+     * Number of rows of the grid.
+     */
+    public static final int HEIGHT = Dimensions.MAP_ROWS;
+
+    /**
+     * Number of cells of the grid.
+     */
+    public static final int SIZE = WIDTH * HEIGHT;
+
+    /**
+     * The index returned for positions outside the grid.
+     */
+    public static final int OUTSIDE = -1;
+
+    private GridIndex() {
+    }
+
+    /**
+     * @param x the horizontal logic coordinate
+     * @param y the vertical logic coordinate
+     * @return the index of the cell, or {@link #OUTSIDE}
+     */
+    public static int indexOf(final int x, final int y) {
+        final int column = x + X_OFFSET;
+        //A single unsigned comparison for each coordinate checks both bounds
+        if (Integer.compareUnsigned(column, WIDTH) >= 0 || Integer.compareUnsigned(y, HEIGHT) >= 0) {
+            return OUTSIDE;
+        }
+        return y * WIDTH + column;
+    }
+
+    /**
+     * @param position the logic {@link Position2D}
+     * @return the index of the cell, or {@link #OUTSIDE}
+     */
+    public static int indexOf(final Position2D position) {
+        return GridIndex.indexOf(position.getX(), position.getY());
+    }
+
+    /**
+     * @param index the index of a cell
+     * @return the horizontal logic coordinate of the cell
+     */
+    public static int getX(final int index) {
+        return index % WIDTH - X_OFFSET;
+    }
+
+    /**
+     * @param index the index of a cell
+     * @return the vertical logic coordinate of the cell
+     */
+    public static int getY(final int index) {
+        return index / WIDTH;
+    }
+}
@@ -1,20 +1,42 @@
 package qbert.model.utilities;
 
 /**
- * A Class representing a 2 dimensional position.
+ * An immutable Class representing a 2 dimensional position.
+ * Since instances can't change they can be freely shared: {@link #of(int, int)} returns cached
+ * instances for the small coordinates of the logical map, and the same position can be packed in a
+ * primitive long by {@link #pack(int, int)} where no object is needed at all.
  */
-public class Position2D {
+public final class Position2D {
+
+    private static final int CACHE_MIN = -32;
+    private static final int CACHE_SIZE = 64;
+    private static final Position2D[] CACHE = new Position2D[CACHE_SIZE * CACHE_SIZE];
+    private static final long LOW_BITS = 0xFFFFFFFFL;
+    private static final int INT_BITS = 32;
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Position2D(CACHE_MIN + i / CACHE_SIZE, CACHE_MIN + i % CACHE_SIZE);
+        }
+    }
+
+    /**
+     * The origin of the axis.
+     */
+    public static final Position2D ZERO = of(0, 0);
+
     /**
      * X coordinate.
      */
-    private int x;
+    private final int x;
     /**
      * Y coordinate.
      */
-    private int y;
+    private final int y;
 
     /**
      * Constructor receiving the two coordinate.
+     * {@link #of(int, int)} should be preferred since it can return a cached instance.
      * @param x the horizontal coordinate
      * @param y the vertical coordinate
      */
@@ -24,26 +46,68 @@ public class Position2D {
     }
 
     /**
-     * Constructor receiving a new {@link Position2D}.
-     * @param position the new {@link Position2D}
+     * @param x the horizontal coordinate
+     * @param y the vertical coordinate
+     * @return a {@link Position2D} with the given coordinates, without allocating if they are in the cached range
+     */
+    public static Position2D of(final int x, final int y) {
+        final int cx = x - CACHE_MIN;
+        final int cy = y - CACHE_MIN;
+        //Unsigned comparison checks both the lower and the upper bound
+        if (Integer.compareUnsigned(cx, CACHE_SIZE) < 0 && Integer.compareUnsigned(cy, CACHE_SIZE) < 0) {
+            return CACHE[cx * CACHE_SIZE + cy];
+        }
+        return new Position2D(x, y);
+    }
+
+    /**
+     * @param packed the coordinates packed by {@link #pack(int, int)}
+     * @return the {@link Position2D} with the packed coordinates
      */
-    public Position2D(final Position2D position) {
-        this.x = position.x;
-        this.y = position.y;
+    public static Position2D of(final long packed) {
+        return of(unpackX(packed), unpackY(packed));
     }
 
     /**
+     * @param x the horizontal coordinate
+     * @param y the vertical coordinate
+     * @return the two coordinates packed in a long, x in the high half and y in the low one
+     */
+    public static long pack(final int x, final int y) {
+        return ((long) x << INT_BITS) | (y & LOW_BITS);
+    }
+
+    /**
+     * @param packed the coordinates packed by {@link #pack(int, int)}
      * @return the x coordinate
      */
-    public int getX() {
-        return this.x;
+    public static int unpackX(final long packed) {
+        return (int) (packed >> INT_BITS);
     }
 
     /**
-     * @param d the new horizontal coordinate
+     * @param packed the coordinates packed by {@link #pack(int, int)}
+     * @return the y coordinate
      */
-    public void setX(final int d) {
-        this.x = d;
+    public static int unpackY(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * @param packed the coordinates packed by {@link #pack(int, int)}
+     * @param dx the horizontal offset
+     * @param dy the vertical offset
+     * @return the packed coordinates moved by the given offsets
+     */
+    public static long addPacked(final long packed, final int dx, final int dy) {
+        return pack(unpackX(packed) + dx, unpackY(packed) + dy);
+    }
+
+    /**
+     * @return the x coordinate
+     */
+    public int getX() {
+        return this.x;
     }
 
     /**
@@ -54,42 +118,37 @@ public class Position2D {
     }
 
     /**
-     * @param y the new vertical coordinate
+     * @return this {@link Position2D} packed in a long
      */
-    public void setY(final int y) {
-        this.y = y;
+    public long toLong() {
+        return pack(this.x, this.y);
+    }
+
+    /**
+     * @param x the horizontal coordinate
+     * @param y the vertical coordinate
+     * @return true if this {@link Position2D} has the given coordinates
+     */
+    public boolean is(final int x, final int y) {
+        return this.x == x && this.y == y;
     }
 
     @Override
-    public final int hashCode() {
+    public int hashCode() {
         final int prime = 31;
-        int result = 1;
-        long temp;
-        temp = Double.doubleToLongBits(x);
-        result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(y);
-        result = prime * result + (int) (temp ^ (temp >>> 32));
-        return result;
+        return prime * this.x + this.y;
     }
 
     @Override
-    public final boolean equals(final Object obj) {
+    public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
+        if (!(obj instanceof Position2D)) {
             return false;
         }
         final Position2D other = (Position2D) obj;
-        if (Double.doubleToLongBits(x) != Double.doubleToLongBits(other.x)) {
-            return false;
-        } else if (Double.doubleToLongBits(y) != Double.doubleToLongBits(other.y)) {
-            return false;
-        }
-            return true;
+        return this.x == other.x && this.y == other.y;
     }
 
     /**
@@ -115,19 +174,51 @@ public class Position2D {
         return (int) Math.sqrt((this.getX() * this.getX()) + (this.getY() * this.getY()));
     }
 
+    /**
+     * @param dx the horizontal offset
+     * @param dy the vertical offset
+     * @return this {@link Position2D} moved by the given offsets
+     */
+    public Position2D add(final int dx, final int dy) {
+        return dx == 0 && dy == 0 ? this : of(this.x + dx, this.y + dy);
+    }
+
     /**
      * @param other the vector to sum
+     * @return the sum of the two vectors
      */
-    public void vectorSum(final Position2D other) {
-        this.setX(this.getX() + other.getX());
-        this.setY(this.getY() + other.getY());
+    public Position2D add(final Position2D other) {
+        return this.add(other.x, other.y);
+    }
+
+    /**
+     * @param other the vector to subtract
+     * @return the difference of the two vectors
+     */
+    public Position2D subtract(final Position2D other) {
+        return this.add(-other.x, -other.y);
+    }
+
+    /**
+     * @param target the {@link Position2D} reached when alpha is 1
+     * @param alpha the interpolation factor, between 0 and 1
+     * @return the linear interpolation between this {@link Position2D} and the target
+     */
+    public Position2D interpolate(final Position2D target, final float alpha) {
+        if (alpha <= 0 || this.equals(target)) {
+            return this;
+        } else if (alpha >= 1) {
+            return target;
+        }
+        return of(Math.round(this.getX() + (target.getX() - this.getX()) * alpha),
+                Math.round(this.getY() + (target.getY() - this.getY()) * alpha));
     }
 
     /**
      * @param scalar the scalar multiplied to the vector
+     * @return the scaled vector
      */
-    public void scalarMul(final float scalar) {
-        this.setX((int) (this.getX() * scalar));
-        this.setY((int) (this.getY() * scalar));
+    public Position2D scale(final float scalar) {
+        return of((int) (this.getX() * scalar), (int) (this.getY() * scalar));
     }
 }
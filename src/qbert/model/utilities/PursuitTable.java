@@ -0,0 +1,168 @@
+package qbert.model.utilities;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The shortest paths between every pair of cells of the pyramid a chasing enemy can move on, computed once
+ * for a map so that the best jump toward a target is a lookup.
+ * The nodes are the tiles and the places of the disks: the latter can be reached with a jump from the
+ * pyramid edge, but have no way out since a chaser jumping there falls.
+ */
+public final class PursuitTable {
+
+    /**
+     * The logic distance covered by a jump on each axis.
+     */
+    public static final int JUMP = 2;
+
+    /**
+     * The distance returned when a cell can't be reached.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NO_NODE = -1;
+
+    private final int[] nodeOf;
+    private final int[] cellOf;
+    private final int nodes;
+    private final byte[] distances;
+    private final byte[] hops;
+
+    /**
+     * @param kinds the {@link CellKind} of each logic {@link Position2D} of the map
+     */
+    public PursuitTable(final Function<Position2D, CellKind> kinds) {
+        this.nodeOf = new int[GridIndex.SIZE];
+        Arrays.fill(this.nodeOf, NO_NODE);
+        final int[] cells = new int[GridIndex.SIZE];
+        int count = 0;
+        for (int cell = 0; cell < GridIndex.SIZE; cell++) {
+            final CellKind kind = kinds.apply(Position2D.of(GridIndex.getX(cell), GridIndex.getY(cell)));
+            if (kind == CellKind.TILE || kind == CellKind.DISK) {
+                this.nodeOf[cell] = count;
+                cells[count++] = cell;
+            }
+        }
+        this.nodes = count;
+        this.cellOf = Arrays.copyOf(cells, count);
+        this.distances = new byte[count * count];
+        this.hops = new byte[count * count];
+        Arrays.fill(this.distances, (byte) UNREACHABLE);
+
+        final boolean[] exits = new boolean[count];
+        for (int node = 0; node < count; node++) {
+            exits[node] = kinds.apply(this.positionOf(node)) == CellKind.TILE;
+        }
+        for (int target = 0; target < count; target++) {
+            this.computePaths(target, exits);
+        }
+    }
+
+    /**
+     * Breadth first search backward from the target, then choice of the jumps which get closer to it.
+     */
+    private void computePaths(final int target, final boolean[] exits) {
+        final Deque<Integer> queue = new ArrayDeque<>();
+        this.distances[this.slot(target, target)] = 0;
+        queue.add(target);
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            final int distance = this.distances[this.slot(node, target)];
+            for (final Direction d : DIRECTIONS) {
+                final int from = this.neighbour(node, d);
+                //Only the tiles have a way out, so only they can be a step of a path
+                if (from != NO_NODE && exits[from] && this.distances[this.slot(from, target)] == UNREACHABLE) {
+                    this.distances[this.slot(from, target)] = (byte) (distance + 1);
+                    queue.add(from);
+                }
+            }
+        }
+        for (int from = 0; from < this.nodes; from++) {
+            final int distance = this.distances[this.slot(from, target)];
+            if (exits[from] && distance > 0) {
+                int mask = 0;
+                for (final Direction d : DIRECTIONS) {
+                    final int to = this.neighbour(from, d);
+                    if (to != NO_NODE && this.distances[this.slot(to, target)] == distance - 1) {
+                        mask |= d.getMask();
+                    }
+                }
+                this.hops[this.slot(from, target)] = (byte) mask;
+            }
+        }
+    }
+
+    /**
+     * @param from the starting logic {@link Position2D}
+     * @param to the target logic {@link Position2D}
+     * @return the minimum number of jumps from a cell to the other, or {@link #UNREACHABLE}
+     */
+    public int getDistance(final Position2D from, final Position2D to) {
+        final int a = this.nodeAt(from);
+        final int b = this.nodeAt(to);
+        return a == NO_NODE || b == NO_NODE ? UNREACHABLE : this.distances[this.slot(a, b)];
+    }
+
+    /**
+     * @param from the starting logic {@link Position2D}
+     * @param to the target logic {@link Position2D}
+     * @return the mask of all the {@link Direction}s starting a shortest path, 0 if there are none
+     */
+    public int getNextHops(final Position2D from, final Position2D to) {
+        final int a = this.nodeAt(from);
+        final int b = this.nodeAt(to);
+        return a == NO_NODE || b == NO_NODE ? 0 : this.hops[this.slot(a, b)];
+    }
+
+    /**
+     * @param from the starting logic {@link Position2D}
+     * @param to the target logic {@link Position2D}
+     * @param random the source of the choice between paths as short
+     * @return the {@link Direction} of the first jump of a shortest path, chosen randomly when more than one
+     * are as good, or nothing if the target can't be reached or has been reached
+     */
+    public Optional<Direction> getNextHop(final Position2D from, final Position2D to, final GameRandom random) {
+        final int mask = this.getNextHops(from, to);
+        if (mask == 0) {
+            return Optional.empty();
+        }
+        int choice = random.nextInt(Integer.bitCount(mask));
+        for (final Direction d : DIRECTIONS) {
+            if ((mask & d.getMask()) != 0 && choice-- == 0) {
+                return Optional.of(d);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of cells of the table
+     */
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    private int nodeAt(final Position2D position) {
+        final int cell = GridIndex.indexOf(position);
+        return cell == GridIndex.OUTSIDE ? NO_NODE : this.nodeOf[cell];
+    }
+
+    private int neighbour(final int node, final Direction direction) {
+        final Position2D position = this.positionOf(node);
+        return this.nodeAt(position.add(direction.getDx() * JUMP, direction.getDy() * JUMP));
+    }
+
+    private Position2D positionOf(final int node) {
+        final int cell = this.cellOf[node];
+        return Position2D.of(GridIndex.getX(cell), GridIndex.getY(cell));
+    }
+
+    private int slot(final int from, final int to) {
+        return to * this.nodes + from;
+    }
+}
@@ -0,0 +1,154 @@
+package qbert.model.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timing wheel measuring game time: timeouts are put in one of a fixed number of slots, the wheel
+ * visits a slot every tick and runs the callbacks expired. Scheduling and cancelling cost O(1), advancing the wheel
+ * costs O(1) per tick plus the timeouts in the slots visited. Callbacks are run by the thread calling
+ * {@link #advance(float)}.
+ */
+public final class TimerWheel {
+
+    private final Timeout[] slots;
+    private final float tickDuration;
+    private int cursor;
+    private float accumulated;
+    private int pending;
+
+    /**
+     * @param slotsNumber the number of slots, longer timeouts take more revolutions of the wheel
+     * @param tickDuration the time represented by a slot, it's the precision of the timeouts
+     */
+    public TimerWheel(final int slotsNumber, final float tickDuration) {
+        if (slotsNumber <= 0 || tickDuration <= 0) {
+            throw new IllegalArgumentException("Slots and tick duration must be positive");
+        }
+        this.slots = new Timeout[slotsNumber];
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * @param task the callback to be run
+     * @param delay the time after which the callback is run, rounded up to the next tick
+     * @return the {@link Timeout} that can be used to cancel the callback
+     */
+    public Timeout schedule(final Runnable task, final float delay) {
+        final long ticks = Math.max(1, (long) Math.ceil((delay + this.accumulated) / this.tickDuration));
+        final Timeout timeout = new Timeout(this, task, (ticks - 1) / this.slots.length);
+        final int slot = (int) ((this.cursor + ticks - 1) % this.slots.length);
+        timeout.link(slot);
+        this.pending++;
+        return timeout;
+    }
+
+    /**
+     * Advance the wheel, running all the callbacks expired in the meantime.
+     * @param elapsed the time passed
+     */
+    public void advance(final float elapsed) {
+        this.accumulated += elapsed;
+        while (this.accumulated >= this.tickDuration) {
+            this.accumulated -= this.tickDuration;
+            this.tick();
+        }
+    }
+
+    /**
+     * @return the number of timeouts neither expired nor cancelled
+     */
+    public int getPending() {
+        return this.pending;
+    }
+
+    private void tick() {
+        final List<Runnable> expired = new ArrayList<>();
+        Timeout t = this.slots[this.cursor];
+        while (t != null) {
+            final Timeout next = t.next;
+            if (t.rounds == 0) {
+                t.unlink();
+                t.expired = true;
+                expired.add(t.task);
+            } else {
+                t.rounds--;
+            }
+            t = next;
+        }
+        this.cursor = (this.cursor + 1) % this.slots.length;
+        //Callbacks may schedule or cancel other timeouts, so they run when the slot is no longer visited
+        expired.forEach(Runnable::run);
+    }
+
+    /**
+     * A callback scheduled in a {@link TimerWheel}.
+     */
+    public static final class Timeout {
+
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private long rounds;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+        private boolean expired;
+        private boolean cancelled;
+
+        private Timeout(final TimerWheel wheel, final Runnable task, final long rounds) {
+            this.wheel = wheel;
+            this.task = task;
+            this.rounds = rounds;
+        }
+
+        /**
+         * Prevent the callback from being run, it has no effect if it's already expired.
+         * @return true if the callback has been cancelled by this call
+         */
+        public boolean cancel() {
+            if (this.expired || this.cancelled) {
+                return false;
+            }
+            this.cancelled = true;
+            this.unlink();
+            return true;
+        }
+
+        /**
+         * @return true if the callback has already been run or is going to be run in the current tick
+         */
+        public boolean isExpired() {
+            return this.expired;
+        }
+
+        /**
+         * @return true if the callback has been cancelled
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        private void link(final int slotIndex) {
+            this.slot = slotIndex;
+            this.next = this.wheel.slots[slotIndex];
+            if (this.next != null) {
+                this.next.prev = this;
+            }
+            this.wheel.slots[slotIndex] = this;
+        }
+
+        private void unlink() {
+            if (this.prev != null) {
+                this.prev.next = this.next;
+            } else {
+                this.wheel.slots[this.slot] = this.next;
+            }
+            if (this.next != null) {
+                this.next.prev = this.prev;
+            }
+            this.prev = null;
+            this.next = null;
+            this.wheel.pending--;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package qbert.view;
+
+import java.awt.image.BufferedImage;
+
+import qbert.model.components.graphics.Renderable;
+import qbert.model.utilities.Position2D;
+
+/**
+ * An immutable copy of the data needed to draw a {@link Renderable}, taken on the game thread.
+ */
+public final class RenderEntry {
+
+    private final BufferedImage sprite;
+    private final Position2D previousPos;
+    private final Position2D currentPos;
+    private final int zIndex;
+
+    /**
+     * @param renderable the {@link Renderable} to be copied
+     */
+    public RenderEntry(final Renderable renderable) {
+        this.sprite = renderable.getGraphicComponent().getSprite();
+        this.previousPos = renderable.getGraphicComponent().getPreviousPosition();
+        this.currentPos = renderable.getGraphicComponent().getPosition();
+        this.zIndex = renderable.getZIndex();
+    }
+
+    /**
+     * @return the image to be drawn
+     */
+    public BufferedImage getSprite() {
+        return this.sprite;
+    }
+
+    /**
+     * @param interpolation how far the rendering is between the last two simulation ticks, from 0 to 1
+     * @return the position where the sprite has to be drawn
+     */
+    public Position2D getPosition(final float interpolation) {
+        return this.previousPos.interpolate(this.currentPos, interpolation);
+    }
+
+    /**
+     * @return the depth used to sort the drawing order
+     */
+    public int getZIndex() {
+        return this.zIndex;
+    }
+}
@@ -0,0 +1,33 @@
+package qbert.view;
+
+import java.util.List;
+
+import qbert.model.scenes.GUILogic;
+
+/**
+ * What a {@link View} needs to draw a frame, copied from the {@link Model} at the end of an update.
+ * A snapshot is never modified after its creation, so it can be painted on the EDT while the game thread
+ * keeps updating the {@link Model}.
+ */
+public interface RenderSnapshot {
+
+    /**
+     * @return the sprites to be drawn, sorted by z index
+     */
+    List<RenderEntry> getEntries();
+
+    /**
+     * @return the GUI to be drawn
+     */
+    List<GUILogic> getGUI();
+
+    /**
+     * @return how far the rendering is between the last two simulation ticks, from 0 to 1
+     */
+    float getInterpolation();
+
+    /**
+     * @return diagnostic lines to be drawn over the scene, empty if the overlay is disabled
+     */
+    List<String> getOverlay();
+}
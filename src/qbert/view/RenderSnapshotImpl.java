@@ -0,0 +1,71 @@
+package qbert.view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import qbert.model.scenes.GUILogic;
+import qbert.model.scenes.GUILogicImpl;
+import qbert.model.scenes.Model;
+
+/**
+ * The implementation of {@link RenderSnapshot}.
+ */
+public final class RenderSnapshotImpl implements RenderSnapshot {
+
+    private final List<RenderEntry> entries;
+    private final List<GUILogic> gui;
+    private final float interpolation;
+    private final List<String> overlay;
+
+    /**
+     * Copy the current state of a {@link Model}, it must be called from the thread updating it.
+     * @param model the {@link Model} to be drawn
+     * @param interpolation how far the rendering is between the last two simulation ticks, from 0 to 1
+     * @param overlay diagnostic lines to be drawn over the scene
+     */
+    public RenderSnapshotImpl(final Model model, final float interpolation, final List<String> overlay) {
+        this.entries = Collections.unmodifiableList(model.getRenderables().stream()
+                .map(RenderEntry::new)
+                .sorted(Comparator.comparingInt(RenderEntry::getZIndex))
+                .collect(Collectors.toList()));
+        this.gui = Collections.unmodifiableList(model.getGUI().stream()
+                .map(RenderSnapshotImpl::copy)
+                .collect(Collectors.toList()));
+        this.interpolation = interpolation;
+        this.overlay = Collections.unmodifiableList(new ArrayList<>(overlay));
+    }
+
+    @Override
+    public List<RenderEntry> getEntries() {
+        return this.entries;
+    }
+
+    @Override
+    public List<GUILogic> getGUI() {
+        return this.gui;
+    }
+
+    @Override
+    public float getInterpolation() {
+        return this.interpolation;
+    }
+
+    @Override
+    public List<String> getOverlay() {
+        return this.overlay;
+    }
+
+    /**
+     * @param gui the {@link GUILogic} to be copied
+     * @return a new {@link GUILogic} with the same data, owned by the snapshot
+     */
+    private static GUILogic copy(final GUILogic gui) {
+        final GUILogic copy = new GUILogicImpl(gui.getPosition());
+        gui.getData().forEach(copy::addData);
+        copy.selectSet(gui.getSelected());
+        return copy;
+    }
+}
@@ -0,0 +1,158 @@
+package qbert.view;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * The sprites packed in a few big images, the pages, made in the format of the screen so that Java2D can keep them
+ * in video memory and draw them without converting pixels. A sprite is drawn from its region of a page, the sprites
+ * that aren't in the atlas are drawn as they are.
+ */
+public final class SpriteAtlas {
+
+    private static final int PAGE_SIZE = 2048;
+    //Keeps the regions apart
+    private static final int PADDING = 1;
+
+    private final List<BufferedImage> pages;
+    private final Map<BufferedImage, Region> regions;
+
+    private SpriteAtlas(final List<BufferedImage> pages, final Map<BufferedImage, Region> regions) {
+        this.pages = pages;
+        this.regions = regions;
+    }
+
+    /**
+     * @return a {@link SpriteAtlas} without sprites, that draws all of them as they are
+     */
+    public static SpriteAtlas empty() {
+        return new SpriteAtlas(new ArrayList<>(), new IdentityHashMap<>());
+    }
+
+    /**
+     * @param sprites the sprites to pack, the same image given more times is packed once
+     * @return a new {@link SpriteAtlas} with pages compatible with the screen, an empty one without a display
+     */
+    public static SpriteAtlas pack(final Collection<BufferedImage> sprites) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return empty();
+        }
+        return pack(sprites, (w, h) -> GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT));
+    }
+
+    /**
+     * @param sprites the sprites to pack, the same image given more times is packed once
+     * @param pageFactory makes a transparent page given its width and height
+     * @return a new {@link SpriteAtlas}
+     */
+    public static SpriteAtlas pack(final Collection<BufferedImage> sprites, final BiFunction<Integer, Integer, BufferedImage> pageFactory) {
+        final Map<BufferedImage, Region> regions = new IdentityHashMap<>();
+        sprites.forEach(s -> regions.put(s, null));
+        final List<BufferedImage> sorted = new ArrayList<>(regions.keySet());
+        sorted.sort(Comparator.comparingInt((BufferedImage s) -> s.getHeight()).reversed());
+
+        //Shelves filled from left to right, a new one below when a sprite doesn't fit and a new page when the shelf doesn't
+        final List<int[]> pageSizes = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (final BufferedImage sprite : sorted) {
+            int[] size = pageSizes.isEmpty() ? null : pageSizes.get(pageSizes.size() - 1);
+            if (size != null && x + sprite.getWidth() > size[0]) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            if (size == null || sprite.getWidth() > size[0] || (y > 0 && y + sprite.getHeight() > PAGE_SIZE)) {
+                size = new int[] {Math.max(PAGE_SIZE, sprite.getWidth()), 0};
+                pageSizes.add(size);
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+            }
+            regions.put(sprite, new Region(pageSizes.size() - 1, x, y, sprite.getWidth(), sprite.getHeight()));
+            size[1] = Math.max(size[1], y + sprite.getHeight());
+            x += sprite.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, sprite.getHeight() + PADDING);
+        }
+
+        final List<BufferedImage> pages = new ArrayList<>();
+        final List<Graphics2D> graphics = new ArrayList<>();
+        for (final int[] size : pageSizes) {
+            final BufferedImage page = pageFactory.apply(size[0], Math.max(1, size[1]));
+            final Graphics2D g = page.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            pages.add(page);
+            graphics.add(g);
+        }
+        regions.forEach((sprite, region) -> graphics.get(region.page).drawImage(sprite, region.x, region.y, null));
+        graphics.forEach(Graphics2D::dispose);
+        return new SpriteAtlas(pages, regions);
+    }
+
+    /**
+     * @return the number of images the sprites are packed in
+     */
+    public int getPages() {
+        return this.pages.size();
+    }
+
+    /**
+     * @param sprite a sprite
+     * @return true if the sprite is drawn from the atlas
+     */
+    public boolean contains(final BufferedImage sprite) {
+        return this.regions.containsKey(sprite);
+    }
+
+    /**
+     * Draw a sprite from its region of the atlas, or as it is if it isn't there.
+     * @param g the {@link Graphics} used
+     * @param sprite the sprite to draw
+     * @param x the horizontal position of the sprite
+     * @param y the vertical position of the sprite
+     * @param observer the {@link ImageObserver} of the drawing
+     */
+    public void draw(final Graphics g, final BufferedImage sprite, final int x, final int y, final ImageObserver observer) {
+        final Region region = this.regions.get(sprite);
+        if (region == null) {
+            g.drawImage(sprite, x, y, observer);
+        } else {
+            g.drawImage(this.pages.get(region.page), x, y, x + region.width, y + region.height,
+                    region.x, region.y, region.x + region.width, region.y + region.height, observer);
+        }
+    }
+
+    /**
+     * Where a sprite is in the pages.
+     */
+    private static final class Region {
+
+        private final int page;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        Region(final int page, final int x, final int y, final int width, final int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
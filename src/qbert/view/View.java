@@ -20,9 +20,10 @@ public interface View {
     void initialize(Controller controller);
 
     /**
-     * Render the current {@link Scene}.
+     * Hand the current {@link Scene} a new frame to be painted, without waiting for the painting.
+     * @param snapshot the {@link RenderSnapshot} of the current {@link Model}
      */
-    void render();
+    void render(RenderSnapshot snapshot);
 
     /**
      * @param scene a new {@link Scene}
@@ -6,6 +6,7 @@ import java.awt.Dimension;
 import java.awt.Toolkit;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
@@ -16,10 +17,10 @@ import javax.sound.sampled.Clip;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.SwingUtilities;
 
 import qbert.controller.Controller;
 import qbert.controller.GameStatus;
+import qbert.controller.Sprites;
 import qbert.model.utilities.Dimensions;
 import qbert.view.scenes.Scene;
 import qbert.view.scenes.SceneGame;
@@ -74,7 +75,7 @@ public class ViewImpl implements View {
         });
 
         this.addScene(new SceneIntro(w, h, controller), GameStatus.INTRODUCTION);
-        this.addScene(new SceneGame(w, h, controller), GameStatus.GAMEPLAY);
+        this.addScene(new SceneGame(w, h, controller, this.packSprites()), GameStatus.GAMEPLAY);
         this.addScene(new SceneMenu(w, h, controller), GameStatus.MENU);
         this.addScene(new SceneRanking(w, h, controller), GameStatus.RANKING);
         this.addScene(new SceneGameOver(w, h, controller), GameStatus.GAMEOVER);
@@ -89,16 +90,23 @@ public class ViewImpl implements View {
         }
     }
 
+    /**
+     * @return a {@link SpriteAtlas} of all the images of {@link Sprites}, an empty one if they can't be loaded
+     */
+    private SpriteAtlas packSprites() {
+        try {
+            return SpriteAtlas.pack(Sprites.getInstance().getImages());
+        } catch (IOException e) {
+            Logger.getGlobal().log(Level.WARNING, e.getMessage(), e);
+            return SpriteAtlas.empty();
+        }
+    }
+
     @Override
-    public final void render() {
-        if (this.scene != null) {
-            try {
-                SwingUtilities.invokeAndWait(() -> {
-                    this.scene.render();
-                });
-            } catch (Exception ex) {
-                ex.printStackTrace();
-            }
+    public final void render(final RenderSnapshot snapshot) {
+        final Scene current = this.scene;
+        if (current != null) {
+            current.render(snapshot);
         }
     }
 
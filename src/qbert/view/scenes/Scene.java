@@ -5,6 +5,7 @@ import java.awt.event.KeyListener;
 import java.util.Optional;
 
 import qbert.model.scenes.TextPosition;
+import qbert.view.RenderSnapshot;
 
 /**
  * The interface for a common application scene.
@@ -17,9 +18,10 @@ public interface Scene extends KeyListener {
     void focus();
 
     /**
-     * The method used to render the scene.
+     * The method used to render the scene, the newest snapshot is painted asynchronously on the EDT.
+     * @param snapshot the {@link RenderSnapshot} to be painted
      */
-    void render();
+    void render(RenderSnapshot snapshot);
 
     /**
      * @param g the {@link Graphics} for the scene
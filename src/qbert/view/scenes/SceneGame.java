@@ -11,6 +11,7 @@ import qbert.controller.input.MoveLeft;
 import qbert.controller.input.MoveRight;
 import qbert.controller.input.MoveUp;
 import qbert.model.scenes.TextPosition;
+import qbert.view.SpriteAtlas;
 
 /**
  * An implementation of {@link Scene} for the gameplay.
@@ -28,9 +29,10 @@ public class SceneGame extends SceneImpl {
      * @param w the panel width
      * @param h the panel height
      * @param controller the game controller
+     * @param atlas the {@link SpriteAtlas} the sprites are drawn from
      */
-    public SceneGame(final int w, final int h, final Controller controller) {
-        super(w, h, controller);
+    public SceneGame(final int w, final int h, final Controller controller, final SpriteAtlas atlas) {
+        super(w, h, atlas);
         this.setBackground(Color.BLACK);
         this.controller = controller;
 
@@ -34,7 +34,7 @@ public class SceneGameOver extends SceneImpl {
      *            the game controller
      */
     public SceneGameOver(final int w, final int h, final Controller controller) {
-        super(w, h, controller);
+        super(w, h);
         this.setBackground(Color.black);
 
         this.controller = controller;
@@ -9,16 +9,19 @@ import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JPanel;
 
-import qbert.controller.Controller;
 import qbert.model.scenes.GUILogic;
 import qbert.model.scenes.TextPosition;
 import qbert.model.utilities.Dimensions;
 import qbert.model.utilities.Position2D;
+import qbert.view.RenderSnapshot;
+import qbert.view.SpriteAtlas;
 
 /**
  * A generic implementation of {@link Scene}.
@@ -30,20 +33,31 @@ public abstract class SceneImpl extends JPanel implements Scene {
      */
     private static final long serialVersionUID = 1521223266538012283L;
     private final Map<TextPosition, Optional<GUISection>> sections;
-    private final Controller controller;
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private final AtomicReference<RenderSnapshot> snapshot;
+    private final SpriteAtlas atlas;
 
     /**
      * @param w the panel width
      * @param h the panel height
-     * @param controller the application {@link Controller}
      */
-    public SceneImpl(final int w, final int h, final Controller controller) {
+    public SceneImpl(final int w, final int h) {
+        this(w, h, SpriteAtlas.empty());
+    }
+
+    /**
+     * @param w the panel width
+     * @param h the panel height
+     * @param atlas the {@link SpriteAtlas} the sprites are drawn from
+     */
+    public SceneImpl(final int w, final int h, final SpriteAtlas atlas) {
         super();
+        this.atlas = atlas;
         this.setSize(w, h);
 
         this.sections = new HashMap<>();
         Arrays.asList(TextPosition.values()).forEach(t -> this.sections.put(t, Optional.empty()));
-        this.controller = controller;
+        this.snapshot = new AtomicReference<>();
     }
 
     @Override
@@ -55,25 +69,48 @@ public abstract class SceneImpl extends JPanel implements Scene {
     }
 
     @Override
-    public final void render() {
+    public final void render(final RenderSnapshot snapshot) {
+        //Only the newest snapshot is kept, older ones not painted yet are dropped
+        this.snapshot.set(snapshot);
         this.repaint();
-        //Fixes some OSes bug where graphics scheduling gets slowed down
-        Toolkit.getDefaultToolkit().sync();
     }
 
     @Override
     protected final void paintComponent(final Graphics g) {
         super.paintComponent(g);
         this.draw(g);
+        //Fixes some OSes bug where graphics scheduling gets slowed down
+        Toolkit.getDefaultToolkit().sync();
     }
 
     @Override
     public final void draw(final Graphics g) {
-        this.controller.getRenderables().stream().sorted((a, b) -> a.getZIndex() - b.getZIndex()).forEach(c -> {
-            g.drawImage(c.getGraphicComponent().getSprite(), c.getGraphicComponent().getPosition().getX(), c.getGraphicComponent().getPosition().getY(), this);
-        });
+        final RenderSnapshot frame = this.snapshot.get();
+        if (frame != null) {
+            frame.getEntries().forEach(e -> {
+                final Position2D position = e.getPosition(frame.getInterpolation());
+                this.atlas.draw(g, e.getSprite(), position.getX(), position.getY(), this);
+            });
+
+            frame.getGUI().forEach(gui -> this.drawGUI(g, gui));
+            this.drawOverlay(g, frame.getOverlay());
+        }
+    }
 
-        this.controller.getGUI().forEach(gui -> this.drawGUI(g, gui));
+    /**
+     * Draw the diagnostic lines in the top left corner.
+     * @param g the {@link Graphics} used
+     * @param lines the lines to be drawn
+     */
+    private void drawOverlay(final Graphics g, final List<String> lines) {
+        if (!lines.isEmpty()) {
+            g.setFont(OVERLAY_FONT);
+            g.setColor(Color.YELLOW);
+            final int lineHeight = g.getFontMetrics().getHeight();
+            for (int i = 0; i < lines.size(); i++) {
+                g.drawString(lines.get(i), lineHeight, lineHeight * (i + 2));
+            }
+        }
     }
 
     @Override
@@ -122,7 +159,7 @@ public abstract class SceneImpl extends JPanel implements Scene {
 
         if (section.isCentered()) {
             this.drawCenteredString(g, gui.getData().get(index), 
-                    new Position2D(xOffset, yOffset + g.getFont().getSize() * index * 2), g.getFont());
+                    Position2D.of(xOffset, yOffset + g.getFont().getSize() * index * 2), g.getFont());
         } else {
             g.drawString(gui.getData().get(index), xOffset, yOffset + g.getFont().getSize() * index * 2);
         }
@@ -25,7 +25,7 @@ public class SceneIntro extends SceneImpl {
      * @param controller the game controller
      */
     public SceneIntro(final int w, final int h, final Controller controller) {
-        super(w, h, controller);
+        super(w, h);
         this.setBackground(SceneColor.BLUE.getColor());
 
         this.controller = controller;
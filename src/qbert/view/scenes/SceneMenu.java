@@ -30,7 +30,7 @@ public class SceneMenu extends SceneImpl {
      *            the game controller
      */
     public SceneMenu(final int w, final int h, final Controller controller) {
-        super(w, h, controller);
+        super(w, h);
         this.setBackground(SceneColor.BLUE.getColor());
 
         this.controller = controller;
@@ -28,7 +28,7 @@ public class SceneRanking extends SceneImpl {
      *            the game controller
      */
     public SceneRanking(final int w, final int h, final Controller controller) {
-        super(w, h, controller);
+        super(w, h);
         this.setBackground(Color.BLACK);
 
         this.controller = controller;
@@ -0,0 +1,118 @@
+package test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import qbert.model.utilities.EntityStore;
+
+/**
+ * Compares the per-frame cost of rebuilding the characters list with streams, as the game did,
+ * against an {@link EntityStore} iterated by index and compacted once per frame.
+ * Optional arguments: number of entities, number of frames.
+ */
+public final class EntityStoreBenchmark {
+
+    private static final int DEFAULT_ENTITIES = 64;
+    private static final int DEFAULT_FRAMES = 2_000_000;
+    private static final int DEATH_PERIOD = 50;
+    private static final long SEED = 42;
+
+    /**
+     * A minimal entity, dying every now and then.
+     */
+    private static final class Entity {
+        private boolean dead;
+        private int ticks;
+
+        void update(final Random random) {
+            this.ticks++;
+            this.dead = random.nextInt(DEATH_PERIOD) == 0;
+        }
+
+        boolean isDead() {
+            return this.dead;
+        }
+    }
+
+    /**
+     * @param args the argument passed by the console
+     */
+    public static void main(final String[] args) {
+        final int entities = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTITIES;
+        final int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+
+        //The first round of each warms up the JIT
+        runStreams(entities, frames / 10);
+        runStore(entities, frames / 10);
+        report("streams", entities, frames, runStreams(entities, frames));
+        report("store", entities, frames, runStore(entities, frames));
+    }
+
+    private static long[] runStreams(final int entities, final int frames) {
+        final Random random = new Random(SEED);
+        List<Entity> list = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            list.add(new Entity());
+        }
+        final long bytes = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            //Two rebuilds per frame, like updateCollisions and updateEntities did
+            list = list.stream().peek(e -> e.update(random)).filter(e -> !e.isDead()).collect(Collectors.toList());
+            list = list.stream().peek(e -> e.ticks++).filter(e -> !e.isDead()).collect(Collectors.toList());
+            while (list.size() < entities) {
+                list.add(new Entity());
+            }
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - bytes, list.size()};
+    }
+
+    private static long[] runStore(final int entities, final int frames) {
+        final Random random = new Random(SEED);
+        final EntityStore<Entity> store = new EntityStore<>();
+        final List<Entity> free = new ArrayList<>();
+        final Consumer<Entity> recycle = free::add;
+        for (int i = 0; i < entities; i++) {
+            store.add(new Entity());
+        }
+        final long bytes = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            for (int i = 0; i < store.size(); i++) {
+                store.get(i).update(random);
+            }
+            for (int i = 0; i < store.size(); i++) {
+                if (!store.get(i).isDead()) {
+                    store.get(i).ticks++;
+                }
+            }
+            store.removeIf(Entity::isDead, recycle);
+            //Dead entities are reused, as the spawner does with its pools
+            while (store.size() < entities) {
+                store.add(free.isEmpty() ? new Entity() : free.remove(free.size() - 1));
+            }
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - bytes, store.size()};
+    }
+
+    private static void report(final String name, final int entities, final int frames, final long[] result) {
+        Logger.getGlobal().info(String.format("%-8s %d entities: %.1f ns/frame, %.1f bytes/frame",
+                name, entities, (double) result[0] / frames, (double) result[1] / frames));
+    }
+
+    private static long allocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private EntityStoreBenchmark() {
+    }
+}
@@ -0,0 +1,72 @@
+package test;
+
+import java.util.logging.Logger;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.Sprites;
+import qbert.controller.ai.MonteCarloPlayer;
+import qbert.model.RoundSnapshot;
+import qbert.model.scenes.Game;
+import qbert.model.utilities.Dimensions;
+
+/**
+ * Measures how the search speed of the {@link MonteCarloPlayer} grows with the number of threads,
+ * from one up to all the cores, on the first round of the game after the first enemies spawned.
+ * Optional arguments: milliseconds per move, number of moves for each thread count.
+ */
+public final class MonteCarloBenchmark {
+
+    private static final long DEFAULT_BUDGET = 20;
+    private static final int DEFAULT_MOVES = 100;
+    private static final int WINDOW_WIDTH = 1440;
+    private static final int WINDOW_HEIGHT = 810;
+    private static final int START_TICKS = 300;
+    private static final long SEED = 42;
+
+    /**
+     * @param args the argument passed by the console
+     */
+    public static void main(final String[] args) {
+        final long budget = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_BUDGET;
+        final int moves = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MOVES;
+        final RoundSnapshot root = createRoot();
+
+        double single = 0;
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads++) {
+            final MonteCarloPlayer player = new MonteCarloPlayer(budget, threads, SEED);
+            //The first moves warm up the JIT
+            for (int i = 0; i < moves / 10; i++) {
+                player.search(root);
+            }
+            final MonteCarloPlayer measured = new MonteCarloPlayer(budget, threads, SEED);
+            for (int i = 0; i < moves; i++) {
+                measured.search(root);
+            }
+            if (threads == 1) {
+                single = measured.getNodesPerSecond();
+            }
+            Logger.getGlobal().info(String.format("%2d threads: %.0f nodes/s, %.2fx", threads, measured.getNodesPerSecond(),
+                    measured.getNodesPerSecond() / single));
+        }
+    }
+
+    private static RoundSnapshot createRoot() {
+        System.setProperty("java.awt.headless", "true");
+        Dimensions.setWindowWidth(WINDOW_WIDTH);
+        Dimensions.setWindowHeight(WINDOW_HEIGHT);
+        Sprites.usePlaceholders();
+        final Game game = new Game(new HeadlessController(new HeadlessEngine(0, 0, SEED)));
+        game.initialize();
+        int ticks = 0;
+        while (ticks < START_TICKS || !game.isReadyForInput() || !game.getRoundSnapshot().isPresent()) {
+            game.update(GameEngine.TICK);
+            ticks++;
+        }
+        return game.getRoundSnapshot().get();
+    }
+
+    private MonteCarloBenchmark() {
+    }
+}
@@ -0,0 +1,146 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+import qbert.model.components.graphics.animations.ComposedAnimation;
+import qbert.model.components.graphics.animations.Easing;
+import qbert.model.components.graphics.animations.JumpTrajectory;
+import qbert.model.components.graphics.animations.MovementAnimation;
+import qbert.model.utilities.Position2D;
+
+/**
+ * A class with some jUnit tests for the time of the {@link MovementAnimation}s.
+ */
+public class TestAnimations {
+
+    private static final Position2D START = Position2D.of(400, 200);
+    private static final Position2D TARGET = Position2D.of(340, 300);
+    private static final float SPEED = 0.65f;
+    private static final double TICK = 20;
+    private static final double FRAME_144HZ = 1000.0 / 144;
+    private static final double FRAME_30HZ = 1000.0 / 30;
+    private static final double FRAME_UNEVEN = 7.3;
+    //Width and height of the cubes at a few window sizes
+    private static final int[][] CUBES = {{160, 120}, {107, 80}, {83, 63}};
+    private static final Position2D[] STARTS = {START, Position2D.of(0, 0), Position2D.of(1311, 767)};
+
+    /**
+     * Test that the tables of a jump follow the same path as the jump built step by step.
+     */
+    @Test
+    public void testTrajectory() {
+        final MovementAnimation composed = new ComposedAnimation.JumpDownLeft(START, TARGET);
+        final MovementAnimation table = JumpTrajectory.DOWN_LEFT.from(START, TARGET);
+        while (composed.hasNext()) {
+            assertTrue(table.hasNext());
+            assertEquals(composed.updateAnimation(1), table.updateAnimation(1));
+        }
+        assertFalse(table.hasNext());
+    }
+
+    /**
+     * Test every jump against the one built step by step, with the cubes of a few sizes and from a few positions.
+     */
+    @Test
+    public void testAllTrajectories() {
+        for (final JumpTrajectory jump : JumpTrajectory.values()) {
+            for (final int[] cube : CUBES) {
+                final Position2D offset = offsetOf(jump, cube[0], cube[1]);
+                for (final Position2D start : STARTS) {
+                    final Position2D target = Position2D.of(start.getX() + offset.getX(), start.getY() + offset.getY());
+                    final MovementAnimation composed = composedOf(jump).apply(start, target);
+                    final MovementAnimation table = jump.from(start, target);
+                    while (composed.hasNext()) {
+                        assertTrue(table.hasNext());
+                        assertEquals(composed.updateAnimation(1), table.updateAnimation(1));
+                    }
+                    assertFalse(table.hasNext());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a jump lasts the same however long the frames are, and that an easing doesn't change it.
+     */
+    @Test
+    public void testDuration() {
+        final double duration = duration(JumpTrajectory.DOWN_LEFT.from(START, TARGET), TICK);
+        //Each one can end up to a frame later than the other
+        assertEquals(duration, duration(JumpTrajectory.DOWN_LEFT.from(START, TARGET), FRAME_144HZ), TICK + FRAME_144HZ);
+        assertEquals(duration, duration(JumpTrajectory.DOWN_LEFT.from(START, TARGET), FRAME_30HZ), TICK + FRAME_30HZ);
+        assertEquals(duration, duration(JumpTrajectory.DOWN_LEFT.from(START, TARGET), FRAME_UNEVEN), TICK + FRAME_UNEVEN);
+        for (final Easing easing : Easing.values()) {
+            assertEquals(duration, duration(JumpTrajectory.DOWN_LEFT.from(START, TARGET, easing), FRAME_144HZ), TICK + FRAME_144HZ);
+        }
+    }
+
+    /**
+     * Test that the position only depends on the time passed, not on how it was split.
+     */
+    @Test
+    public void testSameTimeSamePosition() {
+        final MovementAnimation once = JumpTrajectory.UP_RIGHT.from(START, TARGET, Easing.EASE_IN_OUT);
+        final MovementAnimation split = JumpTrajectory.UP_RIGHT.from(START, TARGET, Easing.EASE_IN_OUT);
+        final float time = 100f;
+        for (int i = 0; i < 8; i++) {
+            split.advance(time / 8);
+        }
+        assertEquals(once.advance(time), split.advance(0));
+    }
+
+    /**
+     * @return how far each jump goes, as the graphic components of the characters compute it
+     */
+    private static Position2D offsetOf(final JumpTrajectory jump, final int cubeWidth, final int cubeHeight) {
+        switch (jump) {
+        case DOWN_LEFT:
+        case DOWN_LEFT_LEFTWARD:
+            return Position2D.of(-cubeWidth / 2, cubeHeight);
+        case DOWN_RIGHT:
+        case DOWN_RIGHT_RIGHTWARD:
+            return Position2D.of(cubeWidth / 2, cubeHeight);
+        case UP_LEFT:
+        case DOWN_RIGHT_LEFTWARD:
+            return Position2D.of(-cubeWidth / 2, -cubeHeight);
+        default:
+            return Position2D.of(cubeWidth / 2, -cubeHeight);
+        }
+    }
+
+    private static BiFunction<Position2D, Position2D, MovementAnimation> composedOf(final JumpTrajectory jump) {
+        switch (jump) {
+        case DOWN_LEFT:
+            return ComposedAnimation.JumpDownLeft::new;
+        case DOWN_RIGHT:
+            return ComposedAnimation.JumpDownRight::new;
+        case UP_LEFT:
+            return ComposedAnimation.JumpUpLeft::new;
+        case UP_RIGHT:
+            return ComposedAnimation.JumpUpRight::new;
+        case DOWN_LEFT_LEFTWARD:
+            return ComposedAnimation.JumpDownLeftLeftward::new;
+        case DOWN_RIGHT_LEFTWARD:
+            return ComposedAnimation.JumpDownRightLeftward::new;
+        case DOWN_LEFT_RIGHTWARD:
+            return ComposedAnimation.JumpDownLeftRightward::new;
+        default:
+            return ComposedAnimation.JumpDownRightRightward::new;
+        }
+    }
+
+    private static double duration(final MovementAnimation animation, final double frame) {
+        double elapsed = 0;
+        while (animation.hasNext()) {
+            animation.advance((float) frame * SPEED);
+            elapsed += frame;
+        }
+        return elapsed;
+    }
+}
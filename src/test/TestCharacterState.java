@@ -1,5 +1,7 @@
 package test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -16,6 +18,8 @@ import qbert.model.characters.states.LandState;
 import qbert.model.characters.states.MoveState;
 import qbert.model.characters.states.QbertStandingState;
 import qbert.model.characters.states.SpawnState;
+import qbert.model.characters.states.StateKind;
+import qbert.model.characters.states.StateTransitions;
 import qbert.model.spawner.EnemyFactory;
 import qbert.model.spawner.EnemyFactoryImpl;
 import qbert.view.ViewImpl;
@@ -88,6 +92,33 @@ public class TestCharacterState {
         assertTrue(coily.getCurrentState() instanceof DeathState);
     }
 
+    /**
+     * Test that the states are reused by each {@link Character} and that transitions are counted.
+     */
+    @Test
+    public void testStatesReuse() {
+        final Character character = this.ef.createRedBall(SPEED, STANDING_TIME);
+        assertSame(character.getStates().spawn(), character.getCurrentState());
+        assertEquals(StateKind.SPAWN, character.getCurrentState().getKind());
+        while (character.getCurrentState().getKind() == StateKind.SPAWN) {
+            character.update(DT);
+        }
+        assertSame(character.getStates().land(), character.getCurrentState());
+        assertSame(character.getStandingState(), character.getStandingState());
+
+        final long lands = StateTransitions.get(StateKind.LAND);
+        character.setCurrentState(character.getStandingState());
+        while (character.getCurrentState().getKind() != StateKind.LAND) {
+            character.update(DT);
+        }
+        assertSame(character.getStates().land(), character.getCurrentState());
+        assertEquals(lands + 1, StateTransitions.get(StateKind.LAND));
+
+        character.setCurrentState(character.getStates().death());
+        assertTrue(character.isDead());
+        character.setCurrentState(character.getStates().spawn());
+        assertTrue(!character.isDead());
+    }
 
     private boolean isOnMap(final Character character) {
         return character.getNextPosition().getY() < 0 || character.getNextPosition().getY() > COLUMNS
@@ -0,0 +1,78 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import qbert.controller.input.CommandRingBuffer;
+import qbert.controller.input.Confirm;
+import qbert.controller.input.MoveDown;
+import qbert.controller.input.MoveUp;
+import qbert.controller.input.TimedCommand;
+
+/**
+ * A class with some jUnit tests for {@link CommandRingBuffer}.
+ */
+public class TestCommandRingBuffer {
+
+    private static final int CAPACITY = 4;
+    private static final int PRODUCED = 100_000;
+
+    /**
+     * Test the order of the commands and the behavior when the buffer is full.
+     */
+    @Test
+    public void testOrderAndCapacity() {
+        final CommandRingBuffer buffer = new CommandRingBuffer(CAPACITY - 1);
+        assertEquals(CAPACITY, buffer.capacity());
+        assertFalse(buffer.poll().isPresent());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(buffer.offer(new TimedCommand(i % 2 == 0 ? new MoveUp() : new MoveDown(), i)));
+        }
+        assertFalse(buffer.offer(new TimedCommand(new Confirm(), CAPACITY)));
+        assertEquals(CAPACITY, buffer.size());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            final TimedCommand command = buffer.poll().get();
+            assertEquals(i, command.getTimestamp());
+            assertTrue(i % 2 == 0 ? command.getCommand() instanceof MoveUp : command.getCommand() instanceof MoveDown);
+        }
+        assertFalse(buffer.poll().isPresent());
+        assertTrue(buffer.offer(new TimedCommand(new Confirm(), CAPACITY)));
+        assertEquals(1, buffer.size());
+    }
+
+    /**
+     * Test that a producer and a consumer on different threads don't lose or reorder commands.
+     * @throws InterruptedException if the producer is interrupted
+     */
+    @Test
+    public void testProducerConsumer() throws InterruptedException {
+        final CommandRingBuffer buffer = new CommandRingBuffer(CAPACITY);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < PRODUCED; i++) {
+                final TimedCommand command = new TimedCommand(new MoveUp(), i);
+                while (!buffer.offer(command)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        long expected = 0;
+        while (expected < PRODUCED) {
+            final Optional<TimedCommand> command = buffer.poll();
+            if (command.isPresent()) {
+                assertEquals(expected, command.get().getTimestamp());
+                expected++;
+            }
+        }
+        producer.join();
+        assertFalse(buffer.poll().isPresent());
+    }
+}
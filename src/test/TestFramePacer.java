@@ -0,0 +1,135 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import qbert.controller.pacing.AbstractFramePacer;
+import qbert.controller.pacing.FramePacer;
+import qbert.controller.pacing.HybridPacer;
+import qbert.controller.pacing.PacingMode;
+import qbert.controller.pacing.SleepPacer;
+import qbert.controller.pacing.UncappedPacer;
+
+/**
+ * A class with some jUnit tests for the {@link FramePacer}s and how they're chosen.
+ */
+public class TestFramePacer {
+
+    private static final String PACING = "qbert.pacing";
+    private static final String FPS = "qbert.fps";
+    private static final double FREQUENCY = 50;
+    private static final long PERIOD = 20_000_000L;
+    private static final long START = 1_000_000_000L;
+    private static final int FRAMES = 10;
+    private static final int LATE_FRAME = 3;
+
+    /**
+     * Remove the properties set by the tests.
+     */
+    @After
+    public void clearProperties() {
+        System.clearProperty(PACING);
+        System.clearProperty(FPS);
+    }
+
+    /**
+     * Test that the mode and the frame rate are read from the system properties, whatever the case of the name.
+     */
+    @Test
+    public void testProperties() {
+        System.setProperty(PACING, "hybrid");
+        System.setProperty(FPS, "100");
+        final FramePacer pacer = PacingMode.fromSystemProperties();
+        assertTrue(pacer instanceof HybridPacer);
+        assertEquals(PERIOD / 2, pacer.getPeriod());
+
+        System.setProperty(PACING, "UNCAPPED");
+        assertTrue(PacingMode.fromSystemProperties() instanceof UncappedPacer);
+        assertEquals(0, PacingMode.fromSystemProperties().getPeriod());
+    }
+
+    /**
+     * Test that a sleeping pacer at the default frame rate is used when the properties are missing or not valid.
+     */
+    @Test
+    public void testFallback() {
+        checkDefault(PacingMode.fromSystemProperties());
+        System.setProperty(PACING, "turbo");
+        System.setProperty(FPS, "fast");
+        checkDefault(PacingMode.fromSystemProperties());
+        System.setProperty(FPS, "-30");
+        checkDefault(PacingMode.fromSystemProperties());
+        System.setProperty(FPS, "0");
+        checkDefault(PacingMode.fromSystemProperties());
+    }
+
+    /**
+     * Test that a frame starting late doesn't move the deadlines of the following ones.
+     */
+    @Test
+    public void testNoDrift() {
+        final FakeClockPacer pacer = new FakeClockPacer();
+        for (int i = 0; i < FRAMES; i++) {
+            pacer.late = i == LATE_FRAME ? PERIOD / 2 : 0;
+            pacer.waitForNextFrame();
+        }
+        for (int i = 0; i < FRAMES; i++) {
+            assertEquals(START + (i + 1) * PERIOD, (long) pacer.deadlines.get(i));
+        }
+        assertEquals(PERIOD / 2, pacer.getDrift().getMax());
+        assertEquals(FRAMES, pacer.getDrift().getCount());
+    }
+
+    /**
+     * Test that the schedule starts again from the current time when more than a whole period is lost.
+     */
+    @Test
+    public void testRestartAfterLongFrame() {
+        final FakeClockPacer pacer = new FakeClockPacer();
+        pacer.waitForNextFrame();
+        pacer.time += 3 * PERIOD;
+        pacer.waitForNextFrame();
+        final long restart = pacer.time;
+        pacer.waitForNextFrame();
+        //The late frame didn't wait, the next one waited a period after it
+        assertEquals(2, pacer.deadlines.size());
+        assertEquals(restart + PERIOD, (long) pacer.deadlines.get(1));
+        assertEquals(2 * PERIOD, pacer.getDrift().getMax());
+    }
+
+    private static void checkDefault(final FramePacer pacer) {
+        assertTrue(pacer instanceof SleepPacer);
+        assertEquals(Math.round(1_000_000_000L / PacingMode.DEFAULT_FREQUENCY), pacer.getPeriod());
+    }
+
+    /**
+     * A pacer whose time only passes when it waits, possibly waking up late.
+     */
+    private static final class FakeClockPacer extends AbstractFramePacer {
+
+        private final List<Long> deadlines = new ArrayList<>();
+        private long time = START;
+        private long late;
+
+        FakeClockPacer() {
+            super(FREQUENCY);
+        }
+
+        @Override
+        protected long now() {
+            return this.time;
+        }
+
+        @Override
+        protected void waitUntil(final long deadline) {
+            this.deadlines.add(deadline);
+            this.time = deadline + this.late;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import qbert.controller.metrics.LatencyHistogram;
+
+/**
+ * A class with some jUnit tests for {@link LatencyHistogram}.
+ */
+public class TestLatencyHistogram {
+
+    //Far from the values tested, so that the maximum doesn't cut the upper bounds
+    private static final long FAR = 1L << 40;
+    private static final int VALUES = 1000;
+    private static final double ERROR = 0.07;
+
+    /**
+     * Test that the percentiles are the upper bounds of the buckets: exact under 16, then 16 buckets for each power of two.
+     */
+    @Test
+    public void testBucketBoundaries() {
+        assertEquals(0, median(-5));
+        assertEquals(0, median(0));
+        assertEquals(15, median(15));
+        assertEquals(16, median(16));
+        assertEquals(31, median(31));
+        //From 32 the buckets are 2 wide, from 64 4 wide and so on
+        assertEquals(33, median(32));
+        assertEquals(33, median(33));
+        assertEquals(35, median(34));
+        assertEquals(67, median(64));
+        assertEquals(1023, median(992));
+        assertEquals(1023, median(1023));
+        assertEquals(1087, median(1024));
+    }
+
+    /**
+     * Test the percentiles, the mean and the maximum of the values from 1 to 1000.
+     */
+    @Test
+    public void testKnownDistribution() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        for (int i = VALUES; i > 0; i--) {
+            histogram.record(i);
+        }
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(VALUES, histogram.getMax());
+        assertEquals((VALUES + 1) / 2.0, histogram.getMean(), 0);
+        for (final double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            final long exact = Math.round(percentile / 100 * VALUES);
+            final long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact);
+            assertTrue(reported <= exact * (1 + ERROR));
+        }
+        assertEquals(51, histogram.getPercentile(5));
+        assertEquals(VALUES, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    /**
+     * Test that the highest values end in the top bucket, whose upper bound is the highest long.
+     */
+    @Test
+    public void testTopBucket() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << 62);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals((17L << 58) - 1, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    private static long median(final long value) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        histogram.record(FAR);
+        return histogram.getPercentile(50);
+    }
+}
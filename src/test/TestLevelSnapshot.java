@@ -0,0 +1,281 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.Sprites;
+import qbert.model.Level;
+import qbert.model.LevelImpl;
+import qbert.model.LevelSnapshot;
+import qbert.model.Tile;
+import qbert.model.characters.Player;
+import qbert.model.characters.Snake;
+import qbert.model.characters.states.StateKind;
+import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.Position2D;
+
+/**
+ * A class with some jUnit tests for {@link LevelSnapshot}, on a level simulated without a display.
+ */
+public class TestLevelSnapshot {
+
+    private static final int WINDOW_WIDTH = 1440;
+    private static final int WINDOW_HEIGHT = 810;
+    private static final int LIVES = 3;
+    private static final int TICKS = 400;
+    private static final int MAX_JUMP_TICKS = 200;
+    private static final int MAX_COILY_TICKS = 20000;
+    private static final long SEED = 42;
+    //Frame times of a variable timestep, not a whole number of milliseconds
+    private static final float[] UNEVEN_TICKS = {7.3f, 16.7f, 33.4f, 11.1f};
+    //Over the pyramid and back to the top, then off its edge
+    private static final Direction[] JUMPS = {Direction.DOWN_LEFT, Direction.DOWN_RIGHT, Direction.DOWN_RIGHT,
+        Direction.UP_LEFT, Direction.UP_LEFT, Direction.UP_RIGHT, Direction.UP_RIGHT};
+
+    private final Level level;
+
+    /**
+     * Build the first level of the game.
+     */
+    public TestLevelSnapshot() {
+        System.setProperty("java.awt.headless", "true");
+        Dimensions.setWindowWidth(WINDOW_WIDTH);
+        Dimensions.setWindowHeight(WINDOW_HEIGHT);
+        Sprites.usePlaceholders();
+        this.level = createLevel(SEED);
+    }
+
+    private static Level createLevel(final long seed) {
+        final HeadlessController controller = new HeadlessController(new HeadlessEngine(0, 1, seed));
+        return new LevelImpl(controller.getLevelSettings(1, 1), LIVES, 0, controller);
+    }
+
+    /**
+     * Test that restoring a snapshot brings back the same state, whatever happened after it was taken.
+     */
+    @Test
+    public void testRoundTrip() {
+        this.play(TICKS);
+        final LevelSnapshot saved = new LevelSnapshot();
+        this.snapshotWhenPossible(saved);
+        final byte[] before = saved.toByteArray();
+
+        this.play(TICKS);
+        this.level.restore(saved);
+        final LevelSnapshot again = new LevelSnapshot();
+        this.level.snapshot(again);
+        assertTrue(Arrays.equals(before, again.toByteArray()));
+
+        //From bytes too, and more than once from the same snapshot
+        this.play(TICKS);
+        this.level.restore(new LevelSnapshot(before));
+        this.level.restore(saved);
+        this.level.snapshot(again);
+        assertTrue(Arrays.equals(before, again.toByteArray()));
+    }
+
+    /**
+     * Test that two levels built from the same seed and given the same commands stay the same.
+     */
+    @Test
+    public void testSameSeed() {
+        final Level one = createLevel(SEED);
+        final Level other = createLevel(SEED);
+        final LevelSnapshot first = new LevelSnapshot();
+        final LevelSnapshot second = new LevelSnapshot();
+        for (int i = 0; i < TICKS * 5; i++) {
+            this.jumpDown(one.getQBert());
+            this.jumpDown(other.getQBert());
+            one.update(GameEngine.TICK);
+            other.update(GameEngine.TICK);
+            if (one.canSnapshot()) {
+                one.snapshot(first);
+                other.snapshot(second);
+                assertTrue(Arrays.equals(first.toByteArray(), second.toByteArray()));
+            }
+        }
+    }
+
+    /**
+     * Test that a jump restored halfway ends after as many ticks as the original one.
+     */
+    @Test
+    public void testJumpProgress() {
+        final Player qbert = this.level.getQBert();
+        while (qbert.getCurrentState().getKind() != StateKind.STAND) {
+            this.level.update(GameEngine.TICK);
+        }
+        this.jumpDown(qbert);
+        this.level.update(GameEngine.TICK);
+        this.level.update(GameEngine.TICK);
+        final LevelSnapshot saved = new LevelSnapshot();
+        this.level.snapshot(saved);
+        final Position2D sprite = qbert.getGraphicComponent().getPosition();
+
+        final int ticks = this.ticksToLand(qbert);
+        this.level.restore(saved);
+        assertEquals(StateKind.MOVE, qbert.getCurrentState().getKind());
+        assertEquals(sprite, qbert.getGraphicComponent().getPosition());
+        assertEquals(ticks, this.ticksToLand(qbert));
+    }
+
+    /**
+     * Test that a snapshot taken mid-jump with uneven frame times keeps the exact time of the animation,
+     * so that the level restored goes on as the original one.
+     */
+    @Test
+    public void testUnevenTicks() {
+        final Player qbert = this.level.getQBert();
+        while (qbert.getCurrentState().getKind() != StateKind.STAND) {
+            this.level.update(GameEngine.TICK);
+        }
+        this.jumpDown(qbert);
+        this.level.update(UNEVEN_TICKS[0]);
+        this.level.update(UNEVEN_TICKS[1]);
+        assertEquals(StateKind.MOVE, qbert.getCurrentState().getKind());
+        final float progress = qbert.getCurrentState().getProgress();
+        assertTrue(progress != Math.round(progress));
+        final LevelSnapshot saved = new LevelSnapshot();
+        this.level.snapshot(saved);
+
+        final byte[] original = this.playUneven(TICKS);
+        this.level.restore(saved);
+        assertEquals(progress, qbert.getCurrentState().getProgress(), 0);
+        assertTrue(Arrays.equals(original, this.playUneven(TICKS)));
+    }
+
+    /**
+     * Test that Qbert jumps where he's told, that the progress of the round grows as he colors the {@link Tile}s
+     * and that it's kept when he falls off the pyramid.
+     */
+    @Test
+    public void testProgress() {
+        final Player qbert = this.level.getQBert();
+        this.waitToStand(qbert);
+        final double start = this.level.getProgress();
+        double progress = start;
+        for (int i = 0; i < JUMPS.length - 1; i++) {
+            final Position2D from = qbert.getCurrentPosition();
+            this.level.jump(JUMPS[i]);
+            this.waitToStand(qbert);
+            assertEquals(from.add(JUMPS[i].getDx() * qbert.getStep(), JUMPS[i].getDy() * qbert.getStep()), qbert.getCurrentPosition());
+            assertTrue(this.level.getProgress() >= progress);
+            progress = this.level.getProgress();
+        }
+        assertTrue(progress > start);
+        assertTrue(progress < 1);
+
+        this.level.jump(JUMPS[JUMPS.length - 1]);
+        this.waitToStand(qbert);
+        this.waitToStand(qbert);
+        assertEquals(LIVES - 1, this.level.getLives());
+        assertEquals(qbert.getSpawningPosition(), qbert.getCurrentPosition());
+        assertTrue(this.level.getProgress() >= progress);
+    }
+
+    private void waitToStand(final Player qbert) {
+        int ticks = 0;
+        this.level.update(GameEngine.TICK);
+        while ((qbert.getCurrentState().getKind() != StateKind.STAND || !this.level.canSnapshot()) && ticks < TICKS) {
+            this.level.update(GameEngine.TICK);
+            ticks++;
+        }
+    }
+
+    /**
+     * Test that Coily saved while standing as a snake comes back in the standing state of the snake,
+     * and that the level restored goes on as the original one.
+     */
+    @Test
+    public void testAdultCoily() {
+        int ticks = 0;
+        while (!this.isAdultCoilyStanding() && ticks < MAX_COILY_TICKS) {
+            this.level.update(GameEngine.TICK);
+            ticks++;
+        }
+        assertTrue(this.isAdultCoilyStanding());
+        final LevelSnapshot saved = new LevelSnapshot();
+        this.level.snapshot(saved);
+
+        final byte[] original = this.playStill(TICKS);
+        this.level.restore(saved);
+        final Snake coily = this.getCoily();
+        assertTrue(coily.isAdult());
+        assertSame(coily.getStandingState(), coily.getCurrentState());
+        assertTrue(Arrays.equals(original, this.playStill(TICKS)));
+    }
+
+    private Snake getCoily() {
+        return (Snake) this.level.getRenderables().stream().filter(r -> r instanceof Snake).findFirst().get();
+    }
+
+    private boolean isAdultCoilyStanding() {
+        if (!this.level.canSnapshot() || this.level.getRenderables().stream().noneMatch(r -> r instanceof Snake)) {
+            return false;
+        }
+        final Snake coily = this.getCoily();
+        return coily.isAdult() && coily.getCurrentState().getKind() == StateKind.STAND;
+    }
+
+    private byte[] playStill(final int ticks) {
+        for (int i = 0; i < ticks || !this.level.canSnapshot(); i++) {
+            this.level.update(GameEngine.TICK);
+        }
+        final LevelSnapshot snapshot = new LevelSnapshot();
+        this.level.snapshot(snapshot);
+        return snapshot.toByteArray();
+    }
+
+    private byte[] playUneven(final int ticks) {
+        final Player qbert = this.level.getQBert();
+        for (int i = 0; i < ticks || !this.level.canSnapshot(); i++) {
+            this.jumpDown(qbert);
+            this.level.update(UNEVEN_TICKS[i % UNEVEN_TICKS.length]);
+        }
+        final LevelSnapshot snapshot = new LevelSnapshot();
+        this.level.snapshot(snapshot);
+        return snapshot.toByteArray();
+    }
+
+    private int ticksToLand(final Player qbert) {
+        int ticks = 0;
+        while (qbert.getCurrentState().getKind() == StateKind.MOVE && ticks < MAX_JUMP_TICKS) {
+            this.level.update(GameEngine.TICK);
+            ticks++;
+        }
+        return ticks;
+    }
+
+    private void snapshotWhenPossible(final LevelSnapshot snapshot) {
+        while (!this.level.canSnapshot()) {
+            this.level.update(GameEngine.TICK);
+        }
+        this.level.snapshot(snapshot);
+    }
+
+    private void play(final int ticks) {
+        final Player qbert = this.level.getQBert();
+        for (int i = 0; i < ticks; i++) {
+            this.jumpDown(qbert);
+            this.level.update(GameEngine.TICK);
+        }
+    }
+
+    private void jumpDown(final Player qbert) {
+        if (!qbert.isMoving() && !qbert.isDead() && qbert.getCurrentState().getKind() == StateKind.STAND) {
+            final boolean left = qbert.getCurrentPosition().getX() > Dimensions.MAP_COLUMNS / 2;
+            qbert.setNextPosition(Position2D.of(qbert.getCurrentPosition().getX() + (left ? -qbert.getStep() : qbert.getStep()),
+                    qbert.getCurrentPosition().getY() - qbert.getStep()));
+            qbert.setCurrentState(left ? qbert.getStates().moveDownLeft() : qbert.getStates().moveDownRight());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.Sprites;
+import qbert.controller.ai.MonteCarloPlayer;
+import qbert.controller.input.Command;
+import qbert.model.RoundSnapshot;
+import qbert.model.scenes.Game;
+import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.Direction;
+
+/**
+ * A class with some jUnit tests for {@link MonteCarloPlayer}, searching over a round simulated without a display.
+ */
+public class TestMonteCarloPlayer {
+
+    private static final int WINDOW_WIDTH = 1440;
+    private static final int WINDOW_HEIGHT = 810;
+    private static final long SEED = 42;
+    private static final int MOVES = 5;
+
+    private final Game game;
+
+    /**
+     * Start a match, with Qbert standing on the top of the pyramid.
+     */
+    public TestMonteCarloPlayer() {
+        System.setProperty("java.awt.headless", "true");
+        Dimensions.setWindowWidth(WINDOW_WIDTH);
+        Dimensions.setWindowHeight(WINDOW_HEIGHT);
+        Sprites.usePlaceholders();
+        this.game = new Game(new HeadlessController(new HeadlessEngine(0, 0, SEED)));
+        this.game.initialize();
+        this.waitForInput();
+    }
+
+    /**
+     * Test that from the top of the pyramid the player jumps down, since both the jumps up fall off it,
+     * and that searching doesn't change the game.
+     */
+    @Test
+    public void testFromTheTop() {
+        final RoundSnapshot root = this.game.getRoundSnapshot().get();
+        final Direction jump = new MonteCarloPlayer(0, 1, SEED).search(root);
+        assertTrue(jump == Direction.DOWN_LEFT || jump == Direction.DOWN_RIGHT);
+        assertTrue(Arrays.equals(root.getSnapshot().toByteArray(), this.game.getRoundSnapshot().get().getSnapshot().toByteArray()));
+    }
+
+    /**
+     * Test that two players with the same seed and no time budget choose the same moves.
+     */
+    @Test
+    public void testSameSeed() {
+        final MonteCarloPlayer one = new MonteCarloPlayer(0, 1, SEED);
+        final MonteCarloPlayer other = new MonteCarloPlayer(0, 1, SEED);
+        for (int i = 0; i < MOVES; i++) {
+            final Command command = one.nextCommand(this.game).get();
+            assertEquals(command.getClass(), other.nextCommand(this.game).get().getClass());
+            command.execute(this.game);
+            this.waitForInput();
+        }
+        assertEquals(MOVES, one.getDecisions());
+    }
+
+    private void waitForInput() {
+        this.game.update(GameEngine.TICK);
+        while (!this.game.isReadyForInput() || !this.game.getRoundSnapshot().isPresent()) {
+            this.game.update(GameEngine.TICK);
+        }
+    }
+}
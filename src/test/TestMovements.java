@@ -71,7 +71,7 @@ public class TestMovements {
         points = new PointComponentImpl(0);
         final Spawner spawner = new SpawnerImpl(mapInfo, SPEED, controller, LIVES);
         qbert = spawner.spawnQbert();
-        map = new MapComponentImpl(settings);
+        map = new MapComponentImpl(settings, controller.getRandom());
         final LevelStatus status = new LevelStatusImpl(settings, qbert, spawner, points, map, new GameSC(controller));
         timer = new TimerComponentImpl(qbert, spawner, points, map, status);
     }
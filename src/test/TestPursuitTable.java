@@ -0,0 +1,61 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import qbert.model.utilities.CellKind;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.GameRandom;
+import qbert.model.utilities.Position2D;
+import qbert.model.utilities.PursuitTable;
+
+/**
+ * A class with some jUnit tests for {@link PursuitTable}.
+ */
+public class TestPursuitTable {
+
+    //A pyramid of three rows with a disk on the left of the top
+    private static final List<Position2D> TILES = Arrays.asList(Position2D.of(5, 5),
+            Position2D.of(3, 3), Position2D.of(7, 3),
+            Position2D.of(1, 1), Position2D.of(5, 1), Position2D.of(9, 1));
+    private static final Position2D DISK = Position2D.of(1, 5);
+
+    private final PursuitTable table = new PursuitTable(p -> TILES.contains(p) ? CellKind.TILE
+            : DISK.equals(p) ? CellKind.DISK : CellKind.VOID);
+    private final GameRandom random = new GameRandom(1);
+
+    /**
+     * Test the distances and the jumps along the shortest paths.
+     */
+    @Test
+    public void testShortestPaths() {
+        assertEquals(TILES.size() + 1, this.table.getNodes());
+        assertEquals(0, this.table.getDistance(Position2D.of(5, 5), Position2D.of(5, 5)));
+        assertEquals(2, this.table.getDistance(Position2D.of(1, 1), Position2D.of(5, 5)));
+        assertEquals(Direction.UP_RIGHT, this.table.getNextHop(Position2D.of(1, 1), Position2D.of(5, 5), this.random).get());
+        assertEquals(Direction.DOWN_LEFT, this.table.getNextHop(Position2D.of(5, 5), Position2D.of(1, 1), this.random).get());
+
+        //Both ways around are as short
+        assertEquals(Direction.UP_LEFT.getMask() | Direction.UP_RIGHT.getMask(),
+                this.table.getNextHops(Position2D.of(5, 1), Position2D.of(5, 5)));
+        assertFalse(this.table.getNextHop(Position2D.of(5, 5), Position2D.of(5, 5), this.random).isPresent());
+    }
+
+    /**
+     * Test that the disks can be reached but can't be left, and that cells off the table are ignored.
+     */
+    @Test
+    public void testDisksAndVoid() {
+        assertEquals(2, this.table.getDistance(Position2D.of(5, 5), DISK));
+        assertEquals(Direction.UP_LEFT, this.table.getNextHop(Position2D.of(3, 3), DISK, this.random).get());
+        assertEquals(PursuitTable.UNREACHABLE, this.table.getDistance(DISK, Position2D.of(3, 3)));
+        assertEquals(PursuitTable.UNREACHABLE, this.table.getDistance(Position2D.of(3, 7), Position2D.of(3, 3)));
+        assertTrue(this.table.getNextHops(Position2D.of(-1, 3), Position2D.of(3, 3)) == 0);
+    }
+}
@@ -0,0 +1,214 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongPredicate;
+
+import org.junit.Test;
+
+import qbert.controller.GameEngine;
+import qbert.controller.HeadlessController;
+import qbert.controller.HeadlessEngine;
+import qbert.controller.Sprites;
+import qbert.controller.input.Command;
+import qbert.controller.input.MoveDown;
+import qbert.controller.input.MoveLeft;
+import qbert.controller.input.MoveRight;
+import qbert.controller.input.MoveUp;
+import qbert.controller.replay.ReplayPlayer;
+import qbert.controller.replay.ReplayWriter;
+import qbert.model.Disk;
+import qbert.model.GameObject;
+import qbert.model.LevelSnapshot;
+import qbert.model.Tile;
+import qbert.model.characters.Player;
+import qbert.model.characters.Snake;
+import qbert.model.components.graphics.Renderable;
+import qbert.model.scenes.Game;
+import qbert.model.utilities.Dimensions;
+import qbert.model.utilities.Direction;
+import qbert.model.utilities.Position2D;
+
+/**
+ * A class with some jUnit tests for {@link ReplayWriter} and {@link ReplayPlayer}, on a match simulated without a display.
+ */
+public class TestReplay {
+
+    private static final int WINDOW_WIDTH = 1440;
+    private static final int WINDOW_HEIGHT = 810;
+    private static final long SEED = 7;
+    private static final int TICKS = 3000;
+    private static final int KEYFRAME_INTERVAL = 250;
+    private static final int COMMAND_INTERVAL = 9;
+    private static final int CHECK_INTERVAL = 97;
+    private static final long[] SEEKS = {2500, 40, 1300, 1301, 260, 2999, 0, 1700};
+    private static final int LONG_TICKS = 4000;
+    private static final int LONG_KEYFRAME_INTERVAL = 250;
+    private static final int LONG_COMMAND_INTERVAL = 61;
+
+    private final Map<Long, byte[]> states = new HashMap<>();
+    private final byte[] replay;
+
+    /**
+     * Record a match with random moves, saving its state every few ticks.
+     * @throws IOException if the replay can't be written
+     */
+    public TestReplay() throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        Dimensions.setWindowWidth(WINDOW_WIDTH);
+        Dimensions.setWindowHeight(WINDOW_HEIGHT);
+        Sprites.usePlaceholders();
+
+        this.replay = record(TICKS, KEYFRAME_INTERVAL, COMMAND_INTERVAL, false, this.states,
+                tick -> tick % CHECK_INTERVAL == 0 || isSeek(tick) || tick == TICKS);
+    }
+
+    /**
+     * Test that seeking forwards and backwards brings the match to the same state it had while recorded.
+     * @throws IOException if the replay can't be read
+     */
+    @Test
+    public void testSeek() throws IOException {
+        final ReplayPlayer player = new ReplayPlayer(this.replay);
+        assertEquals(TICKS, player.getLength());
+        assertEquals(TICKS / KEYFRAME_INTERVAL, player.getKeyframeTicks().length, 1);
+        for (final long tick : SEEKS) {
+            this.checkSeek(player, tick);
+        }
+        for (long tick = 0; tick <= TICKS; tick += CHECK_INTERVAL) {
+            this.checkSeek(player, tick);
+        }
+        this.checkSeek(player, TICKS);
+    }
+
+    /**
+     * Test that a file cut short, as after a crash, can still be played up to where it ends.
+     * @throws IOException if the replay can't be read
+     */
+    @Test
+    public void testTruncated() throws IOException {
+        final ReplayPlayer player = new ReplayPlayer(Arrays.copyOf(this.replay, this.replay.length / 2));
+        assertTrue(player.getLength() > 0 && player.getLength() < TICKS);
+        assertTrue(player.getKeyframeTicks().length > 0);
+        for (final long tick : SEEKS) {
+            if (tick <= player.getLength()) {
+                this.checkSeek(player, tick);
+            }
+        }
+    }
+
+    private void checkSeek(final ReplayPlayer player, final long tick) {
+        player.seek(tick);
+        assertEquals(tick, player.getTick());
+        if (this.states.containsKey(tick)) {
+            assertTrue("Tick " + tick, Arrays.equals(this.states.get(tick), state(player.getGame())));
+        }
+    }
+
+    /**
+     * Test that the match goes on from every keyframe exactly as it did while recorded, also in a match long
+     * enough for the keyframes to hold Coily in its snake form.
+     * @throws IOException if the replay can't be written or read
+     */
+    @Test
+    public void testEveryKeyframe() throws IOException {
+        final Map<Long, byte[]> recorded = new HashMap<>();
+        final ReplayPlayer player = new ReplayPlayer(record(LONG_TICKS, LONG_KEYFRAME_INTERVAL, LONG_COMMAND_INTERVAL,
+                true, recorded, tick -> true));
+        final long[] keyframes = player.getKeyframeTicks();
+        int adultCoily = 0;
+        for (int i = 0; i < keyframes.length; i++) {
+            player.seek(keyframes[i]);
+            if (player.getGame().getRenderables().stream().anyMatch(r -> r instanceof Snake && ((Snake) r).isAdult())) {
+                adultCoily++;
+            }
+            //From the keyframe up to the next one, without restoring others
+            final long end = i + 1 < keyframes.length ? keyframes[i + 1] : player.getLength() + 1;
+            for (long tick = keyframes[i]; tick < end; tick++) {
+                player.seek(tick);
+                assertTrue("Tick " + tick, Arrays.equals(recorded.get(tick), state(player.getGame())));
+            }
+        }
+        assertTrue(adultCoily > 0);
+    }
+
+    /**
+     * Record a match with random moves.
+     * @param ticks the length of the match
+     * @param keyframeInterval the ticks between two keyframes
+     * @param commandInterval the ticks between two random moves
+     * @param safe true if Qbert must only jump where he doesn't fall, so that he lives longer
+     * @param states where to put the states of the match at the ticks to be checked
+     * @param check which ticks to check
+     * @return the replay
+     * @throws IOException if the replay can't be written
+     */
+    private static byte[] record(final long ticks, final int keyframeInterval, final int commandInterval, final boolean safe,
+            final Map<Long, byte[]> states, final LongPredicate check) throws IOException {
+        final Game game = new Game(new HeadlessController(new HeadlessEngine(0, 0, SEED)));
+        game.initialize();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final Random moves = new Random(SEED);
+        final Command[] commands = {new MoveUp(), new MoveDown(), new MoveLeft(), new MoveRight()};
+        final Direction[] jumps = {Direction.UP_RIGHT, Direction.DOWN_LEFT, Direction.UP_LEFT, Direction.DOWN_RIGHT};
+        try (ReplayWriter writer = new ReplayWriter(output, game, keyframeInterval)) {
+            for (long tick = 0; tick < ticks; tick++) {
+                if (tick % commandInterval == 0) {
+                    final int move = moves.nextInt(commands.length);
+                    if (!safe || isSafe(game, jumps[move])) {
+                        writer.command(commands[move]);
+                        commands[move].execute(game);
+                    }
+                }
+                if (check.test(tick)) {
+                    states.put(tick, state(game));
+                }
+                writer.tick();
+                game.update(GameEngine.TICK);
+            }
+        }
+        if (check.test(ticks)) {
+            states.put(ticks, state(game));
+        }
+        return output.toByteArray();
+    }
+
+    private static boolean isSafe(final Game game, final Direction jump) {
+        if (!game.isReadyForInput()) {
+            return false;
+        }
+        final List<Renderable> renderables = game.getRenderables();
+        final Player qbert = renderables.stream().filter(r -> r instanceof Player).map(r -> (Player) r).findFirst().get();
+        final Position2D to = qbert.getCurrentPosition().add(jump.getDx() * qbert.getStep(), jump.getDy() * qbert.getStep());
+        //On a tile or on a disk still there
+        return renderables.stream().anyMatch(r -> (r instanceof Tile || r instanceof Disk) && ((GameObject) r).getCurrentPosition().equals(to));
+    }
+
+    private static boolean isSeek(final long tick) {
+        for (final long seek : SEEKS) {
+            if (seek == tick) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] state(final Game game) {
+        if (!game.canSnapshot()) {
+            return new byte[0];
+        }
+        final LevelSnapshot snapshot = new LevelSnapshot();
+        game.snapshot(snapshot);
+        snapshot.putByte(game.getLevelNumber());
+        snapshot.putByte(game.getRoundNumber());
+        return snapshot.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import qbert.view.SpriteAtlas;
+
+/**
+ * A class with some jUnit tests for {@link SpriteAtlas}, with pages that don't need a display.
+ */
+public class TestSpriteAtlas {
+
+    private static final int SPRITE_WIDTH = 500;
+    private static final int SPRITE_HEIGHT = 700;
+    //More than fit in a page
+    private static final int SPRITES = 10;
+    private static final int WIDE_SPRITE = 2100;
+
+    private final Random random = new Random(1);
+
+    /**
+     * Test that every sprite is drawn from the atlas as it is, also when more pages are needed.
+     */
+    @Test
+    public void testRegions() {
+        final List<BufferedImage> sprites = new ArrayList<>();
+        for (int i = 0; i < SPRITES; i++) {
+            sprites.add(this.sprite(SPRITE_WIDTH, SPRITE_HEIGHT));
+        }
+        sprites.add(this.sprite(WIDE_SPRITE, 3));
+        sprites.add(this.sprite(1, 1));
+        sprites.add(this.sprite(37, 12));
+        //The same image is packed once
+        sprites.add(sprites.get(0));
+
+        final SpriteAtlas atlas = SpriteAtlas.pack(sprites, (w, h) -> new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB));
+        assertTrue(atlas.getPages() > 1);
+        for (final BufferedImage sprite : sprites) {
+            assertTrue(atlas.contains(sprite));
+            final BufferedImage canvas = new BufferedImage(sprite.getWidth() + 2, sprite.getHeight() + 2, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g = canvas.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            atlas.draw(g, sprite, 1, 1, null);
+            g.dispose();
+            for (int x = 0; x < canvas.getWidth(); x++) {
+                for (int y = 0; y < canvas.getHeight(); y++) {
+                    final boolean inside = x > 0 && y > 0 && x <= sprite.getWidth() && y <= sprite.getHeight();
+                    assertEquals(inside ? sprite.getRGB(x - 1, y - 1) : 0, canvas.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the sprites outside the atlas are still drawn.
+     */
+    @Test
+    public void testMissing() {
+        final BufferedImage sprite = this.sprite(3, 2);
+        final SpriteAtlas atlas = SpriteAtlas.empty();
+        assertFalse(atlas.contains(sprite));
+        final BufferedImage canvas = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = canvas.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        atlas.draw(g, sprite, 0, 0, null);
+        g.dispose();
+        assertEquals(sprite.getRGB(2, 1), canvas.getRGB(2, 1));
+    }
+
+    private BufferedImage sprite(final int width, final int height) {
+        final BufferedImage sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                //Opaque, so the pixels are the same whatever the format of the pages
+                sprite.setRGB(x, y, 0xFF000000 | this.random.nextInt(0x1000000));
+            }
+        }
+        return sprite;
+    }
+}
@@ -0,0 +1,77 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import qbert.model.utilities.TimerWheel;
+
+/**
+ * A class with some jUnit tests for {@link TimerWheel}.
+ */
+public class TestTimerWheel {
+
+    private static final int SLOTS = 8;
+    private static final float TICK = 20f;
+    private static final int SHORT = 60;
+    private static final int LONG = 1000;
+
+    /**
+     * Test that callbacks run exactly when their time has passed, even if longer than a wheel revolution.
+     */
+    @Test
+    public void testExpiration() {
+        final TimerWheel wheel = new TimerWheel(SLOTS, TICK);
+        final List<Integer> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add(LONG), LONG);
+        wheel.schedule(() -> fired.add(SHORT), SHORT);
+        assertEquals(2, wheel.getPending());
+
+        int time = 0;
+        while (time < SHORT - TICK) {
+            wheel.advance(TICK);
+            time += TICK;
+        }
+        assertTrue(fired.isEmpty());
+        wheel.advance(TICK);
+        time += TICK;
+        assertEquals(1, fired.size());
+
+        while (time < LONG - TICK) {
+            wheel.advance(TICK);
+            time += TICK;
+        }
+        assertEquals(1, fired.size());
+        wheel.advance(TICK);
+        assertEquals(2, fired.size());
+        assertEquals(Integer.valueOf(LONG), fired.get(1));
+        assertEquals(0, wheel.getPending());
+    }
+
+    /**
+     * Test cancellation and callbacks scheduling other callbacks.
+     */
+    @Test
+    public void testCancelAndReschedule() {
+        final TimerWheel wheel = new TimerWheel(SLOTS, TICK);
+        final List<String> fired = new ArrayList<>();
+        final TimerWheel.Timeout cancelled = wheel.schedule(() -> fired.add("cancelled"), SHORT);
+        wheel.schedule(() -> wheel.schedule(() -> fired.add("second"), SHORT), SHORT);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+
+        wheel.advance(SHORT);
+        assertTrue(fired.isEmpty());
+        wheel.advance(SHORT);
+        assertEquals(1, fired.size());
+        assertEquals("second", fired.get(0));
+        assertEquals(0, wheel.getPending());
+    }
+}